@@ -107,6 +107,11 @@ public class AqlExpressionDialect extends DefaultExpressionDialect
         {
             return ExpOperator.LIKE;
         }
+        else if (AqlMapping.FILE.equals(keyword))
+        {
+            // The filenames are the collection, so the value should be one of the items.
+            return ExpOperator.CONTAINS_VALUE;
+        }
         return ExpOperator.EQ;
     }
 
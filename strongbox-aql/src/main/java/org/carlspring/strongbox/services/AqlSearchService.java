@@ -4,6 +4,7 @@ import java.io.IOException;
 
 import org.carlspring.strongbox.data.criteria.Selector;
 import org.carlspring.strongbox.domain.ArtifactEntry;
+import org.carlspring.strongbox.storage.search.SearchResult;
 import org.carlspring.strongbox.storage.search.SearchResults;
 
 public interface AqlSearchService
@@ -12,4 +13,28 @@ public interface AqlSearchService
     public SearchResults search(Selector<ArtifactEntry> selector)
         throws IOException;
 
+    /**
+     * Streams all the matching results to the `writer` as they are produced,
+     * the results are selected page by page, so only one page is kept in
+     * memory. The `skip` offset of the query is not supported, the stream is
+     * always started from the selector `cursor` (or the first result) and
+     * continued until the last one.
+     *
+     * @param snippets
+     *            `false` to not generate the dependency snippets
+     */
+    public void search(Selector<ArtifactEntry> selector,
+                       boolean snippets,
+                       SearchResultWriter writer)
+        throws IOException;
+
+    @FunctionalInterface
+    public interface SearchResultWriter
+    {
+
+        void write(SearchResult searchResult)
+            throws IOException;
+
+    }
+
 }
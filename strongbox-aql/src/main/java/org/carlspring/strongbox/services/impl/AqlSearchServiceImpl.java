@@ -2,6 +2,7 @@ package org.carlspring.strongbox.services.impl;
 
 import org.carlspring.strongbox.data.criteria.DetachQueryTemplate;
 import org.carlspring.strongbox.data.criteria.OQueryTemplate;
+import org.carlspring.strongbox.data.criteria.Paginator;
 import org.carlspring.strongbox.data.criteria.QueryTemplate;
 import org.carlspring.strongbox.data.criteria.Selector;
 import org.carlspring.strongbox.dependency.snippet.CodeSnippet;
@@ -11,24 +12,31 @@ import org.carlspring.strongbox.providers.io.RepositoryFiles;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.services.AqlSearchService;
 import org.carlspring.strongbox.services.ArtifactResolutionService;
+import org.carlspring.strongbox.services.support.ArtifactEntryCursors;
 import org.carlspring.strongbox.storage.repository.Repository;
 import org.carlspring.strongbox.storage.search.SearchResult;
 import org.carlspring.strongbox.storage.search.SearchResults;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import javax.inject.Inject;
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
-import javax.transaction.Transactional;
 import java.io.IOException;
 import java.net.URL;
 import java.util.List;
+import java.util.Optional;
 
 @Component
 @Transactional
 public class AqlSearchServiceImpl implements AqlSearchService
 {
 
+    private static final int STREAM_PAGE_SIZE = 100;
+
     @PersistenceContext
     private EntityManager entityManager;
 
@@ -38,6 +46,10 @@ public class AqlSearchServiceImpl implements AqlSearchService
     @Inject
     private SnippetGenerator snippetGenerator;
 
+    @Inject
+    private PlatformTransactionManager transactionManager;
+
+    @Override
     public SearchResults search(Selector<ArtifactEntry> selector)
         throws IOException
     {
@@ -45,30 +57,106 @@ public class AqlSearchServiceImpl implements AqlSearchService
 
         QueryTemplate<List<ArtifactEntry>, ArtifactEntry> queryTemplate = new DetachQueryTemplate<>(
                 new OQueryTemplate<>(entityManager));
-        for (ArtifactEntry artifactEntry : queryTemplate.select(selector))
+        List<ArtifactEntry> artifactEntries = queryTemplate.select(selector);
+
+        Paginator paginator = selector.getPaginator();
+        if (paginator.isKeyset() && artifactEntries.size() >= paginator.getLimit())
         {
-            SearchResult r = new SearchResult();
-            result.getResults().add(r);
+            ArtifactEntry lastArtifactEntry = artifactEntries.get(artifactEntries.size() - 1);
+            result.setCursor(ArtifactEntryCursors.cursorOf(lastArtifactEntry, paginator.getProperty()));
+        }
 
-            r.setStorageId(artifactEntry.getStorageId());
-            r.setRepositoryId(artifactEntry.getRepositoryId());
-            r.setArtifactCoordinates(artifactEntry.getArtifactCoordinates());
+        for (ArtifactEntry artifactEntry : artifactEntries)
+        {
+            result.getResults().add(toSearchResult(artifactEntry, true));
+        }
 
-            RepositoryPath repositoryPath = artifactResolutionService.resolvePath(artifactEntry.getStorageId(),
-                                                                                  artifactEntry.getRepositoryId(),
-                                                                                  artifactEntry.getArtifactPath());
+        return result;
+    }
 
-            Repository repository = repositoryPath.getRepository();
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void search(Selector<ArtifactEntry> selector,
+                       boolean snippets,
+                       SearchResultWriter writer)
+        throws IOException
+    {
+        Paginator paginator = selector.getPaginator();
+        if (paginator.getSkip() > 0)
+        {
+            throw new IllegalArgumentException("The results can't be streamed from the [skip] offset, use the cursor.");
+        }
 
-            URL artifactResource = RepositoryFiles.readResourceUrl(repositoryPath);
-            r.setUrl(artifactResource.toString());
+        paginator.setLimit(STREAM_PAGE_SIZE);
+        paginator.setProperty(Optional.ofNullable(paginator.getProperty()).orElse("uuid"));
 
-            List<CodeSnippet> snippets = snippetGenerator.generateSnippets(repository.getLayout(),
-                                                                             artifactEntry.getArtifactCoordinates());
-            r.setSnippets(snippets);
+        // Keyset pages if possible, so the deep pages don't scan all the previous ones.
+        boolean keyset = ArtifactEntryCursors.isSupported(paginator.getProperty());
+        if (keyset && paginator.getCursor() == null)
+        {
+            paginator.setCursor("");
         }
 
-        return result;
+        // Each page is selected within its own transaction, so the slow
+        // client doesn't hold the transaction while the results are written.
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        QueryTemplate<List<ArtifactEntry>, ArtifactEntry> queryTemplate = new DetachQueryTemplate<>(
+                new OQueryTemplate<>(entityManager));
+        for (;;)
+        {
+            List<ArtifactEntry> artifactEntries = transactionTemplate.execute(t -> queryTemplate.select(selector));
+            for (ArtifactEntry artifactEntry : artifactEntries)
+            {
+                writer.write(toSearchResult(artifactEntry, snippets));
+            }
+
+            if (artifactEntries.size() < STREAM_PAGE_SIZE)
+            {
+                return;
+            }
+
+            if (keyset)
+            {
+                ArtifactEntry lastArtifactEntry = artifactEntries.get(artifactEntries.size() - 1);
+                paginator.setCursor(ArtifactEntryCursors.cursorOf(lastArtifactEntry, paginator.getProperty()));
+            }
+            else
+            {
+                paginator.setSkip(paginator.getSkip() + STREAM_PAGE_SIZE);
+            }
+        }
+    }
+
+    private SearchResult toSearchResult(ArtifactEntry artifactEntry,
+                                        boolean snippets)
+        throws IOException
+    {
+        SearchResult r = new SearchResult();
+
+        r.setStorageId(artifactEntry.getStorageId());
+        r.setRepositoryId(artifactEntry.getRepositoryId());
+        r.setArtifactCoordinates(artifactEntry.getArtifactCoordinates());
+
+        RepositoryPath repositoryPath = artifactResolutionService.resolvePath(artifactEntry.getStorageId(),
+                                                                              artifactEntry.getRepositoryId(),
+                                                                              artifactEntry.getArtifactPath());
+
+        Repository repository = repositoryPath.getRepository();
+
+        URL artifactResource = RepositoryFiles.readResourceUrl(repositoryPath);
+        r.setUrl(artifactResource.toString());
+
+        if (!snippets)
+        {
+            return r;
+        }
+
+        List<CodeSnippet> codeSnippets = snippetGenerator.generateSnippets(repository.getLayout(),
+                                                                         artifactEntry.getArtifactCoordinates());
+        r.setSnippets(codeSnippets);
+
+        return r;
     }
 
 }
@@ -2,12 +2,14 @@ package org.carlspring.strongbox.aql;
 
 import org.carlspring.strongbox.aql.grammar.AqlQueryParser;
 import org.carlspring.strongbox.data.criteria.OQueryTemplate;
+import org.carlspring.strongbox.data.criteria.Paginator;
 import org.carlspring.strongbox.data.criteria.Predicate;
 import org.carlspring.strongbox.data.criteria.QueryParserException;
 import org.carlspring.strongbox.data.criteria.Selector;
 import org.carlspring.strongbox.domain.ArtifactEntry;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -127,6 +129,107 @@ public class AqlParserTest
                      parameterMap);
     }
 
+    @Test
+    public void testKeysetQuery()
+    {
+        String query = "storage:storage0 +repository:releases +groupId:'org.carlspring' asc: version";
+
+        AqlQueryParser aqlParser = new AqlQueryParser(query);
+        Selector<ArtifactEntry> selector = aqlParser.parseQuery();
+
+        Paginator paginator = selector.getPaginator();
+        String property = paginator.getProperty();
+        paginator.setSkip(12);
+        paginator.setCursor(Paginator.cursorOf("1.2.3", "a7b1c2d3"));
+
+        assertTrue(paginator.isKeyset());
+        assertEquals("1.2.3", paginator.getCursorValue());
+        assertEquals("a7b1c2d3", paginator.getCursorUuid());
+
+        OQueryTemplate<Object, ArtifactEntry> queryTemplate = new OQueryTemplate<>(null);
+
+        String sqlQuery = queryTemplate.calculateQueryString(selector);
+
+        logger.info(String.format("Query [%s] parse result:\n[%s]", query, sqlQuery));
+
+        assertFalse(sqlQuery.contains("SKIP"), sqlQuery);
+        assertTrue(sqlQuery.endsWith(String.format(" AND (%s > :cursor OR (%s = :cursor AND uuid > :cursorUuid)) " +
+                                                   "ORDER BY %s ASC, uuid ASC " +
+                                                   "LIMIT 25",
+                                                   property, property, property)),
+                   sqlQuery);
+
+        Map<String, Object> parameterMap = queryTemplate.exposeParameterMap(selector);
+
+        assertEquals("1.2.3", parameterMap.get("cursor"));
+        assertEquals("a7b1c2d3", parameterMap.get("cursorUuid"));
+
+        // The empty cursor is the first keyset page.
+        paginator.setCursor("");
+        sqlQuery = queryTemplate.calculateQueryString(selector);
+
+        assertTrue(sqlQuery.endsWith(String.format(" ORDER BY %s ASC, uuid ASC LIMIT 25", property)), sqlQuery);
+        assertFalse(sqlQuery.contains(":cursor"), sqlQuery);
+    }
+
+    @Test
+    public void testArchiveFilenameQuery()
+    {
+        String query = "storage:storage0 +file:com/foo/Bar$Baz.class";
+
+        AqlQueryParser aqlParser = new AqlQueryParser(query);
+        Selector<ArtifactEntry> selector = aqlParser.parseQuery();
+
+        assertFalse(aqlParser.hasErrors());
+
+        OQueryTemplate<Object, ArtifactEntry> queryTemplate = new OQueryTemplate<>(null);
+
+        String sqlQuery = queryTemplate.calculateQueryString(selector);
+
+        logger.info(String.format("Query [%s] parse result:\n[%s]", query, sqlQuery));
+
+        assertTrue(sqlQuery.contains("artifactArchiveListing.filenames CONTAINS :filenames_"), sqlQuery);
+        assertTrue(queryTemplate.exposeParameterMap(selector.getPredicate()).containsValue("com/foo/Bar$Baz.class"));
+
+        selector = new AqlQueryParser("file:*/Bar.class").parseQuery();
+        sqlQuery = queryTemplate.calculateQueryString(selector);
+
+        assertTrue(sqlQuery.contains("artifactArchiveListing.filenames LIKE :filenames_"), sqlQuery);
+        assertTrue(queryTemplate.exposeParameterMap(selector.getPredicate()).containsValue("%/Bar.class"));
+    }
+
+    @Test
+    public void testQueryShape()
+    {
+        Selector<ArtifactEntry> selector1 = new AqlQueryParser("storage:storage0 +repository:releases +groupId:'org.carlspring'").parseQuery();
+        Selector<ArtifactEntry> selector2 = new AqlQueryParser("storage:storage1 +repository:snapshots +groupId:'org.apache'").parseQuery();
+        Selector<ArtifactEntry> selector3 = new AqlQueryParser("storage:storage0 +repository:releases +artifactId:'org.carlspring'").parseQuery();
+
+        OQueryTemplate<Object, ArtifactEntry> queryTemplate = new OQueryTemplate<>(null);
+
+        Map<String, Object> parameterMap1 = new HashMap<>();
+        Map<String, Object> parameterMap2 = new HashMap<>();
+        String shape1 = queryTemplate.calculateQueryShape(selector1, parameterMap1);
+        String shape2 = queryTemplate.calculateQueryShape(selector2, parameterMap2);
+
+        assertEquals(shape1, shape2);
+        assertEquals(queryTemplate.calculateQueryString(selector1), queryTemplate.calculateQueryString(selector2));
+        assertEquals(queryTemplate.exposeParameterMap(selector1.getPredicate()), parameterMap1);
+        assertEquals(queryTemplate.exposeParameterMap(selector2.getPredicate()), parameterMap2);
+        assertNotEquals(parameterMap1, parameterMap2);
+
+        assertNotEquals(shape1, queryTemplate.calculateQueryShape(selector3, new HashMap<>()));
+
+        // The pages of the same query have the same shape.
+        selector2 = new AqlQueryParser("storage:storage1 +repository:snapshots +groupId:'org.apache'").parseQuery();
+        selector2.getPaginator().setSkip(100);
+        selector2.getPaginator().setLimit(50);
+
+        assertEquals(shape1, queryTemplate.calculateQueryShape(selector2, new HashMap<>()));
+        assertTrue(queryTemplate.calculateQueryString(selector2).endsWith(" SKIP 100 LIMIT 50"),
+                   queryTemplate.calculateQueryString(selector2));
+    }
+
     @Test
     public void testInvalidQuery()
     {
@@ -11,6 +11,7 @@ import com.hazelcast.config.MaxSizeConfig;
 import com.hazelcast.config.NearCacheConfig;
 import com.hazelcast.core.Hazelcast;
 import com.hazelcast.core.HazelcastInstance;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -24,13 +25,29 @@ public class HazelcastConfiguration
     public static final int ARTIFACT_ENTRY_CACHE_INVALIDATE_INTERVAL = 60;
     public static final int AUTHENTICATION_CACHE_INVALIDATE_INTERVAL = 10;
 
+    @Value("${strongbox.authentication.cache.ttlSeconds:300}")
+    private int authenticationCacheTtlSeconds;
+
     public static MapConfig authenticationCacheConfig(String name)
     {
-        return new MapConfig().setName(name).setNearCacheConfig(new NearCacheConfig().setCacheLocalEntries(true)
-                                                                                     .setEvictionConfig(new EvictionConfig().setMaximumSizePolicy(MaxSizePolicy.ENTRY_COUNT)
-                                                                                                                            .setSize(1000))
-                                                                                     .setInvalidateOnChange(true)
-                                                                                     .setTimeToLiveSeconds(AUTHENTICATION_CACHE_INVALIDATE_INTERVAL));
+        return authenticationCacheConfig(name, AUTHENTICATION_CACHE_INVALIDATE_INTERVAL);
+    }
+
+    /**
+     * The verified credentials are evicted on the user changes, so the
+     * entries expire from both the map and the near cache after the
+     * `ttlSeconds` only to limit their lifetime.
+     */
+    public static MapConfig authenticationCacheConfig(String name,
+                                                      int ttlSeconds)
+    {
+        return new MapConfig().setName(name)
+                              .setTimeToLiveSeconds(ttlSeconds)
+                              .setNearCacheConfig(new NearCacheConfig().setCacheLocalEntries(true)
+                                                                       .setEvictionConfig(new EvictionConfig().setMaximumSizePolicy(MaxSizePolicy.ENTRY_COUNT)
+                                                                                                              .setSize(1000))
+                                                                       .setInvalidateOnChange(true)
+                                                                       .setTimeToLiveSeconds(ttlSeconds));
     }
 
     public static MapConfig artifactEntryCacheConfig(String name)
@@ -67,7 +84,8 @@ public class HazelcastConfiguration
         final Config config = new Config().setInstanceName(hazelcastInstanceId.getInstanceName())
                                           .addMapConfig(newDefaultMapConfig(CacheName.Repository.REMOTE_REPOSITORY_ALIVENESS))
                                           .addMapConfig(newDefaultMapConfig(CacheName.Artifact.TAGS))
-                                          .addMapConfig(authenticationCacheConfig(CacheName.User.AUTHENTICATIONS));
+                                          .addMapConfig(authenticationCacheConfig(CacheName.User.AUTHENTICATIONS,
+                                                                                    authenticationCacheTtlSeconds));
         config.getGroupConfig().setName("strongbox").setPassword("password");
         config.getNetworkConfig().getJoin().getMulticastConfig().setEnabled(false);
 
@@ -8,6 +8,8 @@ public final class CacheName
     public static final class User
     {
         public static final String AUTHENTICATIONS = "authentications";
+
+        public static final String AUTHENTICATION_SECRETS = "authenticationSecrets";
     }
     
     public static final class Artifact
@@ -22,6 +24,10 @@ public final class CacheName
 
         public static final String REMOTE_REPOSITORY_ALIVENESS = "remoteRepositoryAliveness";
 
+        public static final String MAVEN_METADATA_DIRTY_SETS = "mavenMetadataDirtySets";
+
+        public static final String MAVEN_METADATA_TRUSTED_REPOSITORIES = "mavenMetadataTrustedRepositories";
+
     }
 
 
@@ -64,7 +64,13 @@ public class Expression
 
     public enum ExpOperator
     {
-        EQ, GE, LE, CONTAINS, LIKE, IS_NULL, IS_NOT_NULL;
+        /**
+         * `CONTAINS` matches the collection items by the condition over their
+         * property (like `tagSet.name`), while `CONTAINS_VALUE` matches the
+         * items of the simple values collection (like
+         * `artifactArchiveListing.filenames`) by the value.
+         */
+        EQ, GE, LE, CONTAINS, CONTAINS_VALUE, LIKE, IS_NULL, IS_NOT_NULL;
 
         public Expression of(String property,
                              Object value)
@@ -7,6 +7,7 @@ import java.util.Map;
 import javax.persistence.EntityManager;
 
 import org.carlspring.strongbox.data.criteria.Expression.ExpOperator;
+import org.carlspring.strongbox.data.criteria.QueryShapeCache.QueryShape;
 import org.carlspring.strongbox.data.domain.GenericEntity;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,6 +26,14 @@ public class OQueryTemplate<R, T extends GenericEntity> implements QueryTemplate
 {
     private static final Logger logger = LoggerFactory.getLogger(OQueryTemplate.class);
 
+    private static final String UUID_PROPERTY = "uuid";
+
+    private static final String CURSOR_PARAMETER = "cursor";
+
+    private static final String CURSOR_UUID_PARAMETER = "cursorUuid";
+
+    private static final QueryShapeCache queryShapeCache = new QueryShapeCache(QueryShapeCache.DEFAULT_MAX_SIZE);
+
     protected EntityManager entityManager;
 
     public OQueryTemplate()
@@ -45,15 +54,24 @@ public class OQueryTemplate<R, T extends GenericEntity> implements QueryTemplate
 
     public R select(Selector<T> s)
     {
-        String sQuery = calculateQueryString(s);
+        Map<String, Object> parameterMap = new HashMap<>();
+        String shapeKey = calculateQueryShape(s, parameterMap);
+
+        QueryShape queryShape = queryShapeCache.get(shapeKey, () -> calculateQueryBody(s));
+        String sQuery = queryShape.getQuery() + calculatePageToken(s);
 
         OSQLSynchQuery<T> oQuery = new OSQLSynchQuery<>(sQuery);
-        Map<String, Object> parameterMap = exposeParameterMap(s.getPredicate());
 
-        logger.debug(String.format("Executing SQL query:%n\t[%s]%nWith parameters:%n\t[%s]", sQuery, parameterMap));
+        if (logger.isDebugEnabled())
+        {
+            logger.debug(String.format("Executing SQL query:%n\t[%s]%nWith parameters:%n\t[%s]", sQuery, parameterMap));
+        }
 
+        long startTime = System.nanoTime();
         Object result = getEmDelegate().command(oQuery)
                                        .execute(parameterMap);
+        queryShape.recordExecution(System.nanoTime() - startTime);
+
         if (result instanceof Collection && !((Collection) result).isEmpty()
                 && ((Collection) result).iterator().next() instanceof ODocument)
         {
@@ -67,11 +85,101 @@ public class OQueryTemplate<R, T extends GenericEntity> implements QueryTemplate
         }
     }
 
+    public static QueryShapeCache getQueryShapeCache()
+    {
+        return queryShapeCache;
+    }
+
+    /**
+     * Calculates the query shape key, which is the {@link Selector} structure
+     * without the parameter values, and exposes the parameter values within
+     * the same {@link Predicate} tree walk. The `skip` and `limit` values are
+     * not the part of the shape, they are rendered separately for each query
+     * with {@link #calculatePageToken(Selector)}.
+     *
+     * @return the key of the query shape, the selectors with the same key have
+     *         the same query string
+     */
+    public String calculateQueryShape(Selector<T> selector,
+                                      Map<String, Object> parameterMap)
+    {
+        StringBuilder sb = new StringBuilder();
+        sb.append(selector.getTargetClass().getName())
+          .append('|')
+          .append(selector.getProjection())
+          .append('|')
+          .append(selector.isFetch());
+
+        Paginator paginator = selector.getPaginator();
+        if (paginator != null)
+        {
+            sb.append('|')
+              .append(paginator.getProperty())
+              .append(' ')
+              .append(paginator.getOrder());
+        }
+        if (paginator != null && paginator.isKeyset())
+        {
+            sb.append(" keyset");
+        }
+        if (paginator != null && paginator.isKeyset() && !paginator.getCursor().isEmpty())
+        {
+            String cursorUuid = paginator.getCursorUuid();
+            sb.append(cursorUuid == null ? " cursor" : " cursorUuid");
+
+            parameterMap.put(CURSOR_PARAMETER, paginator.getCursorValue());
+            parameterMap.put(CURSOR_UUID_PARAMETER, cursorUuid);
+        }
+
+        sb.append('|');
+        Predicate p = selector.getPredicate();
+        if (p != null)
+        {
+            exposeQueryShape(p, 0, sb, parameterMap);
+        }
+
+        return sb.toString();
+    }
+
+    private void exposeQueryShape(Predicate p,
+                                  int tokenCount,
+                                  StringBuilder shape,
+                                  Map<String, Object> parameterMap)
+    {
+        shape.append(p.isNegated() ? "!" : "").append(p.isNested() ? "(" : "[").append(p.getOperator());
+
+        Expression e = p.getExpression();
+        if (e != null)
+        {
+            shape.append(' ').append(e.getProperty()).append(' ').append(e.getOperator());
+        }
+        if (e != null && !ExpOperator.IS_NULL.equals(e.getOperator()) && !ExpOperator.IS_NOT_NULL.equals(e.getOperator()))
+        {
+            parameterMap.put(calculateParameterName(e.getProperty(), tokenCount), e.getValue());
+        }
+
+        for (Predicate predicate : p.getChildPredicateList())
+        {
+            shape.append(',');
+            exposeQueryShape(predicate, tokenCount++, shape, parameterMap);
+        }
+
+        shape.append(p.isNested() ? ")" : "]");
+    }
+
     public OObjectDatabaseTx getEmDelegate()
     {
         return (OObjectDatabaseTx) entityManager.getDelegate();
     }
 
+    public Map<String, Object> exposeParameterMap(Selector<T> selector)
+    {
+        Map<String, Object> result = new HashMap<>();
+        calculateQueryShape(selector, result);
+
+        return result;
+    }
+
     public Map<String, Object> exposeParameterMap(Predicate p)
     {
         return exposeParameterMap(p, 0);
@@ -96,27 +204,70 @@ public class OQueryTemplate<R, T extends GenericEntity> implements QueryTemplate
     }
 
     public String calculateQueryString(Selector<T> selector)
+    {
+        return calculateQueryBody(selector) + calculatePageToken(selector);
+    }
+
+    /**
+     * @return the query string without the `SKIP`, `LIMIT` and `FETCHPLAN`
+     *         clauses, which is the same for all the selectors of the shape
+     */
+    protected String calculateQueryBody(Selector<T> selector)
     {
         StringBuilder sb = new StringBuilder();
         sb.append("SELECT ").append(selector.getProjection());
         sb.append(" FROM ").append(selector.getTargetClass().getSimpleName());
 
         Predicate p = selector.getPredicate();
-        if (p.isEmpty())
+        Paginator paginator = selector.getPaginator();
+        boolean keyset = paginator != null && paginator.isKeyset();
+        boolean cursor = keyset && !paginator.getCursor().isEmpty();
+        if (p.isEmpty() && !keyset)
         {
             return sb.toString();
         }
 
-        sb.append(" WHERE ");
-        sb.append(predicateToken(p, 0));
+        if (cursor)
+        {
+            sb.append(" WHERE ");
+            sb.append(p.isEmpty() ? "" : String.format("(%s) AND ", predicateToken(p, 0)));
+            sb.append(cursorToken(paginator));
+        }
+        else if (!p.isEmpty())
+        {
+            sb.append(" WHERE ");
+            sb.append(predicateToken(p, 0));
+        }
 
-        Paginator paginator = selector.getPaginator();
         if (paginator != null && paginator.getProperty() != null && !paginator.getProperty().trim().isEmpty())
         {
             sb.append(String.format(" ORDER BY %s %s", paginator.getProperty(), paginator.getOrder()));
         }
+        if (keyset && !UUID_PROPERTY.equals(paginator.getProperty()))
+        {
+            // The records with same sort key are ordered by `uuid`, so the
+            // keyset pages don't lose or repeat them.
+            sb.append(String.format(", %s %s", UUID_PROPERTY, paginator.getOrder()));
+        }
+
+        return sb.toString();
+    }
 
-        if (paginator != null && paginator.getSkip() > 0)
+    /**
+     * @return the `SKIP`, `LIMIT` and `FETCHPLAN` clauses of the query
+     */
+    protected String calculatePageToken(Selector<T> selector)
+    {
+        StringBuilder sb = new StringBuilder();
+
+        Paginator paginator = selector.getPaginator();
+        boolean keyset = paginator != null && paginator.isKeyset();
+        if (selector.getPredicate().isEmpty() && !keyset)
+        {
+            return sb.toString();
+        }
+
+        if (paginator != null && paginator.getSkip() > 0 && !keyset)
         {
             sb.append(String.format(" SKIP %s", paginator.getSkip()));
         }
@@ -133,6 +284,22 @@ public class OQueryTemplate<R, T extends GenericEntity> implements QueryTemplate
         return sb.toString();
     }
 
+    /**
+     * Keyset condition to select the records after the `cursor` record.
+     */
+    protected String cursorToken(Paginator paginator)
+    {
+        String property = paginator.getProperty();
+        String operator = Paginator.Order.DESC.equals(paginator.getOrder()) ? "<" : ">";
+        if (UUID_PROPERTY.equals(property) || paginator.getCursorUuid() == null)
+        {
+            return String.format("%s %s :%s", property, operator, CURSOR_PARAMETER);
+        }
+
+        return String.format("(%s %s :%s OR (%s = :%s AND %s %s :%s))", property, operator, CURSOR_PARAMETER,
+                             property, CURSOR_PARAMETER, UUID_PROPERTY, operator, CURSOR_UUID_PARAMETER);
+    }
+
     protected String predicateToken(Predicate p,
                                     int tokenCount)
     {
@@ -241,6 +408,7 @@ public class OQueryTemplate<R, T extends GenericEntity> implements QueryTemplate
         case LIKE:
             return " LIKE ";
         case CONTAINS:
+        case CONTAINS_VALUE:
             return " CONTAINS ";
         case IS_NULL:
             return " IS NULL ";
@@ -1,16 +1,30 @@
 package org.carlspring.strongbox.data.criteria;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
 public class Paginator
 {
 
     public static final Integer MAX_LIMIT = 1000;
 
+    private static final String CURSOR_SEPARATOR = "\n";
+
     private Integer skip;
     private Integer limit;
 
     private String property;
     private Order order = Order.ASC;
 
+    /**
+     * Keyset (seek) paging cursor, which holds the `property` value and the
+     * `uuid` of the last record of the previous page. The next page starts
+     * right after this record instead of skipping the `skip` records, so the
+     * deep pages don't need to scan all the previous ones. The empty cursor
+     * means the first keyset page.
+     */
+    private String cursor;
+
     public Integer getSkip()
     {
         return skip == null ? Integer.valueOf(0) : skip;
@@ -51,6 +65,69 @@ public class Paginator
         this.order = order;
     }
 
+    public String getCursor()
+    {
+        return cursor;
+    }
+
+    public void setCursor(String cursor)
+    {
+        this.cursor = cursor == null ? null : cursor.trim();
+    }
+
+    /**
+     * @return `true` if the page should be selected with the `cursor` instead
+     *         of `skip`, the `property` is required to be the sort key
+     */
+    public boolean isKeyset()
+    {
+        return cursor != null && property != null && !property.trim().isEmpty();
+    }
+
+    public String getCursorValue()
+    {
+        String[] values = decodeCursor();
+
+        return values.length > 1 ? values[1] : null;
+    }
+
+    public String getCursorUuid()
+    {
+        String[] values = decodeCursor();
+
+        return values[0].isEmpty() ? null : values[0];
+    }
+
+    private String[] decodeCursor()
+    {
+        if (cursor == null || cursor.isEmpty())
+        {
+            return new String[] { "" };
+        }
+
+        try
+        {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(CURSOR_SEPARATOR, 2);
+        }
+        catch (IllegalArgumentException e)
+        {
+            throw new IllegalArgumentException(String.format("Invalid cursor [%s].", cursor), e);
+        }
+    }
+
+    /**
+     * Calculates the opaque cursor of the record, which can be used to get the
+     * next page.
+     */
+    public static String cursorOf(Object value,
+                                  String uuid)
+    {
+        String result = String.format("%s%s%s", uuid == null ? "" : uuid, CURSOR_SEPARATOR,
+                                      value == null ? "" : value);
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(result.getBytes(StandardCharsets.UTF_8));
+    }
+
     public static enum Order
     {
         ASC, DESC;
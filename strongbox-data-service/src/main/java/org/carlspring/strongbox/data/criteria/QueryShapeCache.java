@@ -0,0 +1,165 @@
+package org.carlspring.strongbox.data.criteria;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Cache of the SQL queries per query shape, which is the {@link Selector}
+ * structure without the parameter values. The repeated queries with same
+ * shape only bind the parameters, and the same SQL text lets OrientDB reuse
+ * the parsed statement from its own statement cache. <br>
+ * The `SKIP`, `LIMIT` and `FETCHPLAN` clauses are not cached, they are
+ * appended to the cached query for each execution. <br>
+ * Also collects the execution statistics per shape.
+ */
+public class QueryShapeCache
+{
+
+    public static final long DEFAULT_MAX_SIZE = 1000;
+
+    private final Cache<String, QueryShape> cache;
+
+    private final LongAdder hitCount = new LongAdder();
+
+    private final LongAdder missCount = new LongAdder();
+
+    public QueryShapeCache(long maxSize)
+    {
+        cache = CacheBuilder.newBuilder().maximumSize(maxSize).build();
+    }
+
+    /**
+     * @return the cached shape or the new one with the query calculated by
+     *         `queryString`
+     */
+    public QueryShape get(String shapeKey,
+                          Supplier<String> queryString)
+    {
+        QueryShape result = cache.getIfPresent(shapeKey);
+        if (result != null)
+        {
+            hitCount.increment();
+
+            return result;
+        }
+
+        missCount.increment();
+
+        result = new QueryShape(queryString.get());
+        QueryShape existing = cache.asMap().putIfAbsent(shapeKey, result);
+
+        return existing == null ? result : existing;
+    }
+
+    public long getHitCount()
+    {
+        return hitCount.sum();
+    }
+
+    public long getMissCount()
+    {
+        return missCount.sum();
+    }
+
+    public void invalidateAll()
+    {
+        cache.invalidateAll();
+    }
+
+    /**
+     * @return the statistics per query, the shapes which differ only with the
+     *         fetch plan are summed up
+     */
+    public Map<String, QueryShapeStatistics> getStatistics()
+    {
+        Map<String, QueryShapeStatistics> result = new TreeMap<>();
+        cache.asMap().values().forEach(s -> result.merge(s.getQuery(), s.getStatistics(), QueryShapeStatistics::add));
+
+        return result;
+    }
+
+    public static class QueryShape
+    {
+
+        private final String query;
+
+        private final LongAdder executionCount = new LongAdder();
+
+        private final LongAdder executionNanos = new LongAdder();
+
+        private final AtomicLong maxExecutionNanos = new AtomicLong();
+
+        private QueryShape(String query)
+        {
+            this.query = query;
+        }
+
+        public String getQuery()
+        {
+            return query;
+        }
+
+        public void recordExecution(long nanos)
+        {
+            executionCount.increment();
+            executionNanos.add(nanos);
+            maxExecutionNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        public QueryShapeStatistics getStatistics()
+        {
+            return new QueryShapeStatistics(executionCount.sum(), executionNanos.sum(), maxExecutionNanos.get());
+        }
+
+    }
+
+    public static class QueryShapeStatistics
+    {
+
+        private final long executionCount;
+
+        private final long executionNanos;
+
+        private final long maxExecutionNanos;
+
+        public QueryShapeStatistics(long executionCount,
+                                    long executionNanos,
+                                    long maxExecutionNanos)
+        {
+            this.executionCount = executionCount;
+            this.executionNanos = executionNanos;
+            this.maxExecutionNanos = maxExecutionNanos;
+        }
+
+        public QueryShapeStatistics add(QueryShapeStatistics that)
+        {
+            return new QueryShapeStatistics(executionCount + that.executionCount,
+                                            executionNanos + that.executionNanos,
+                                            Math.max(maxExecutionNanos, that.maxExecutionNanos));
+        }
+
+        public long getExecutionCount()
+        {
+            return executionCount;
+        }
+
+        public double getAverageExecutionMillis()
+        {
+            return executionCount == 0 ? 0d : (double) executionNanos / executionCount / TimeUnit.MILLISECONDS.toNanos(1);
+        }
+
+        public double getMaxExecutionMillis()
+        {
+            return (double) maxExecutionNanos / TimeUnit.MILLISECONDS.toNanos(1);
+        }
+
+    }
+
+}
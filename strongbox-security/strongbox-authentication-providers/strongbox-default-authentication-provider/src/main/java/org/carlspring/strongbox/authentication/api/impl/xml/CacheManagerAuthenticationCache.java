@@ -1,15 +1,58 @@
 package org.carlspring.strongbox.authentication.api.impl.xml;
 
 import org.carlspring.strongbox.data.CacheName;
+
+import javax.annotation.PostConstruct;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import javax.inject.Inject;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IMap;
+import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 
+/**
+ * Caches the verified credentials as the HMAC-SHA256 of the password, so that
+ * the cache hit costs one HMAC instead of the password hashing rounds. The
+ * cached HMAC can't be used to recover the password. <br>
+ * The HMAC key is the random secret, generated once and shared by the cluster
+ * nodes through Hazelcast, so the HMAC put by one node matches on the others.
+ */
 public class CacheManagerAuthenticationCache implements AuthenticationCache
 {
 
-    @SuppressWarnings("deprecation")
-    private org.springframework.security.crypto.password.StandardPasswordEncoder standardPasswordEncoder = new
-            org.springframework.security.crypto.password.StandardPasswordEncoder();
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private static final String SECRET_KEY = "hmac";
+
+    private HazelcastInstance hazelcastInstance;
+
+    private SecretKeySpec secretKey;
+
+    @Inject
+    void setHazelcastInstance(HazelcastInstance hazelcastInstance)
+    {
+        this.hazelcastInstance = hazelcastInstance;
+    }
+
+    @PostConstruct
+    public void init()
+    {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+
+        IMap<String, byte[]> secrets = hazelcastInstance.getMap(CacheName.User.AUTHENTICATION_SECRETS);
+        byte[] clusterSecret = secrets.putIfAbsent(SECRET_KEY, secret);
+
+        secretKey = new SecretKeySpec(clusterSecret != null ? clusterSecret : secret, ALGORITHM);
+    }
 
     @Cacheable(cacheNames = CacheName.User.AUTHENTICATIONS, key = "#p0", unless = "true")
     public UsernamePasswordAuthenticationToken getAuthenticationToken(String userName)
@@ -17,7 +60,7 @@ public class CacheManagerAuthenticationCache implements AuthenticationCache
         return null;
     }
 
-    @Cacheable(cacheNames = CacheName.User.AUTHENTICATIONS, key = "#p0.principal")
+    @CachePut(cacheNames = CacheName.User.AUTHENTICATIONS, key = "#p0.principal")
     public UsernamePasswordAuthenticationToken putAuthenticationToken(UsernamePasswordAuthenticationToken authentication)
     {
         return createCachableAuthentication(authentication);
@@ -32,13 +75,41 @@ public class CacheManagerAuthenticationCache implements AuthenticationCache
 
     public String encode(CharSequence rawPassword)
     {
-        return standardPasswordEncoder.encode(rawPassword);
+        return Base64.getEncoder().encodeToString(hmac(rawPassword));
     }
 
+    /**
+     * Compares the HMAC in constant time.
+     */
     public boolean matches(CharSequence rawPassword,
                            String encodedPassword)
     {
-        return standardPasswordEncoder.matches(rawPassword, encodedPassword);
+        byte[] expected;
+        try
+        {
+            expected = Base64.getDecoder().decode(encodedPassword);
+        }
+        catch (IllegalArgumentException e)
+        {
+            return false;
+        }
+
+        return MessageDigest.isEqual(hmac(rawPassword), expected);
+    }
+
+    private byte[] hmac(CharSequence rawPassword)
+    {
+        try
+        {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(secretKey);
+
+            return mac.doFinal(rawPassword.toString().getBytes(StandardCharsets.UTF_8));
+        }
+        catch (GeneralSecurityException e)
+        {
+            throw new IllegalStateException(e);
+        }
     }
 
 }
@@ -1,6 +1,7 @@
 package org.carlspring.strongbox.authentication.api.impl.xml;
 
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import javax.inject.Inject;
 
@@ -66,6 +67,8 @@ public class PasswordAuthenticationProvider extends DaoAuthenticationProvider
                                                   UsernamePasswordAuthenticationToken authentication)
         throws AuthenticationException
     {
+        long startTime = System.nanoTime();
+
         UsernamePasswordAuthenticationToken cachedAuthentication = authenticationCache.getAuthenticationToken(userDetails.getUsername());
 
         if (Optional.ofNullable(cachedAuthentication)
@@ -77,8 +80,9 @@ public class PasswordAuthenticationProvider extends DaoAuthenticationProvider
                     .isPresent())
 
         {
-            logger.debug(String.format("Found cached authentication for [%s]",
-                                       userDetails.getUsername()));
+            logger.debug(String.format("Found cached authentication for [%s] in [%s] microseconds",
+                                       userDetails.getUsername(),
+                                       TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTime)));
             return;
         }
 
@@ -92,6 +96,10 @@ public class PasswordAuthenticationProvider extends DaoAuthenticationProvider
         }
 
         authenticationCache.putAuthenticationToken(authentication);
+
+        logger.debug(String.format("Verified the credentials of [%s] in [%s] microseconds",
+                                   userDetails.getUsername(),
+                                   TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTime)));
     }
 
 }
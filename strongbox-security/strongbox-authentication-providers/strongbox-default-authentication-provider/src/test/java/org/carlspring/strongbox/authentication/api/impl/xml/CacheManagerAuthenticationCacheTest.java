@@ -0,0 +1,88 @@
+package org.carlspring.strongbox.authentication.api.impl.xml;
+
+import org.carlspring.strongbox.data.CacheName;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+public class CacheManagerAuthenticationCacheTest
+{
+
+    /**
+     * The cluster wide secrets map, shared by the cache instances of the
+     * different nodes.
+     */
+    private Map<String, byte[]> secrets;
+
+    private CacheManagerAuthenticationCache authenticationCache;
+
+    @BeforeEach
+    public void setUp()
+    {
+        secrets = new ConcurrentHashMap<>();
+        authenticationCache = createAuthenticationCache();
+    }
+
+    @Test
+    public void testEncodeMatches()
+    {
+        String encodedPassword = authenticationCache.encode("password");
+
+        assertNotEquals("password", encodedPassword);
+        assertEquals(encodedPassword, authenticationCache.encode("password"));
+        assertTrue(authenticationCache.matches("password", encodedPassword));
+        assertFalse(authenticationCache.matches("Password", encodedPassword));
+        assertFalse(authenticationCache.matches("password", "not-base64!"));
+    }
+
+    @Test
+    public void testCachableAuthentication()
+    {
+        UsernamePasswordAuthenticationToken authentication = authenticationCache.createCachableAuthentication(
+                new UsernamePasswordAuthenticationToken("admin", "password"));
+
+        assertEquals("admin", authentication.getPrincipal());
+        assertTrue(authenticationCache.matches("password", authentication.getCredentials().toString()));
+    }
+
+    @Test
+    public void testSharedSecret()
+    {
+        CacheManagerAuthenticationCache otherNodeAuthenticationCache = createAuthenticationCache();
+
+        assertEquals(1, secrets.size());
+        assertTrue(otherNodeAuthenticationCache.matches("password", authenticationCache.encode("password")));
+    }
+
+    @SuppressWarnings("unchecked")
+    private CacheManagerAuthenticationCache createAuthenticationCache()
+    {
+        IMap<String, byte[]> secretsMap = Mockito.mock(IMap.class);
+        when(secretsMap.putIfAbsent(anyString(), any(byte[].class)))
+                .then(invocation -> secrets.putIfAbsent(invocation.getArgument(0), invocation.getArgument(1)));
+
+        HazelcastInstance hazelcastInstance = Mockito.mock(HazelcastInstance.class);
+        when(hazelcastInstance.<String, byte[]>getMap(CacheName.User.AUTHENTICATION_SECRETS)).thenReturn(secretsMap);
+
+        CacheManagerAuthenticationCache result = new CacheManagerAuthenticationCache();
+        result.setHazelcastInstance(hazelcastInstance);
+        result.init();
+
+        return result;
+    }
+
+}
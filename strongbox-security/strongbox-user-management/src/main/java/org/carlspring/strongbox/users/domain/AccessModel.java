@@ -2,20 +2,17 @@ package org.carlspring.strongbox.users.domain;
 
 import org.carlspring.strongbox.users.dto.UserAccessModelDto;
 import org.carlspring.strongbox.users.dto.UserAccessModelReadContract;
-import org.carlspring.strongbox.users.dto.UserPathPrivelegiesReadContract;
-import org.carlspring.strongbox.users.dto.UserRepositoryReadContract;
 import org.carlspring.strongbox.users.dto.UserStorageDto;
-import org.carlspring.strongbox.users.dto.UserStorageReadContract;
 
 import javax.annotation.concurrent.Immutable;
 import java.io.Serializable;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.Set;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableSet;
-import org.apache.commons.lang.StringUtils;
 import static java.util.stream.Collectors.toSet;
 
 /**
@@ -26,6 +23,13 @@ public class AccessModel
         implements Serializable, UserAccessModelReadContract
 {
 
+    /**
+     * The weak keys are compared by identity.
+     */
+    private static final Cache<UserAccessModelReadContract, PathPrivilegesMatcher> PATH_PRIVILEGES_MATCHERS = CacheBuilder.newBuilder()
+                                                                                                                          .weakKeys()
+                                                                                                                          .build();
+
     private final Set<AccessModelStorage> storages;
 
 
@@ -49,46 +53,15 @@ public class AccessModel
 
     public static Collection<String> getPathPrivileges(UserAccessModelReadContract accessModel, String url)
     {
-        String normalizedUrl = StringUtils.chomp(url, "/");
-
-        Collection<String> privileges = new HashSet<>();
-        for (final UserStorageReadContract storage : accessModel.getStorages())
-        {
-            String storageKey = "/storages/" + storage.getStorageId();
-            if (!normalizedUrl.startsWith(storageKey))
-            {
-                continue;
-            }
-            for (UserRepositoryReadContract repository : storage.getRepositories())
-            {
-                String repositoryKey = storageKey + "/" + repository.getRepositoryId();
-                if (!normalizedUrl.startsWith(repositoryKey))
-                {
-                    continue;
-                }
-                privileges.addAll(repository.getRepositoryPrivileges()
-                                            .stream()
-                                            .map(p -> p.getName())
-                                            .collect(toSet()));
-                for (UserPathPrivelegiesReadContract pathPrivilege : repository.getPathPrivileges())
-                {
-                    String normalizedPath = StringUtils.chomp(pathPrivilege.getPath(), "/");
-                    String pathKey = repositoryKey + "/" + normalizedPath;
+        return PathPrivilegesMatcher.compile(accessModel).getPathPrivileges(url);
+    }
 
-                    if (!normalizedUrl.startsWith(pathKey))
-                    {
-                        continue;
-                    }
-                    if (normalizedUrl.equals(pathKey) || pathPrivilege.isWildcard())
-                    {
-                        privileges.addAll(pathPrivilege.getPrivileges()
-                                                       .stream()
-                                                       .map(p -> p.getName())
-                                                       .collect(toSet()));
-                    }
-                }
-            }
-        }
-        return privileges;
+    /**
+     * @return the matcher compiled once per access model instance; the changed
+     *         access model is the new instance, so it's compiled again
+     */
+    public static PathPrivilegesMatcher getPathPrivilegesMatcher(UserAccessModelReadContract accessModel)
+    {
+        return PATH_PRIVILEGES_MATCHERS.asMap().computeIfAbsent(accessModel, PathPrivilegesMatcher::compile);
     }
 }
@@ -0,0 +1,112 @@
+package org.carlspring.strongbox.users.domain;
+
+import org.carlspring.strongbox.authorization.dto.PrivelegieReadContract;
+import org.carlspring.strongbox.users.dto.UserAccessModelReadContract;
+import org.carlspring.strongbox.users.dto.UserPathPrivelegiesReadContract;
+import org.carlspring.strongbox.users.dto.UserRepositoryReadContract;
+import org.carlspring.strongbox.users.dto.UserStorageReadContract;
+
+import javax.annotation.concurrent.Immutable;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.lang.StringUtils;
+
+/**
+ * The {@link UserAccessModelReadContract} compiled into a character trie of
+ * the `/storages/{storageId}/{repositoryId}/{path}` keys, so that the
+ * privileges of the URL are collected in one pass over the URL, instead of
+ * checking every storage, repository and path privilege of the user. <br>
+ * The matching is the same as it was with the linear scan: the repository
+ * and the wildcard path privileges apply to the URLs which start with the
+ * key, and the other path privileges only to the URL equal to the key.
+ */
+@Immutable
+public class PathPrivilegesMatcher
+{
+
+    private final Node root = new Node();
+
+    private PathPrivilegesMatcher()
+    {
+    }
+
+    public static PathPrivilegesMatcher compile(UserAccessModelReadContract accessModel)
+    {
+        PathPrivilegesMatcher result = new PathPrivilegesMatcher();
+        for (UserStorageReadContract storage : accessModel.getStorages())
+        {
+            String storageKey = "/storages/" + storage.getStorageId();
+            for (UserRepositoryReadContract repository : storage.getRepositories())
+            {
+                String repositoryKey = storageKey + "/" + repository.getRepositoryId();
+                addAll(result.insert(repositoryKey).prefixPrivileges, repository.getRepositoryPrivileges());
+
+                for (UserPathPrivelegiesReadContract pathPrivilege : repository.getPathPrivileges())
+                {
+                    String pathKey = repositoryKey + "/" + StringUtils.chomp(pathPrivilege.getPath(), "/");
+
+                    Node node = result.insert(pathKey);
+                    addAll(pathPrivilege.isWildcard() ? node.prefixPrivileges : node.exactPrivileges,
+                           pathPrivilege.getPrivileges());
+                }
+            }
+        }
+        return result;
+    }
+
+    public Collection<String> getPathPrivileges(String url)
+    {
+        String normalizedUrl = StringUtils.chomp(url, "/");
+
+        Set<String> privileges = new HashSet<>();
+        Node node = root;
+        for (int i = 0; i < normalizedUrl.length(); i++)
+        {
+            node = node.children.get(normalizedUrl.charAt(i));
+            if (node == null)
+            {
+                return privileges;
+            }
+            privileges.addAll(node.prefixPrivileges);
+        }
+        privileges.addAll(node.exactPrivileges);
+
+        return privileges;
+    }
+
+    private Node insert(String key)
+    {
+        Node node = root;
+        for (int i = 0; i < key.length(); i++)
+        {
+            node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+        }
+        return node;
+    }
+
+    private static void addAll(Set<String> target,
+                               Set<? extends PrivelegieReadContract> privileges)
+    {
+        if (privileges == null)
+        {
+            return;
+        }
+        privileges.forEach(p -> target.add(p.getName()));
+    }
+
+    private static class Node
+    {
+
+        private final Map<Character, Node> children = new HashMap<>(2);
+
+        private final Set<String> prefixPrivileges = new HashSet<>(0);
+
+        private final Set<String> exactPrivileges = new HashSet<>(0);
+
+    }
+
+}
@@ -138,6 +138,7 @@ public class InMemoryUserService implements UserService
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheName.User.AUTHENTICATIONS, allEntries = true)
     public void revokeEveryone(final String roleToRevoke)
     {
         modifyInLock(users -> {
@@ -167,6 +168,7 @@ public class InMemoryUserService implements UserService
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheName.User.AUTHENTICATIONS, key = "#p0")
     public void delete(final String username)
     {
         modifyInLock(users -> {
@@ -185,6 +187,7 @@ public class InMemoryUserService implements UserService
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheName.User.AUTHENTICATIONS, key = "#p0.username")
     public void updatePassword(final UserDto userToUpdate)
     {
         if (StringUtils.isBlank(userToUpdate.getPassword()))
@@ -208,6 +211,7 @@ public class InMemoryUserService implements UserService
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheName.User.AUTHENTICATIONS, key = "#p0.username")
     public void updateAccountDetailsByUsername(UserDto userToUpdate)
     {
         modifyInLock(users -> {
@@ -0,0 +1,110 @@
+package org.carlspring.strongbox.users.domain;
+
+import org.carlspring.strongbox.authorization.dto.PrivilegeDto;
+import org.carlspring.strongbox.users.dto.UserAccessModelDto;
+import org.carlspring.strongbox.users.dto.UserPathPrivilegesDto;
+import org.carlspring.strongbox.users.dto.UserRepositoryDto;
+import org.carlspring.strongbox.users.dto.UserStorageDto;
+
+import java.util.Collection;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PathPrivilegesMatcherTest
+{
+
+    private static final int REPOSITORIES = 10;
+
+    private static final int PATHS = 50;
+
+    private UserAccessModelDto accessModel;
+
+    @BeforeEach
+    public void setUp()
+    {
+        accessModel = new UserAccessModelDto();
+
+        UserStorageDto storage = new UserStorageDto();
+        storage.setStorageId("storage0");
+        accessModel.getStorages().add(storage);
+
+        for (int i = 0; i < REPOSITORIES; i++)
+        {
+            UserRepositoryDto repository = new UserRepositoryDto();
+            repository.setRepositoryId("releases" + i);
+            repository.getRepositoryPrivileges().add(new PrivilegeDto("ARTIFACTS_RESOLVE", null));
+            storage.getRepositories().add(repository);
+
+            for (int j = 0; j < PATHS; j++)
+            {
+                repository.getPathPrivileges().add(newPathPrivilege("com/carlspring/project" + j + "/", true,
+                                                                    "ARTIFACTS_DEPLOY"));
+                repository.getPathPrivileges().add(newPathPrivilege("com/carlspring/project" + j + "/exact", false,
+                                                                    "ARTIFACTS_DELETE"));
+            }
+        }
+    }
+
+    @Test
+    public void testPathPrivileges()
+    {
+        PathPrivilegesMatcher matcher = PathPrivilegesMatcher.compile(accessModel);
+
+        Collection<String> privileges = matcher.getPathPrivileges("/storages/storage0/releases3/com/carlspring/project7/exact/");
+        assertEquals(3, privileges.size());
+        assertTrue(privileges.contains("ARTIFACTS_DELETE"));
+
+        privileges = matcher.getPathPrivileges("/storages/storage0/releases3/com/carlspring/project7/exact/1.0");
+        assertEquals(2, privileges.size());
+        assertTrue(privileges.contains("ARTIFACTS_DEPLOY"));
+
+        privileges = matcher.getPathPrivileges("/storages/storage0/releases3/org/carlspring");
+        assertEquals(1, privileges.size());
+        assertTrue(privileges.contains("ARTIFACTS_RESOLVE"));
+
+        assertTrue(matcher.getPathPrivileges("/storages/storage1/releases3/com/carlspring/project7").isEmpty());
+        assertTrue(matcher.getPathPrivileges("/storages/storage0").isEmpty());
+    }
+
+    @Test
+    public void testCompiledOncePerAccessModel()
+    {
+        assertSame(AccessModel.getPathPrivilegesMatcher(accessModel), AccessModel.getPathPrivilegesMatcher(accessModel));
+    }
+
+    @Test
+    public void testAllRepositoriesAndPaths()
+    {
+        PathPrivilegesMatcher matcher = PathPrivilegesMatcher.compile(accessModel);
+
+        for (int i = 0; i < REPOSITORIES; i++)
+        {
+            for (int j = 0; j < PATHS; j++)
+            {
+                String url = String.format("/storages/storage0/releases%s/com/carlspring/project%s/exact/foo-1.0.jar",
+                                           i, j);
+                Collection<String> privileges = matcher.getPathPrivileges(url);
+
+                assertEquals(2, privileges.size(), url);
+                assertTrue(privileges.contains("ARTIFACTS_DEPLOY"), url);
+            }
+        }
+    }
+
+    private UserPathPrivilegesDto newPathPrivilege(String path,
+                                                   boolean wildcard,
+                                                   String privilege)
+    {
+        UserPathPrivilegesDto pathPrivilege = new UserPathPrivilegesDto();
+        pathPrivilege.setPath(path);
+        pathPrivilege.setWildcard(wildcard);
+        pathPrivilege.getPrivileges().add(new PrivilegeDto(privilege, null));
+
+        return pathPrivilege;
+    }
+
+}
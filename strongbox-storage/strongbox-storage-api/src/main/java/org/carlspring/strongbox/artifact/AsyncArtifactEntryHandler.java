@@ -7,11 +7,13 @@ import org.carlspring.strongbox.event.artifact.ArtifactEventTypeEnum;
 import org.carlspring.strongbox.providers.io.RepositoryFiles;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.providers.io.RepositoryPathLock;
+import org.carlspring.strongbox.providers.search.LuceneSearchProvider;
 import org.carlspring.strongbox.services.ArtifactEntryService;
 
 import javax.inject.Inject;
 import java.io.IOException;
 import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Arrays;
 import java.util.concurrent.locks.Lock;
 
 import com.orientechnologies.common.concur.ONeedRetryException;
@@ -37,12 +39,15 @@ public abstract class AsyncArtifactEntryHandler
     @Inject
     private PlatformTransactionManager transactionManager;
 
-    private final ArtifactEventTypeEnum eventType;
+    @Inject
+    private LuceneSearchProvider luceneSearchProvider;
+
+    private final ArtifactEventTypeEnum[] eventTypes;
 
-    public AsyncArtifactEntryHandler(ArtifactEventTypeEnum eventType)
+    public AsyncArtifactEntryHandler(ArtifactEventTypeEnum... eventTypes)
     {
         super();
-        this.eventType = eventType;
+        this.eventTypes = eventTypes;
     }
 
     @AsyncEventListener
@@ -50,13 +55,13 @@ public abstract class AsyncArtifactEntryHandler
         throws IOException,
         InterruptedException
     {
-        if (eventType.getType() != event.getType())
+        if (Arrays.stream(eventTypes).noneMatch(t -> t.getType() == event.getType()))
         {
             return;
         }
 
         RepositoryPath repositoryPath = (RepositoryPath) event.getPath();
-        if (!RepositoryFiles.isArtifact(repositoryPath))
+        if (!RepositoryFiles.isArtifact(repositoryPath) || !supports(repositoryPath))
         {
             return;
         }
@@ -119,7 +124,11 @@ public abstract class AsyncArtifactEntryHandler
             try
             {
 
-                handleTransactional(repositoryPath);
+                if (handleTransactional(repositoryPath) != null)
+                {
+                    // The search index could be already updated with the entry before this change.
+                    luceneSearchProvider.reindex(repositoryPath);
+                }
 
                 return;
             }
@@ -148,9 +157,9 @@ public abstract class AsyncArtifactEntryHandler
         }
     }
 
-    private void handleTransactional(RepositoryPath repositoryPath)
+    private ArtifactEntry handleTransactional(RepositoryPath repositoryPath)
     {
-        new TransactionTemplate(transactionManager).execute(t -> {
+        return new TransactionTemplate(transactionManager).execute(t -> {
             try
             {
                 ArtifactEntry result = handleEvent(repositoryPath);
@@ -173,6 +182,15 @@ public abstract class AsyncArtifactEntryHandler
         });
     }
 
+    /**
+     * Allows to skip the artifacts which are not supposed to be handled,
+     * without additional thread, lock and transaction.
+     */
+    protected boolean supports(RepositoryPath repositoryPath)
+    {
+        return true;
+    }
+
     protected abstract ArtifactEntry handleEvent(RepositoryPath repositoryPath)
         throws IOException;
 
@@ -3,11 +3,17 @@ package org.carlspring.strongbox.artifact.archive;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 
 import java.io.IOException;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.Set;
 
 import org.apache.commons.compress.archivers.ArchiveEntry;
 import org.apache.commons.compress.archivers.ArchiveInputStream;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipFile;
 
 /**
  * @author Przemyslaw Fusik
@@ -31,6 +37,27 @@ public interface ArchiveListingFunction
         return result;
     }
 
+    /**
+     * Reads the entry names from the ZIP central directory at the end of the
+     * archive, so that the compressed entries are not read at all, unlike
+     * with the {@link ArchiveInputStream}.
+     */
+    default Set<String> getZipEntryNames(final Path path)
+            throws IOException
+    {
+        final Set<String> result = new HashSet<>();
+        try (SeekableByteChannel channel = Files.newByteChannel(path);
+             ZipFile zipFile = new ZipFile(channel))
+        {
+            Enumeration<ZipArchiveEntry> entries = zipFile.getEntries();
+            while (entries.hasMoreElements())
+            {
+                result.add(entries.nextElement().getName());
+            }
+        }
+        return result;
+    }
+
     default boolean supports(RepositoryPath path)
     {
         return true;
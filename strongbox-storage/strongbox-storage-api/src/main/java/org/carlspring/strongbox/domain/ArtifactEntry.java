@@ -12,7 +12,9 @@ import javax.persistence.ManyToMany;
 import javax.persistence.ManyToOne;
 import javax.persistence.Transient;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -51,6 +53,12 @@ public class ArtifactEntry
 
     private Integer downloadCount = Integer.valueOf(0);
 
+    /**
+     * Layout specific artifact data, which is extracted once the artifact
+     * stored, so it doesn't need to be read from the artifact files again.
+     */
+    private Map<String, String> artifactAttributes = new HashMap<>();
+
     public ArtifactEntry()
     {
     }
@@ -155,6 +163,16 @@ public class ArtifactEntry
         this.artifactArchiveListing = artifactArchiveListing;
     }
 
+    public Map<String, String> getArtifactAttributes()
+    {
+        return artifactAttributes;
+    }
+
+    public void setArtifactAttributes(Map<String, String> artifactAttributes)
+    {
+        this.artifactAttributes = artifactAttributes;
+    }
+
     @Transient
     public String getArtifactPath()
     {
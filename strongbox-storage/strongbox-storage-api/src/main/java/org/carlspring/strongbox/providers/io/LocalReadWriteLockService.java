@@ -0,0 +1,118 @@
+package org.carlspring.strongbox.providers.io;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+
+/**
+ * Node local alternative of the Hazelcast `DistributedLockService`, for the
+ * standalone deployments. <br>
+ * There is exactly one lock per lock name, so the nested locks (like
+ * `pre-remote-fetch`, `remote-fetch` and the path lock) never share the same
+ * lock instance. The locks are weakly referenced, so there is no lock
+ * instance kept in memory for the names which are not in use.
+ */
+public class LocalReadWriteLockService
+{
+
+    private final LoadingCache<String, ReadWriteLock> locks = CacheBuilder.newBuilder()
+                                                                          .weakValues()
+                                                                          .build(CacheLoader.from(
+                                                                                  k -> new WeakSafeReadWriteLock()));
+
+    public ReadWriteLock getReentrantReadWriteLock(String lockName)
+    {
+        return locks.getUnchecked(lockName);
+    }
+
+    /**
+     * The read and write locks hold the strong reference to the enclosing
+     * lock, so it can't be collected (and then created again for the same
+     * name) while the caller holds only the read or write lock.
+     */
+    private static class WeakSafeReadWriteLock implements ReadWriteLock
+    {
+
+        private final ReentrantReadWriteLock delegate = new ReentrantReadWriteLock();
+
+        private final Lock readLock = new WeakSafeLock(delegate.readLock(), this);
+
+        private final Lock writeLock = new WeakSafeLock(delegate.writeLock(), this);
+
+        @Override
+        public Lock readLock()
+        {
+            return readLock;
+        }
+
+        @Override
+        public Lock writeLock()
+        {
+            return writeLock;
+        }
+
+    }
+
+    private static class WeakSafeLock implements Lock
+    {
+
+        private final Lock delegate;
+
+        @SuppressWarnings("unused")
+        private final ReadWriteLock strongReference;
+
+        private WeakSafeLock(Lock delegate,
+                             ReadWriteLock strongReference)
+        {
+            this.delegate = delegate;
+            this.strongReference = strongReference;
+        }
+
+        @Override
+        public void lock()
+        {
+            delegate.lock();
+        }
+
+        @Override
+        public void lockInterruptibly()
+            throws InterruptedException
+        {
+            delegate.lockInterruptibly();
+        }
+
+        @Override
+        public boolean tryLock()
+        {
+            return delegate.tryLock();
+        }
+
+        @Override
+        public boolean tryLock(long time,
+                               TimeUnit unit)
+            throws InterruptedException
+        {
+            return delegate.tryLock(time, unit);
+        }
+
+        @Override
+        public void unlock()
+        {
+            delegate.unlock();
+        }
+
+        @Override
+        public Condition newCondition()
+        {
+            return delegate.newCondition();
+        }
+
+    }
+
+}
@@ -1,21 +1,39 @@
 package org.carlspring.strongbox.providers.io;
 
+import org.carlspring.strongbox.event.server.ServerEvent;
+import org.carlspring.strongbox.event.server.ServerEventTypeEnum;
 import org.carlspring.strongbox.storage.repository.Repository;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
 @Component
 public class RepositoryFileSystemRegistry
 {
 
+    private static final Logger logger = LoggerFactory.getLogger(RepositoryFileSystemRegistry.class);
+
     private Map<String, LayoutFileSystemProviderFactory> fileSystemProviderFactoryMap = new HashMap<>();
 
     private Map<String, LayoutFileSystemFactory> fileSystemFactoryMap = new HashMap<>();
 
+    /**
+     * {@link LayoutFileSystem} instances per repository, the file systems hold
+     * the {@link Repository} configuration, so they will be evicted on each
+     * configuration change.
+     */
+    private Map<String, LayoutFileSystem> fileSystemMap = new ConcurrentHashMap<>();
+
+    private final AtomicLong fileSystemCreatedCount = new AtomicLong();
+
     @Autowired(required = false)
     public void setFyleSystemProviderFactories(Map<String, LayoutFileSystemProviderFactory> factories)
     {
@@ -51,4 +69,63 @@ public class RepositoryFileSystemRegistry
     {
         return fileSystemProviderFactoryMap.get(r.getLayout());
     }
+
+    /**
+     * Returns the {@link LayoutFileSystem} (along with its provider) for the
+     * given {@link Repository}, the instance will be created only once until
+     * the configuration changed. <br>
+     * The {@link Repository} instances are immutable, so the cached file
+     * system is replaced if it was created for another {@link Repository}
+     * instance, this way we won't return the stale one even if it was put
+     * concurrently with {@link #invalidate()}.
+     */
+    public LayoutFileSystem getFileSystem(Repository r)
+    {
+        if (r.getStorage() == null)
+        {
+            return createFileSystem(r);
+        }
+
+        String key = String.format("%s:%s", r.getStorage().getId(), r.getId());
+
+        LayoutFileSystem fileSystem = fileSystemMap.get(key);
+        if (fileSystem != null && fileSystem.getRepository() == r)
+        {
+            return fileSystem;
+        }
+
+        return fileSystemMap.compute(key,
+                                     (k, v) -> v != null && v.getRepository() == r ? v : createFileSystem(r));
+    }
+
+    private LayoutFileSystem createFileSystem(Repository r)
+    {
+        logger.debug(String.format("Creating [%s] for [%s]", LayoutFileSystem.class.getSimpleName(), r.getId()));
+
+        fileSystemCreatedCount.incrementAndGet();
+
+        return lookupRepositoryFileSystemFactory(r).create(r);
+    }
+
+    public long getFileSystemCreatedCount()
+    {
+        return fileSystemCreatedCount.get();
+    }
+
+    public void invalidate()
+    {
+        fileSystemMap.clear();
+    }
+
+    @EventListener
+    public void handle(ServerEvent event)
+    {
+        if (event.getType() != ServerEventTypeEnum.EVENT_SERVER_CONFIGURATION_CHANGED.getType())
+        {
+            return;
+        }
+
+        invalidate();
+    }
+
 }
@@ -6,14 +6,17 @@ import java.net.URI;
 import java.util.Optional;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.function.Function;
 
 import javax.annotation.Nonnull;
+import javax.annotation.PostConstruct;
 import javax.inject.Inject;
 
 import org.apache.commons.io.input.ProxyInputStream;
 import org.carlspring.strongbox.artifact.coordinates.ArtifactCoordinates;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.util.Assert;
 
@@ -30,12 +33,30 @@ public class RepositoryPathLock
 
     private static final Logger logger = LoggerFactory.getLogger(RepositoryPathLock.class);
 
-    private DistributedLockService lockService;
-
     @Inject
-    public void setHazelcastInstance(HazelcastInstance hazelcastInstance)
+    private HazelcastInstance hazelcastInstance;
+
+    /**
+     * Cluster wide Hazelcast locks are used by default, the node local locks
+     * can be used for standalone deployments with `strongbox.pathLock.local=true`.
+     */
+    @Value("${strongbox.pathLock.local:false}")
+    private boolean local;
+
+    private Function<String, ReadWriteLock> lockService;
+
+    @PostConstruct
+    public void init()
     {
-        lockService = DistributedLockService.newHazelcastLockService(hazelcastInstance);
+        if (local)
+        {
+            logger.info("Using local path locks.");
+
+            lockService = new LocalReadWriteLockService()::getReentrantReadWriteLock;
+            return;
+        }
+
+        lockService = DistributedLockService.newHazelcastLockService(hazelcastInstance)::getReentrantReadWriteLock;
     }
 
     public ReadWriteLock lock(final @Nonnull RepositoryPath repositoryPath) throws IOException
@@ -52,7 +73,7 @@ public class RepositoryPathLock
                                   .map(p -> String.format("%s?%s", lock, p))
                                   .orElseGet(() -> lock.toString());
 
-        return lockService.getReentrantReadWriteLock(lockName);
+        return lockService.apply(lockName);
     }
 
     private URI getLock(final @Nonnull RepositoryPath repositoryPath) throws IOException
@@ -3,7 +3,10 @@ package org.carlspring.strongbox.providers.io;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Optional;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
@@ -184,6 +187,8 @@ public abstract class RepositoryStreamSupport implements RepositoryStreamCallbac
             extends ProxyInputStream
     {
 
+        private FileChannel channel;
+
         protected RepositoryInputStream(Path path,
                                         InputStream in)
         {
@@ -203,12 +208,75 @@ public abstract class RepositoryStreamSupport implements RepositoryStreamCallbac
             open();
         }
 
+        /**
+         * Transfers the whole file into the target channel directly with
+         * {@link FileChannel#transferTo(long, long, WritableByteChannel)},
+         * bypassing the stream decorators (note that there will be no
+         * checksums calculated). The path stays locked during the transfer.
+         *
+         * @return the number of bytes transferred
+         */
+        public long transferTo(WritableByteChannel target)
+            throws IOException
+        {
+            return transferTo(target, 0L, getChannel().size());
+        }
+
+        /**
+         * Transfers the part of the file, using positioned reads, so it can be
+         * invoked several times for different parts.
+         *
+         * @return the number of bytes transferred
+         */
+        public long transferTo(WritableByteChannel target,
+                               long position,
+                               long count)
+            throws IOException
+        {
+            FileChannel channel = getChannel();
+
+            long transferred = 0L;
+            while (transferred < count)
+            {
+                long n = channel.transferTo(position + transferred, count - transferred, target);
+                if (n <= 0)
+                {
+                    break;
+                }
+
+                transferred += n;
+            }
+
+            return transferred;
+        }
+
+        /**
+         * Opens the {@link FileChannel} once, it will be closed along with
+         * this stream.
+         */
+        private FileChannel getChannel()
+            throws IOException
+        {
+            open();
+
+            if (channel == null)
+            {
+                channel = FileChannel.open(getContext().getPath(), StandardOpenOption.READ);
+            }
+
+            return channel;
+        }
+
         @Override
         public void close()
             throws IOException
         {
             try
             {
+                if (channel != null)
+                {
+                    channel.close();
+                }
                 super.close();
             } 
             finally
@@ -605,11 +605,17 @@ public abstract class StorageFileSystemProvider
     }
 
     
-    private class TempOutputStream extends ProxyOutputStream
+    /**
+     * Writes into the temporary file, which is moved to the target path on
+     * close, unless the stream was {@link #abort()}ed.
+     */
+    public class TempOutputStream extends ProxyOutputStream
     {
 
         private TempRepositoryPath path;
 
+        private volatile boolean aborted;
+
         public TempOutputStream(TempRepositoryPath path,
                                 OpenOption... options)
             throws IOException
@@ -619,6 +625,15 @@ public abstract class StorageFileSystemProvider
             this.path = path;
         }
 
+        /**
+         * The temporary file will be deleted on close, so the target path
+         * stays unchanged.
+         */
+        public void abort()
+        {
+            aborted = true;
+        }
+
         @Override
         public void close()
             throws IOException
@@ -627,7 +642,10 @@ public abstract class StorageFileSystemProvider
 
             try
             {
-                moveFromTemporaryDirectory(path);
+                if (!aborted)
+                {
+                    moveFromTemporaryDirectory(path);
+                }
             } 
             finally
             {
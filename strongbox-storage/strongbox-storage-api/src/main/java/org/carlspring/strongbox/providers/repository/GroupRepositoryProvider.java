@@ -3,17 +3,30 @@ package org.carlspring.strongbox.providers.repository;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
@@ -31,12 +44,16 @@ import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
 import org.carlspring.strongbox.providers.repository.event.GroupRepositoryPathFetchEvent;
 import org.carlspring.strongbox.providers.repository.group.GroupRepositorySetCollector;
+import org.carlspring.strongbox.services.support.ArtifactEntryCursors;
 import org.carlspring.strongbox.services.support.ArtifactRoutingRulesChecker;
 import org.carlspring.strongbox.storage.Storage;
 import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.storage.repository.remote.heartbeat.RemoteRepositoryAlivenessCacheManager;
+import org.javatuples.Pair;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 /**
@@ -56,6 +73,9 @@ public class GroupRepositoryProvider extends AbstractRepositoryProvider
     @Inject
     private HostedRepositoryProvider hostedRepositoryProvider;
 
+    @Inject
+    private ProxyRepositoryProvider proxyRepositoryProvider;
+
     @Inject
     private GroupRepositorySetCollector groupRepositorySetCollector;
     
@@ -64,6 +84,42 @@ public class GroupRepositoryProvider extends AbstractRepositoryProvider
     
     @Inject
     private RepositoryPathResolver repositoryPathResolver;
+
+    @Inject
+    private RepositoryPathNegativeCache repositoryPathNegativeCache;
+
+    @Inject
+    private RemoteRepositoryAlivenessCacheManager remoteRepositoryAlivenessCacheManager;
+
+    @Value("${strongbox.group.parallelResolution:false}")
+    private boolean parallelResolution;
+
+    @Value("${strongbox.group.parallelResolution.threads:16}")
+    private int parallelResolutionThreads;
+
+    @Value("${strongbox.group.parallelResolution.queueSize:256}")
+    private int parallelResolutionQueueSize;
+
+    private ThreadPoolExecutor groupResolutionExecutor;
+
+    @PostConstruct
+    public void init()
+    {
+        // Probes are executed by the caller if the executor is saturated.
+        groupResolutionExecutor = new ThreadPoolExecutor(parallelResolutionThreads,
+                                                         parallelResolutionThreads,
+                                                         60L,
+                                                         TimeUnit.SECONDS,
+                                                         new LinkedBlockingQueue<>(parallelResolutionQueueSize),
+                                                         new ThreadPoolExecutor.CallerRunsPolicy());
+        groupResolutionExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    public void destroy()
+    {
+        groupResolutionExecutor.shutdownNow();
+    }
     
     @Override
     public String getAlias()
@@ -88,15 +144,216 @@ public class GroupRepositoryProvider extends AbstractRepositoryProvider
         {
             return result;
         }
+
+        if (repositoryPathNegativeCache.isNotFound(repositoryPath))
+        {
+            logger.debug(String.format("Path [%s] is known to be not found within group.", repositoryPath));
+
+            return null;
+        }
         
-        return resolvePathTraversal(repositoryPath);
+        result = resolvePathTraversal(repositoryPath);
+        if (result == null && allRemoteRepositoriesAlive(repositoryPath.getRepository()))
+        {
+            repositoryPathNegativeCache.putNotFound(repositoryPath);
+        }
+
+        return result;
+    }
+
+    /**
+     * The path which was not found because of remote repository is down
+     * should not be cached as not found.
+     */
+    private boolean allRemoteRepositoriesAlive(Repository groupRepository)
+    {
+        return groupRepositorySetCollector.collect(groupRepository, true)
+                                          .stream()
+                                          .filter(Repository::isProxyRepository)
+                                          .allMatch(r -> remoteRepositoryAlivenessCacheManager.isAlive(r.getRemoteRepository()));
     }
     
     protected RepositoryPath resolvePathTraversal(RepositoryPath repositoryPath) throws IOException
+    {
+        if (parallelResolution)
+        {
+            return resolvePathTraversalParallel(repositoryPath);
+        }
+
+        return resolvePathTraversalSequential(repositoryPath);
+    }
+
+    private RepositoryPath resolvePathTraversalSequential(RepositoryPath repositoryPath) throws IOException
+    {
+        for (RepositoryPath memberPath : collectGroupMemberPaths(repositoryPath))
+        {
+            RepositoryPath result = resolvePathFromGroupMember(memberPath, false);
+            if (result == null)
+            {
+                continue;
+            }
+            
+            logger.debug(String.format("Located artifact: [%s]", result));
+            
+            return result;
+        }
+        return null;
+    }
+
+    /**
+     * Resolves the path with the same group members order as
+     * {@link #resolvePathTraversalSequential(RepositoryPath)}, but hosted
+     * members are probed first (as they are local), and then the members which
+     * can be remote (proxies and nested groups) are probed concurrently. <br>
+     * The probes only check the path existence (the proxies with the remote
+     * `HEAD` request), so the path is fetched only from the first member in
+     * the group order which has it.
+     */
+    private RepositoryPath resolvePathTraversalParallel(RepositoryPath repositoryPath) throws IOException
+    {
+        List<RepositoryPath> memberPaths = collectGroupMemberPaths(repositoryPath);
+
+        int hostedHitIndex = memberPaths.size();
+        RepositoryPath hostedHit = null;
+        for (int i = 0; i < memberPaths.size(); i++)
+        {
+            RepositoryPath memberPath = memberPaths.get(i);
+            if (!memberPath.getRepository().isHostedRepository())
+            {
+                continue;
+            }
+
+            hostedHit = resolvePathFromGroupMember(memberPath, false);
+            if (hostedHit != null)
+            {
+                hostedHitIndex = i;
+                break;
+            }
+        }
+
+        // Only the members which precede the hosted hit can override it.
+        Map<RepositoryPath, Future<Boolean>> probes = new LinkedHashMap<>();
+        for (int i = 0; i < hostedHitIndex; i++)
+        {
+            RepositoryPath memberPath = memberPaths.get(i);
+            if (memberPath.getRepository().isHostedRepository())
+            {
+                continue;
+            }
+
+            probes.put(memberPath, groupResolutionExecutor.submit(() -> existsInGroupMember(memberPath)));
+        }
+
+        try
+        {
+            for (Map.Entry<RepositoryPath, Future<Boolean>> probe : probes.entrySet())
+            {
+                if (!awaitProbe(probe.getValue()))
+                {
+                    continue;
+                }
+
+                RepositoryPath result = resolvePathFromGroupMember(probe.getKey(), false);
+                if (result == null)
+                {
+                    // Removed after the probe, so the next member should be tried.
+                    continue;
+                }
+
+                logger.debug(String.format("Located artifact: [%s]", result));
+
+                return result;
+            }
+        }
+        finally
+        {
+            probes.values().stream().forEach(f -> f.cancel(false));
+        }
+
+        if (hostedHit != null)
+        {
+            logger.debug(String.format("Located artifact: [%s]", hostedHit));
+        }
+
+        return hostedHit;
+    }
+
+    /**
+     * Checks the path existence within the group member, without fetching it
+     * from the remote repositories.
+     */
+    private boolean existsInGroupMember(RepositoryPath memberPath)
+    {
+        Repository repository = memberPath.getRepository();
+        try
+        {
+            if (getAlias().equals(repository.getType()))
+            {
+                for (RepositoryPath nestedMemberPath : collectGroupMemberPaths(memberPath))
+                {
+                    if (existsInGroupMember(nestedMemberPath))
+                    {
+                        return true;
+                    }
+                }
+
+                return false;
+            }
+            else if (repository.isProxyRepository())
+            {
+                return proxyRepositoryProvider.exists(memberPath);
+            }
+
+            return hostedRepositoryProvider.fetchPath(memberPath) != null;
+        }
+        catch (IOException e)
+        {
+            logger.error(String.format("Failed to probe path [%s]", memberPath), e);
+
+            return false;
+        }
+    }
+
+    private boolean awaitProbe(Future<Boolean> probe)
+        throws IOException
+    {
+        try
+        {
+            return probe.get();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+
+            throw new InterruptedIOException("Interrupted while resolving group member path.");
+        }
+        catch (ExecutionException e)
+        {
+            // The IOExceptions are already handled within the probes, same as
+            // with the sequential traversal, so this is the unexpected failure.
+            Throwable cause = e.getCause();
+            logger.error("Failed to resolve group member path.", cause);
+
+            if (cause instanceof RuntimeException)
+            {
+                throw (RuntimeException) cause;
+            }
+            else if (cause instanceof IOException)
+            {
+                throw (IOException) cause;
+            }
+
+            throw new IOException(cause);
+        }
+    }
+
+    private List<RepositoryPath> collectGroupMemberPaths(RepositoryPath repositoryPath)
+        throws IOException
     {
         Repository groupRepository = repositoryPath.getRepository();
         Storage storage = groupRepository.getStorage();
-        
+
+        List<RepositoryPath> result = new ArrayList<>();
         for (String storageAndRepositoryId : groupRepository.getGroupRepositories().keySet())
         {
             String sId = configurationManager.getStorageId(storage, storageAndRepositoryId);
@@ -108,23 +365,16 @@ public class GroupRepositoryProvider extends AbstractRepositoryProvider
                 continue;
             }
             
-            RepositoryPath result = repositoryPathResolver.resolve(r, repositoryPath);
-            if (artifactRoutingRulesChecker.isDenied(groupRepository.getId(), result))
+            RepositoryPath memberPath = repositoryPathResolver.resolve(r, repositoryPath);
+            if (artifactRoutingRulesChecker.isDenied(groupRepository.getId(), memberPath))
             {
                 continue;
             }
             
-            result = resolvePathFromGroupMemberOrTraverse(result);
-            if (result == null)
-            {
-                continue;
-            }
-            
-            logger.debug(String.format("Located artifact: [%s]", result));
-            
-            return result;
+            result.add(memberPath);
         }
-        return null;
+
+        return result;
     }
 
     private RepositoryPath resolvePathDirectlyFromGroupPathIfPossible(final RepositoryPath artifactPath)
@@ -138,11 +388,24 @@ public class GroupRepositoryProvider extends AbstractRepositoryProvider
 
     protected RepositoryPath resolvePathFromGroupMemberOrTraverse(RepositoryPath repositoryPath)
         throws IOException
+    {
+        return resolvePathFromGroupMember(repositoryPath, parallelResolution);
+    }
+
+    /**
+     * @param parallel
+     *            nested groups are traversed sequentially within the parallel
+     *            probes, to not wait for the same executor from its own tasks
+     */
+    private RepositoryPath resolvePathFromGroupMember(RepositoryPath repositoryPath,
+                                                      boolean parallel)
+        throws IOException
     {
         Repository repository = repositoryPath.getRepository();
         if (getAlias().equals(repository.getType()))
         {
-            return resolvePathTraversal(repositoryPath);
+            return parallel ? resolvePathTraversalParallel(repositoryPath)
+                    : resolvePathTraversalSequential(repositoryPath);
         }
         
         RepositoryProvider provider = repositoryProviderRegistry.getProvider(repository.getType());
@@ -186,6 +449,11 @@ public class GroupRepositoryProvider extends AbstractRepositoryProvider
             return new LinkedList<>();
         }
 
+        if (paginator.isKeyset() && ArtifactEntryCursors.isSupported(paginator.getProperty()))
+        {
+            return mergeSearch(groupRepositorySet, predicate, paginator);
+        }
+
         int skip = paginator.getSkip();
         int limit = paginator.getLimit();
 
@@ -248,6 +516,210 @@ public class GroupRepositoryProvider extends AbstractRepositoryProvider
         return resultList.subList(skip, toIndex);
     }
 
+    /**
+     * K-way merge of the ordered member search results, for the `cursor`
+     * paginator. Each member is read page by page with its own keyset cursor,
+     * starting right after the group cursor. <br>
+     * The path is taken from the first group member which contains it, the
+     * same as for the artifact resolution, so the duplicates are skipped
+     * within all the pages and not only within the current one.
+     */
+    private List<Path> mergeSearch(Set<Repository> groupRepositorySet,
+                                   Predicate predicate,
+                                   Paginator paginator)
+    {
+        int limit = paginator.getLimit();
+
+        Comparator<MemberSearchCursor> cursorComparator = ArtifactEntryCursors.comparator(paginator,
+                                                                                          c -> c.peek().sortKey,
+                                                                                          c -> c.peek().uuid);
+        PriorityQueue<MemberSearchCursor> queue = new PriorityQueue<>(cursorComparator);
+        List<Repository> precedingRepositories = new ArrayList<>();
+        for (Repository r : groupRepositorySet)
+        {
+            MemberSearchCursor cursor = new MemberSearchCursor(r, new ArrayList<>(precedingRepositories), predicate,
+                                                               paginator);
+            if (cursor.hasNext())
+            {
+                queue.add(cursor);
+            }
+
+            if (r.isGroupRepository())
+            {
+                precedingRepositories.addAll(groupRepositorySetCollector.collect(r, true));
+            }
+            else
+            {
+                precedingRepositories.add(r);
+            }
+        }
+
+        List<Path> result = new LinkedList<>();
+        while (!queue.isEmpty() && result.size() < limit)
+        {
+            MemberSearchCursor cursor = queue.poll();
+            result.add(cursor.next().path);
+
+            if (cursor.hasNext())
+            {
+                queue.add(cursor);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * The member search result with its sort key, which is resolved once, when
+     * the page is fetched.
+     */
+    private static class MemberSearchHit
+    {
+
+        private final RepositoryPath path;
+
+        private final String sortKey;
+
+        private final String uuid;
+
+        private MemberSearchHit(RepositoryPath path,
+                                ArtifactEntry artifactEntry,
+                                String property)
+        {
+            this.path = path;
+            this.sortKey = ArtifactEntryCursors.sortKey(artifactEntry, property);
+            this.uuid = artifactEntry.getUuid();
+        }
+
+    }
+
+    private class MemberSearchCursor
+    {
+
+        private final Repository repository;
+
+        /**
+         * The leaf repositories of the preceding group members.
+         */
+        private final List<Pair<String, String>> precedingRepositories;
+
+        private final Predicate predicate;
+
+        private final Paginator paginator;
+
+        private final LinkedList<MemberSearchHit> page = new LinkedList<>();
+
+        private boolean exhausted;
+
+        private MemberSearchCursor(Repository repository,
+                                   List<Repository> precedingRepositories,
+                                   Predicate predicate,
+                                   Paginator groupPaginator)
+        {
+            this.repository = repository;
+            this.precedingRepositories = precedingRepositories.stream()
+                                                              .map(r -> Pair.with(r.getStorage().getId(), r.getId()))
+                                                              .collect(Collectors.toList());
+            this.predicate = predicate;
+
+            paginator = new Paginator();
+            paginator.setLimit(groupPaginator.getLimit());
+            paginator.setProperty(groupPaginator.getProperty());
+            paginator.setOrder(groupPaginator.getOrder());
+            paginator.setCursor(Optional.ofNullable(groupPaginator.getCursor()).orElse(""));
+        }
+
+        private boolean hasNext()
+        {
+            while (page.isEmpty() && !exhausted)
+            {
+                fetch();
+            }
+
+            return !page.isEmpty();
+        }
+
+        private MemberSearchHit next()
+        {
+            return page.removeFirst();
+        }
+
+        private MemberSearchHit peek()
+        {
+            return page.getFirst();
+        }
+
+        private void fetch()
+        {
+            RepositoryProvider repositoryProvider = repositoryProviderRegistry.getProvider(repository.getType());
+            List<Path> result = repositoryProvider.search(repository.getStorage().getId(), repository.getId(),
+                                                          predicate, paginator);
+
+            exhausted = result.isEmpty() || result.size() < paginator.getLimit();
+            if (result.isEmpty())
+            {
+                return;
+            }
+
+            List<MemberSearchHit> hits = result.stream()
+                                               .map(p -> (RepositoryPath) p)
+                                               .map(p -> new MemberSearchHit(p, getArtifactEntry(p),
+                                                                             paginator.getProperty()))
+                                               .collect(Collectors.toList());
+
+            MemberSearchHit last = hits.get(hits.size() - 1);
+            paginator.setCursor(Paginator.cursorOf(last.sortKey, last.uuid));
+
+            Set<String> shadowed = findShadowed(hits);
+            hits.stream()
+                .filter(h -> !shadowed.contains(getArtifactPath(h.path)))
+                .forEach(page::add);
+        }
+
+        /**
+         * @return the paths of the page which exist within the preceding
+         *         group members, checked with the single query
+         */
+        private Set<String> findShadowed(List<MemberSearchHit> hits)
+        {
+            if (precedingRepositories.isEmpty())
+            {
+                return Collections.emptySet();
+            }
+
+            Set<String> artifactPaths = hits.stream()
+                                            .map(h -> getArtifactPath(h.path))
+                                            .collect(Collectors.toSet());
+
+            return artifactEntryService.findExistingArtifactPaths(precedingRepositories, artifactPaths);
+        }
+
+    }
+
+    private String getArtifactPath(RepositoryPath p)
+    {
+        try
+        {
+            return RepositoryFiles.relativizePath(p);
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException(String.format("Failed to relativize [%s]", p), e);
+        }
+    }
+
+    private ArtifactEntry getArtifactEntry(RepositoryPath p)
+    {
+        try
+        {
+            return p.getArtifactEntry();
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException(String.format("Failed to resolve ArtifactEntry for [%s]", p), e);
+        }
+    }
+
     private ArtifactCoordinates getArtifactCoordinates(Path p)
     {
         try
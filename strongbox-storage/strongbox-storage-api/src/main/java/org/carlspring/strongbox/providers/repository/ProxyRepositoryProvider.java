@@ -1,6 +1,7 @@
 package org.carlspring.strongbox.providers.repository;
 
 
+import org.carlspring.strongbox.artifact.ArtifactNotFoundException;
 import org.carlspring.strongbox.data.criteria.Paginator;
 import org.carlspring.strongbox.data.criteria.Predicate;
 import org.carlspring.strongbox.domain.ArtifactEntry;
@@ -12,6 +13,7 @@ import org.carlspring.strongbox.providers.io.RepositoryPathLock;
 import org.carlspring.strongbox.providers.repository.event.ProxyRepositoryPathExpiredEvent;
 import org.carlspring.strongbox.providers.repository.event.RemoteRepositorySearchEvent;
 import org.carlspring.strongbox.providers.repository.proxied.ProxyRepositoryArtifactResolver;
+import org.carlspring.strongbox.providers.repository.proxied.RemoteArtifactTransfer;
 
 import javax.inject.Inject;
 import java.io.IOException;
@@ -49,6 +51,9 @@ public class ProxyRepositoryProvider
     @Inject
     private RepositoryPathLock repositoryPathLock;
 
+    @Inject
+    private RepositoryPathNegativeCache repositoryPathNegativeCache;
+
     @Override
     public String getAlias()
     {
@@ -68,9 +73,15 @@ public class ProxyRepositoryProvider
     {
         RepositoryPath targetPath = hostedRepositoryProvider.fetchPath(repositoryPath);
 
-        if (targetPath == null)
+        if (targetPath == null && repositoryPathNegativeCache.isNotFound(repositoryPath))
+        {
+            logger.debug(String.format("Path [%s] is known to be not found within remote.", repositoryPath));
+
+            return null;
+        }
+        else if (targetPath == null)
         {
-            targetPath = resolvePathExclusive(repositoryPath);
+            targetPath = resolvePathRemote(repositoryPath);
         }
         else if (RepositoryFiles.hasExpired(targetPath))
         {
@@ -80,6 +91,93 @@ public class ProxyRepositoryProvider
         return targetPath;
     }
 
+    /**
+     * Checks if the path is cached or exists in the remote repository,
+     * without fetching it.
+     */
+    public boolean exists(RepositoryPath repositoryPath)
+        throws IOException
+    {
+        if (hostedRepositoryProvider.fetchPath(repositoryPath) != null)
+        {
+            return true;
+        }
+        else if (repositoryPathNegativeCache.isNotFound(repositoryPath))
+        {
+            return false;
+        }
+
+        return proxyRepositoryArtifactResolver.existsRemote(repositoryPath);
+    }
+
+    /**
+     * Unlike {@link #fetchPath(RepositoryPath)}, this doesn't wait until the
+     * remote artifact will be cached, the {@link RemoteArtifactTransfer} should
+     * be used to serve the artifact bytes until the download completed. <br>
+     * This is intended only for the artifact download requests, other callers
+     * expect the path to be cached once it resolved.
+     */
+    public RepositoryPath fetchPathTeeThrough(RepositoryPath repositoryPath)
+        throws IOException
+    {
+        if (!proxyRepositoryArtifactResolver.isTeeThrough(repositoryPath))
+        {
+            return fetchPath(repositoryPath);
+        }
+
+        RepositoryPath targetPath = hostedRepositoryProvider.fetchPath(repositoryPath);
+        if (targetPath != null)
+        {
+            if (RepositoryFiles.hasExpired(targetPath))
+            {
+                eventPublisher.publishEvent(new ProxyRepositoryPathExpiredEvent(targetPath));
+            }
+
+            return targetPath;
+        }
+        else if (repositoryPathNegativeCache.isNotFound(repositoryPath))
+        {
+            logger.debug(String.format("Path [%s] is known to be not found within remote.", repositoryPath));
+
+            return null;
+        }
+
+        try
+        {
+            RemoteArtifactTransfer transfer = proxyRepositoryArtifactResolver.startRemoteTransfer(repositoryPath);
+
+            return transfer == null ? null : repositoryPath;
+        }
+        catch (ArtifactNotFoundException e)
+        {
+            repositoryPathNegativeCache.putNotFound(repositoryPath);
+
+            throw e;
+        }
+        catch (IOException e)
+        {
+            logger.error(String.format("Failed to resolve Path for proxied artifact [%s]", repositoryPath),
+                         e);
+
+            throw e;
+        }
+    }
+
+    private RepositoryPath resolvePathRemote(RepositoryPath repositoryPath)
+        throws IOException
+    {
+        try
+        {
+            return resolvePathExclusive(repositoryPath);
+        }
+        catch (ArtifactNotFoundException e)
+        {
+            repositoryPathNegativeCache.putNotFound(repositoryPath);
+
+            throw e;
+        }
+    }
+
     private RepositoryPath resolvePathExclusive(RepositoryPath repositoryPath)
             throws IOException
     {
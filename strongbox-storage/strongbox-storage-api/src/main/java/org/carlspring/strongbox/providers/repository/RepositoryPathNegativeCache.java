@@ -0,0 +1,365 @@
+package org.carlspring.strongbox.providers.repository;
+
+import org.carlspring.strongbox.event.artifact.ArtifactEvent;
+import org.carlspring.strongbox.event.artifact.ArtifactEventTypeEnum;
+import org.carlspring.strongbox.event.server.ServerEvent;
+import org.carlspring.strongbox.event.server.ServerEventTypeEnum;
+import org.carlspring.strongbox.providers.io.RepositoryFiles;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.storage.repository.Repository;
+
+import javax.inject.Inject;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Remembers the paths which were not found within group and proxy
+ * repositories, so the repeated requests for the missing paths will not
+ * traverse the group members or go to the remote repositories again until the
+ * TTL expired. <br>
+ * The cached paths are invalidated once the path stored into any repository.
+ * <br>
+ * With `strongbox.negativeCache.bloomFilter=true` the paths are kept within
+ * two generations of Bloom filters instead of the exact path set, which takes
+ * much less memory but can cause false "not found" results with the
+ * `strongbox.negativeCache.bloomFilter.fpp` probability.
+ */
+@Component
+public class RepositoryPathNegativeCache
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(RepositoryPathNegativeCache.class);
+
+    private final boolean enabled;
+
+    private final long ttlSeconds;
+
+    private final int maxSize;
+
+    private final boolean bloomFilter;
+
+    private final double bloomFilterFpp;
+
+    private final Map<String, RepositoryNegativeCache> caches = new ConcurrentHashMap<>();
+
+    @Inject
+    RepositoryPathNegativeCache(@Value("${strongbox.negativeCache.enabled:false}") boolean enabled,
+                                @Value("${strongbox.negativeCache.ttlSeconds:300}") long ttlSeconds,
+                                @Value("${strongbox.negativeCache.maxSize:10000}") int maxSize,
+                                @Value("${strongbox.negativeCache.bloomFilter:false}") boolean bloomFilter,
+                                @Value("${strongbox.negativeCache.bloomFilter.fpp:0.001}") double bloomFilterFpp)
+    {
+        this.enabled = enabled;
+        this.ttlSeconds = ttlSeconds;
+        this.maxSize = maxSize;
+        this.bloomFilter = bloomFilter;
+        this.bloomFilterFpp = bloomFilterFpp;
+    }
+
+    public boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    /**
+     * @return `true` if the path is known to be not found within the path
+     *         repository
+     */
+    public boolean isNotFound(RepositoryPath repositoryPath)
+        throws IOException
+    {
+        if (!enabled)
+        {
+            return false;
+        }
+
+        return getCache(repositoryPath.getRepository()).isNotFound(RepositoryFiles.relativizePath(repositoryPath));
+    }
+
+    public void putNotFound(RepositoryPath repositoryPath)
+        throws IOException
+    {
+        if (!enabled)
+        {
+            return;
+        }
+
+        getCache(repositoryPath.getRepository()).put(RepositoryFiles.relativizePath(repositoryPath));
+    }
+
+    /**
+     * Invalidates the path within all the repositories, because the path
+     * stored into some repository can be also available through the groups
+     * and proxies (if they refer to the repository).
+     */
+    public void invalidate(String path)
+    {
+        caches.values().stream().forEach(c -> c.invalidate(path));
+    }
+
+    public void invalidateAll()
+    {
+        caches.clear();
+    }
+
+    /**
+     * @return the statistics per `storageId:repositoryId`
+     */
+    public Map<String, NegativeCacheStatistics> getStatistics()
+    {
+        Map<String, NegativeCacheStatistics> result = new TreeMap<>();
+        caches.entrySet().stream().forEach(e -> result.put(e.getKey(), e.getValue().getStatistics()));
+
+        return result;
+    }
+
+    @EventListener
+    public void handle(ArtifactEvent<? extends Path> event)
+    {
+        if (!enabled || caches.isEmpty())
+        {
+            return;
+        }
+        if (event.getType() != ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_STORED.getType()
+                && event.getType() != ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_UPDATED.getType()
+                && event.getType() != ArtifactEventTypeEnum.EVENT_ARTIFACT_METADATA_STORED.getType())
+        {
+            return;
+        }
+        if (!(event.getPath() instanceof RepositoryPath))
+        {
+            return;
+        }
+
+        try
+        {
+            invalidate(RepositoryFiles.relativizePath((RepositoryPath) event.getPath()));
+        }
+        catch (IOException e)
+        {
+            logger.error(String.format("Failed to invalidate [%s], invalidate all.", event.getPath()), e);
+            invalidateAll();
+        }
+    }
+
+    @EventListener
+    public void handle(ServerEvent event)
+    {
+        // Group members or remote repositories can be changed.
+        if (event.getType() != ServerEventTypeEnum.EVENT_SERVER_CONFIGURATION_CHANGED.getType())
+        {
+            return;
+        }
+
+        invalidateAll();
+    }
+
+    private RepositoryNegativeCache getCache(Repository repository)
+    {
+        String key = String.format("%s:%s", repository.getStorage().getId(), repository.getId());
+
+        return caches.computeIfAbsent(key,
+                                      k -> bloomFilter ? new BloomFilterNegativeCache() : new ExactNegativeCache());
+    }
+
+    public static class NegativeCacheStatistics
+    {
+
+        private final long hitCount;
+
+        private final long missCount;
+
+        private final long size;
+
+        public NegativeCacheStatistics(long hitCount,
+                                       long missCount,
+                                       long size)
+        {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.size = size;
+        }
+
+        public long getHitCount()
+        {
+            return hitCount;
+        }
+
+        public long getMissCount()
+        {
+            return missCount;
+        }
+
+        public long getSize()
+        {
+            return size;
+        }
+
+        public double getHitRatio()
+        {
+            long total = hitCount + missCount;
+
+            return total == 0 ? 0d : (double) hitCount / total;
+        }
+
+    }
+
+    private abstract class RepositoryNegativeCache
+    {
+
+        private final AtomicLong hitCount = new AtomicLong();
+
+        private final AtomicLong missCount = new AtomicLong();
+
+        public boolean isNotFound(String path)
+        {
+            boolean result = contains(path);
+            (result ? hitCount : missCount).incrementAndGet();
+
+            return result;
+        }
+
+        public NegativeCacheStatistics getStatistics()
+        {
+            return new NegativeCacheStatistics(hitCount.get(), missCount.get(), size());
+        }
+
+        protected abstract boolean contains(String path);
+
+        public abstract void put(String path);
+
+        public abstract void invalidate(String path);
+
+        protected abstract long size();
+
+    }
+
+    private class ExactNegativeCache extends RepositoryNegativeCache
+    {
+
+        private final Cache<String, Boolean> paths = CacheBuilder.newBuilder()
+                                                                 .maximumSize(maxSize)
+                                                                 .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                                                                 .build();
+
+        @Override
+        protected boolean contains(String path)
+        {
+            return paths.getIfPresent(path) != null;
+        }
+
+        @Override
+        public void put(String path)
+        {
+            paths.put(path, Boolean.TRUE);
+        }
+
+        @Override
+        public void invalidate(String path)
+        {
+            paths.invalidate(path);
+        }
+
+        @Override
+        protected long size()
+        {
+            return paths.size();
+        }
+
+    }
+
+    /**
+     * The paths are put into the current generation, which becomes the
+     * previous one after half of TTL, so the paths are kept from TTL/2 to TTL.
+     * The single path can't be removed from the Bloom filter, so both
+     * generations are reset on invalidation.
+     */
+    private class BloomFilterNegativeCache extends RepositoryNegativeCache
+    {
+
+        private BloomFilter<CharSequence> current = newBloomFilter();
+
+        private BloomFilter<CharSequence> previous = newBloomFilter();
+
+        private long rotated = System.currentTimeMillis();
+
+        private long size;
+
+        @Override
+        protected synchronized boolean contains(String path)
+        {
+            rotateIfNeeded();
+
+            return current.mightContain(path) || previous.mightContain(path);
+        }
+
+        @Override
+        public synchronized void put(String path)
+        {
+            rotateIfNeeded();
+
+            if (current.put(path))
+            {
+                size++;
+            }
+        }
+
+        @Override
+        public synchronized void invalidate(String path)
+        {
+            if (!current.mightContain(path) && !previous.mightContain(path))
+            {
+                return;
+            }
+
+            current = newBloomFilter();
+            previous = newBloomFilter();
+            size = 0;
+        }
+
+        @Override
+        protected synchronized long size()
+        {
+            return size;
+        }
+
+        private void rotateIfNeeded()
+        {
+            long now = System.currentTimeMillis();
+            long elapsed = now - rotated;
+            if (elapsed < TimeUnit.SECONDS.toMillis(ttlSeconds) / 2)
+            {
+                return;
+            }
+
+            // Both generations expired if there were no lookups for a while.
+            previous = elapsed < TimeUnit.SECONDS.toMillis(ttlSeconds) ? current : newBloomFilter();
+            current = newBloomFilter();
+            rotated = now;
+            size = 0;
+        }
+
+        private BloomFilter<CharSequence> newBloomFilter()
+        {
+            return BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), maxSize, bloomFilterFpp);
+        }
+
+    }
+
+}
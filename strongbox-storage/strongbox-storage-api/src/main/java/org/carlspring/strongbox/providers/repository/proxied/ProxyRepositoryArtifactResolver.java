@@ -3,6 +3,7 @@ package org.carlspring.strongbox.providers.repository.proxied;
 import org.carlspring.strongbox.client.RestArtifactResolver;
 import org.carlspring.strongbox.event.artifact.ArtifactEventListenerRegistry;
 import org.carlspring.strongbox.providers.io.RepositoryFileAttributes;
+import org.carlspring.strongbox.providers.io.RepositoryFiles;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.providers.io.RepositoryPathLock;
 import org.carlspring.strongbox.services.ArtifactManagementService;
@@ -14,12 +15,15 @@ import javax.inject.Inject;
 import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 
+import org.apache.commons.io.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 /**
@@ -45,6 +49,22 @@ public class ProxyRepositoryArtifactResolver
     @Inject
     private ArtifactManagementService artifactManagementService;
 
+    @Inject
+    private RemoteArtifactTransferRegistry remoteArtifactTransferRegistry;
+
+    @Value("${strongbox.proxy.teeThrough:false}")
+    private boolean teeThrough;
+
+    /**
+     * Tee-through mode is used only for artifact files, because metadata and
+     * checksums are small and may need to be processed before they served.
+     */
+    public boolean isTeeThrough(RepositoryPath repositoryPath)
+        throws IOException
+    {
+        return teeThrough && RepositoryFiles.isArtifact(repositoryPath);
+    }
+
     /**
      * This method has been developed to force fetch resource from remote.
      *
@@ -64,6 +84,15 @@ public class ProxyRepositoryArtifactResolver
             return null;
         }
 
+        if (isTeeThrough(repositoryPath))
+        {
+            RemoteArtifactTransfer transfer = remoteArtifactTransferRegistry.attachOrStart(repositoryPath,
+                                                                                           this::transfer);
+            transfer.awaitCompleted();
+
+            return repositoryPath;
+        }
+
         RestArtifactResolver client = restArtifactResolverFactory.newInstance(remoteRepository);
 
         ReadWriteLock lockSource = repositoryPathLock.lock(repositoryPath, "remote-fetch");
@@ -80,6 +109,121 @@ public class ProxyRepositoryArtifactResolver
         }
     }
 
+    /**
+     * Checks if the resource exists in the remote repository, without
+     * fetching it.
+     *
+     * @return `false` if remote repository is down
+     */
+    public boolean existsRemote(RepositoryPath repositoryPath)
+        throws IOException
+    {
+        Repository repository = repositoryPath.getFileSystem().getRepository();
+        final RemoteRepository remoteRepository = repository.getRemoteRepository();
+        if (!remoteRepositoryAlivenessCacheManager.isAlive(remoteRepository))
+        {
+            logger.debug("Remote repository '" + remoteRepository.getUrl() + "' is down.");
+
+            return false;
+        }
+
+        RestArtifactResolver client = restArtifactResolverFactory.newInstance(remoteRepository);
+
+        return new RemoteArtifactStreamFetcher(client).exists(repositoryPath);
+    }
+
+    /**
+     * Starts the remote resource download (or attaches to the one which is
+     * already in progress) and returns as soon as the remote connection
+     * established, so the artifact bytes can be served to the client while
+     * they are being cached.
+     *
+     * @return the {@link RemoteArtifactTransfer} or `null` if remote repository
+     *         is down.
+     */
+    public RemoteArtifactTransfer startRemoteTransfer(RepositoryPath repositoryPath)
+        throws IOException
+    {
+        Repository repository = repositoryPath.getFileSystem().getRepository();
+        final RemoteRepository remoteRepository = repository.getRemoteRepository();
+        if (!remoteRepositoryAlivenessCacheManager.isAlive(remoteRepository))
+        {
+            logger.debug("Remote repository '" + remoteRepository.getUrl() + "' is down.");
+
+            return null;
+        }
+
+        RemoteArtifactTransfer transfer = remoteArtifactTransferRegistry.attachOrStart(repositoryPath,
+                                                                                       this::transfer);
+        transfer.awaitConnected();
+
+        return transfer;
+    }
+
+    private void transfer(RemoteArtifactTransfer transfer)
+    {
+        RepositoryPath repositoryPath = transfer.getRepositoryPath();
+        IOException failure = null;
+        try
+        {
+            doTransfer(transfer);
+        }
+        catch (IOException e)
+        {
+            failure = e;
+        }
+        catch (Exception e)
+        {
+            failure = new IOException(e);
+        }
+        finally
+        {
+            transfer.onComplete(failure);
+        }
+
+        if (failure != null)
+        {
+            logger.error(String.format("Failed to transfer [%s]", repositoryPath), failure);
+        }
+    }
+
+    private void doTransfer(RemoteArtifactTransfer transfer)
+        throws IOException
+    {
+        RepositoryPath repositoryPath = transfer.getRepositoryPath();
+        RemoteRepository remoteRepository = repositoryPath.getRepository().getRemoteRepository();
+        RestArtifactResolver client = restArtifactResolverFactory.newInstance(remoteRepository);
+
+        ReadWriteLock lockSource = repositoryPathLock.lock(repositoryPath, "remote-fetch");
+        Lock lock = lockSource.writeLock();
+        lock.lock();
+
+        try
+        {
+            try (ProxyRepositoryInputStream pis = new ProxyRepositoryInputStream(client, repositoryPath);
+                 OutputStream spool = transfer.getSpoolOutputStream())
+            {
+                //We need this to force initialize lazy connection to remote repository.
+                pis.available();
+                transfer.onConnected(pis.getContentLength());
+
+                IOUtils.copy(pis, spool);
+            }
+            transfer.onDownloaded();
+
+            // The artifact is stored under the path write lock, so it should
+            // be done only after the readers got all the bytes from the spool.
+            try (InputStream is = new BufferedInputStream(Files.newInputStream(transfer.getSpoolPath())))
+            {
+                doFetch(repositoryPath, is);
+            }
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
     private RepositoryPath doFetch(RepositoryPath repositoryPath,
                                    InputStream is)
         throws IOException
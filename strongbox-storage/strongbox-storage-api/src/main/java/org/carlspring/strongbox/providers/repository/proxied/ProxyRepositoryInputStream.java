@@ -94,6 +94,20 @@ public class ProxyRepositoryInputStream extends FilterInputStream
         return super.available();
     }
 
+    /**
+     * @return the remote resource length, or `-1` if it's unknown.
+     */
+    public long getContentLength()
+        throws IOException
+    {
+        if (!(in instanceof RemoteArtifactStreamFetcher.RemoteArtifactInputStream))
+        {
+            return -1L;
+        }
+
+        return ((RemoteArtifactStreamFetcher.RemoteArtifactInputStream) in).getContentLength();
+    }
+
     @Override
     public void close()
         throws IOException
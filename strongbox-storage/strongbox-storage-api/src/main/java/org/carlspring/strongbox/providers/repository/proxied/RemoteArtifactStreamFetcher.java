@@ -50,6 +50,20 @@ public class RemoteArtifactStreamFetcher
 
     }
 
+    /**
+     * Checks the remote resource existence with the `HEAD` request, without
+     * the body transfer.
+     */
+    public boolean exists(RepositoryPath repositoryPath)
+        throws IOException
+    {
+        URI resource = getRestClientResourcePath(repositoryPath);
+        try (final CloseableRestResponse closeableRestResponse = client.head(resource.toString()))
+        {
+            return closeableRestResponse.getResponse().getStatus() == 200;
+        }
+    }
+
     private URI getRestClientResourcePath(final RepositoryPath artifactPath)
         throws IOException
     {
@@ -117,6 +131,15 @@ public class RemoteArtifactStreamFetcher
             return connection = RemoteArtifactStreamFetcher.this.getConnection(resource, offset);
         }
 
+        /**
+         * @return the remote resource length, or `-1` if it's unknown.
+         */
+        public long getContentLength()
+            throws IOException
+        {
+            return getConnection().getResponse().getLength();
+        }
+
         private InputStream getTarget()
             throws IOException
         {
@@ -0,0 +1,382 @@
+package org.carlspring.strongbox.providers.repository.proxied;
+
+import org.carlspring.strongbox.artifact.ArtifactNotFoundException;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Represents single in-flight remote artifact download which is being cached
+ * into the local storage. <br>
+ * All the bytes which come from remote are written into the spool file, so
+ * any number of clients can read the artifact from the very beginning while it
+ * is still being downloaded. Once downloaded, the spool is stored into the
+ * repository path, and the readers see the end of the artifact.
+ *
+ * @see RemoteArtifactTransferRegistry
+ */
+public class RemoteArtifactTransfer
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(RemoteArtifactTransfer.class);
+
+    private final RepositoryPath repositoryPath;
+
+    private final Path spoolPath;
+
+    private final FileChannel spoolChannel;
+
+    private long transferred;
+
+    private long contentLength = -1L;
+
+    private boolean connected;
+
+    private boolean downloaded;
+
+    private boolean completed;
+
+    private IOException failure;
+
+    private int readers;
+
+    public RemoteArtifactTransfer(RepositoryPath repositoryPath)
+        throws IOException
+    {
+        this.repositoryPath = repositoryPath;
+        this.spoolPath = Files.createTempFile("strongbox-remote-", ".spool");
+        this.spoolChannel = FileChannel.open(spoolPath, StandardOpenOption.WRITE);
+    }
+
+    public RepositoryPath getRepositoryPath()
+    {
+        return repositoryPath;
+    }
+
+    public synchronized long getTransferred()
+    {
+        return transferred;
+    }
+
+    /**
+     * @return the remote resource length, or `-1` if remote didn't provide it.
+     */
+    public synchronized long getContentLength()
+    {
+        return contentLength;
+    }
+
+    public synchronized boolean isCompleted()
+    {
+        return completed;
+    }
+
+    /**
+     * Returns the stream which should be used to write remote bytes into the
+     * spool file. This is expected to be invoked only once by the download
+     * thread.
+     */
+    OutputStream getSpoolOutputStream()
+    {
+        return new SpoolOutputStream();
+    }
+
+    synchronized void onConnected(long contentLength)
+    {
+        this.contentLength = contentLength;
+        this.connected = true;
+
+        notifyAll();
+    }
+
+    /**
+     * Returns the spool file, which is expected to be read by the download
+     * thread only after {@link #onDownloaded()}.
+     */
+    Path getSpoolPath()
+    {
+        return spoolPath;
+    }
+
+    /**
+     * All the remote bytes have been written into the spool, so the readers
+     * may complete before the spool stored into the repository path.
+     */
+    synchronized void onDownloaded()
+    {
+        this.downloaded = true;
+
+        notifyAll();
+    }
+
+    synchronized void onComplete(IOException e)
+    {
+        this.failure = e;
+        this.completed = true;
+        this.connected = true;
+
+        closeSpoolChannel();
+        deleteSpoolIfUnused();
+
+        notifyAll();
+    }
+
+    /**
+     * Waits until the remote connection established, so we will know whether
+     * the remote resource exists.
+     *
+     * @throws IOException
+     *             if remote connection failed (including
+     *             {@link ArtifactNotFoundException})
+     */
+    public synchronized void awaitConnected()
+        throws IOException
+    {
+        while (!connected)
+        {
+            doWait();
+        }
+
+        if (!completed || failure == null)
+        {
+            return;
+        }
+
+        throw failure;
+    }
+
+    /**
+     * Waits until the remote resource completely transferred into the local
+     * storage.
+     */
+    public synchronized void awaitCompleted()
+        throws IOException
+    {
+        while (!completed)
+        {
+            doWait();
+        }
+
+        if (failure != null)
+        {
+            throw failure;
+        }
+    }
+
+    /**
+     * Creates new {@link InputStream} which reads the artifact bytes from the
+     * very beginning, blocking while the next bytes are being downloaded.
+     */
+    public synchronized InputStream newInputStream()
+        throws IOException
+    {
+        if (completed && failure != null)
+        {
+            throw failure;
+        }
+        if (completed && !Files.exists(spoolPath))
+        {
+            return null;
+        }
+
+        FileChannel channel = FileChannel.open(spoolPath, StandardOpenOption.READ);
+        readers++;
+
+        return new TransferInputStream(channel);
+    }
+
+    private void doWait()
+        throws InterruptedIOException
+    {
+        try
+        {
+            wait();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+
+            throw new InterruptedIOException(String.format("Interrupted while waiting for [%s]", repositoryPath));
+        }
+    }
+
+    private synchronized void onWrite(int n)
+    {
+        transferred += n;
+
+        notifyAll();
+    }
+
+    private synchronized long awaitAvailable(long position)
+        throws IOException
+    {
+        while (position >= transferred && !downloaded && !completed)
+        {
+            doWait();
+        }
+
+        if (failure != null)
+        {
+            throw new IOException(String.format("Remote transfer failed for [%s]", repositoryPath), failure);
+        }
+
+        return transferred;
+    }
+
+    private synchronized void onReaderClosed()
+    {
+        readers--;
+
+        deleteSpoolIfUnused();
+    }
+
+    private void closeSpoolChannel()
+    {
+        try
+        {
+            spoolChannel.close();
+        }
+        catch (IOException e)
+        {
+            logger.error(String.format("Failed to close spool for [%s]", repositoryPath), e);
+        }
+    }
+
+    private void deleteSpoolIfUnused()
+    {
+        if (!completed || readers > 0)
+        {
+            return;
+        }
+
+        try
+        {
+            Files.deleteIfExists(spoolPath);
+        }
+        catch (IOException e)
+        {
+            logger.error(String.format("Failed to delete spool [%s] for [%s]", spoolPath, repositoryPath), e);
+        }
+    }
+
+    private class SpoolOutputStream extends OutputStream
+    {
+
+        @Override
+        public void write(int b)
+            throws IOException
+        {
+            write(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b,
+                          int off,
+                          int len)
+            throws IOException
+        {
+            ByteBuffer buffer = ByteBuffer.wrap(b, off, len);
+            while (buffer.hasRemaining())
+            {
+                spoolChannel.write(buffer);
+            }
+
+            onWrite(len);
+        }
+
+    }
+
+    private class TransferInputStream extends InputStream
+    {
+
+        private final FileChannel channel;
+
+        private long position;
+
+        private boolean closed;
+
+        private TransferInputStream(FileChannel channel)
+        {
+            this.channel = channel;
+        }
+
+        @Override
+        public int read()
+            throws IOException
+        {
+            byte[] b = new byte[1];
+            int n;
+            while ((n = read(b, 0, 1)) == 0)
+            {
+                // read until we get a byte or EOF
+            }
+
+            return n < 0 ? -1 : b[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b,
+                        int off,
+                        int len)
+            throws IOException
+        {
+            if (len == 0)
+            {
+                return 0;
+            }
+
+            long limit = awaitAvailable(position);
+            if (position >= limit)
+            {
+                return -1;
+            }
+
+            int n = channel.read(ByteBuffer.wrap(b, off, (int) Math.min(len, limit - position)), position);
+            if (n > 0)
+            {
+                position += n;
+            }
+
+            return n;
+        }
+
+        @Override
+        public int available()
+        {
+            return (int) Math.min(Integer.MAX_VALUE, Math.max(0L, getTransferred() - position));
+        }
+
+        @Override
+        public void close()
+            throws IOException
+        {
+            if (closed)
+            {
+                return;
+            }
+            closed = true;
+
+            try
+            {
+                channel.close();
+            }
+            finally
+            {
+                onReaderClosed();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,143 @@
+package org.carlspring.strongbox.providers.repository.proxied;
+
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps track of {@link RemoteArtifactTransfer}s which are currently in
+ * progress, so concurrent requests for the same path can attach to the single
+ * remote download instead of waiting for it to complete.
+ */
+@Component
+public class RemoteArtifactTransferRegistry implements DisposableBean
+{
+
+    private final Map<URI, RemoteArtifactTransfer> transfers = new ConcurrentHashMap<>();
+
+    @Value("${strongbox.proxy.teeThrough.threads:16}")
+    private int threads;
+
+    @Value("${strongbox.proxy.teeThrough.queueSize:256}")
+    private int queueSize;
+
+    private ThreadPoolExecutor executor;
+
+    private final AtomicLong startedCount = new AtomicLong();
+
+    private final AtomicLong attachedCount = new AtomicLong();
+
+    @PostConstruct
+    public void init()
+    {
+        // If the executor is saturated, the transfer is executed by the caller,
+        // so it will be completed (cached) before the response.
+        executor = new ThreadPoolExecutor(threads,
+                                          threads,
+                                          60L,
+                                          TimeUnit.SECONDS,
+                                          new LinkedBlockingQueue<>(queueSize),
+                                          new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    public RemoteArtifactTransfer get(RepositoryPath repositoryPath)
+    {
+        return transfers.get(repositoryPath.toUri());
+    }
+
+    /**
+     * Attaches to the in-flight transfer for the given path, or starts the new
+     * one with provided {@link RemoteArtifactTransferTask}.
+     */
+    public RemoteArtifactTransfer attachOrStart(RepositoryPath repositoryPath,
+                                                RemoteArtifactTransferTask task)
+        throws IOException
+    {
+        URI key = repositoryPath.toUri();
+
+        RemoteArtifactTransfer transfer = transfers.get(key);
+        if (transfer != null)
+        {
+            attachedCount.incrementAndGet();
+
+            return transfer;
+        }
+
+        synchronized (transfers)
+        {
+            transfer = transfers.get(key);
+            if (transfer != null)
+            {
+                attachedCount.incrementAndGet();
+
+                return transfer;
+            }
+
+            transfer = new RemoteArtifactTransfer(repositoryPath);
+            transfers.put(key, transfer);
+        }
+
+        RemoteArtifactTransfer newTransfer = transfer;
+        startedCount.incrementAndGet();
+        executor.execute(() -> {
+            try
+            {
+                task.execute(newTransfer);
+            }
+            finally
+            {
+                transfers.remove(key, newTransfer);
+            }
+        });
+
+        return transfer;
+    }
+
+    public int getInFlightCount()
+    {
+        return transfers.size();
+    }
+
+    public long getStartedCount()
+    {
+        return startedCount.get();
+    }
+
+    public long getAttachedCount()
+    {
+        return attachedCount.get();
+    }
+
+    @Override
+    public void destroy()
+    {
+        executor.shutdownNow();
+    }
+
+    @FunctionalInterface
+    public interface RemoteArtifactTransferTask
+    {
+
+        /**
+         * Should perform the transfer and always complete it with
+         * {@link RemoteArtifactTransfer#onComplete(IOException)}.
+         */
+        void execute(RemoteArtifactTransfer transfer);
+
+    }
+
+}
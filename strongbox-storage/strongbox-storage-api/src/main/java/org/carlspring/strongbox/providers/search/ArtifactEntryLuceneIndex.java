@@ -0,0 +1,381 @@
+package org.carlspring.strongbox.providers.search;
+
+import org.carlspring.strongbox.artifact.coordinates.ArtifactCoordinates;
+import org.carlspring.strongbox.domain.ArtifactArchiveListing;
+import org.carlspring.strongbox.domain.ArtifactEntry;
+import org.carlspring.strongbox.domain.ArtifactTag;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.core.LowerCaseFilter;
+import org.apache.lucene.analysis.miscellaneous.PerFieldAnalyzerWrapper;
+import org.apache.lucene.analysis.ngram.NGramTokenizer;
+import org.apache.lucene.analysis.util.CharTokenizer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field.Store;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.IndexWriterConfig.OpenMode;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.PhraseQuery;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+
+/**
+ * On-disk Lucene index of the {@link ArtifactEntry} names, versions,
+ * coordinates, tags and archive filenames. <br>
+ * The text is indexed twice: as the words, to match the short terms by
+ * prefix, and as the trigrams, to match the longer terms as a substring
+ * with a phrase of the term trigrams, so that there is no need to scan the
+ * whole terms dictionary as the wildcard queries do.
+ */
+public class ArtifactEntryLuceneIndex
+        implements Closeable
+{
+
+    static final String FIELD_ID = "id";
+
+    static final String FIELD_STORAGE_ID = "storageId";
+
+    static final String FIELD_REPOSITORY_ID = "repositoryId";
+
+    static final String FIELD_PATH = "path";
+
+    static final String FIELD_WORDS = "words";
+
+    static final String FIELD_TRIGRAMS = "trigrams";
+
+    static final String FIELD_FILENAME = "filename";
+
+    /**
+     * The query term prefix to match the exact archive filename, like
+     * `file:com/foo/Bar.class`.
+     */
+    public static final String FILENAME_PREFIX = "file:";
+
+    private static final int GRAM_SIZE = 3;
+
+    private final Directory directory;
+
+    private final IndexWriter indexWriter;
+
+    private final SearcherManager searcherManager;
+
+    private final boolean created;
+
+    public ArtifactEntryLuceneIndex(Path indexPath)
+        throws IOException
+    {
+        directory = FSDirectory.open(indexPath);
+        created = !DirectoryReader.indexExists(directory);
+
+        IndexWriterConfig indexWriterConfig = new IndexWriterConfig(createAnalyzer());
+        indexWriterConfig.setOpenMode(OpenMode.CREATE_OR_APPEND);
+
+        indexWriter = new IndexWriter(directory, indexWriterConfig);
+        searcherManager = new SearcherManager(indexWriter, true, null);
+    }
+
+    /**
+     * @return `true` if there was no index yet, so it should be rebuilt
+     */
+    public boolean isCreated()
+    {
+        return created;
+    }
+
+    /**
+     * @return the number of the documents, as of the last {@link #refresh()}
+     */
+    public int count()
+        throws IOException
+    {
+        IndexSearcher indexSearcher = searcherManager.acquire();
+        try
+        {
+            return indexSearcher.getIndexReader().numDocs();
+        }
+        finally
+        {
+            searcherManager.release(indexSearcher);
+        }
+    }
+
+    public void update(ArtifactEntry artifactEntry)
+        throws IOException
+    {
+        String id = documentId(artifactEntry.getStorageId(), artifactEntry.getRepositoryId(),
+                               artifactEntry.getArtifactPath());
+
+        indexWriter.updateDocument(new Term(FIELD_ID, id), toDocument(id, artifactEntry));
+    }
+
+    /**
+     * Deletes the document of the path, and all the documents under the path
+     * if it's a directory.
+     */
+    public void delete(String storageId,
+                       String repositoryId,
+                       String path)
+        throws IOException
+    {
+        String id = documentId(storageId, repositoryId, path);
+
+        indexWriter.deleteDocuments(new Term(FIELD_ID, id));
+        indexWriter.deleteDocuments(new PrefixQuery(new Term(FIELD_ID, id.endsWith("/") ? id : id + "/")));
+    }
+
+    public void deleteAll()
+        throws IOException
+    {
+        indexWriter.deleteAll();
+    }
+
+    /**
+     * Makes the changes visible for the search.
+     */
+    public void refresh()
+        throws IOException
+    {
+        searcherManager.maybeRefresh();
+    }
+
+    public void commit()
+        throws IOException
+    {
+        if (indexWriter.hasUncommittedChanges())
+        {
+            indexWriter.commit();
+        }
+    }
+
+    /**
+     * @param storageId
+     *            optional
+     * @param repositoryId
+     *            optional
+     * @param query
+     *            the whitespace separated terms, all of them should match;
+     *            the `file:` terms match the exact archive filenames
+     * @return the `storageId`, `repositoryId` and `path` of the matched
+     *         documents
+     */
+    public List<Map<String, String>> search(String storageId,
+                                            String repositoryId,
+                                            String query,
+                                            int limit)
+        throws IOException
+    {
+        Query luceneQuery = parseQuery(storageId, repositoryId, query);
+
+        IndexSearcher indexSearcher = searcherManager.acquire();
+        try
+        {
+            List<Map<String, String>> result = new ArrayList<>();
+            for (ScoreDoc scoreDoc : indexSearcher.search(luceneQuery, limit).scoreDocs)
+            {
+                Document document = indexSearcher.doc(scoreDoc.doc);
+
+                Map<String, String> hit = new HashMap<>();
+                hit.put(FIELD_STORAGE_ID, document.get(FIELD_STORAGE_ID));
+                hit.put(FIELD_REPOSITORY_ID, document.get(FIELD_REPOSITORY_ID));
+                hit.put(FIELD_PATH, document.get(FIELD_PATH));
+
+                result.add(hit);
+            }
+
+            return result;
+        }
+        finally
+        {
+            searcherManager.release(indexSearcher);
+        }
+    }
+
+    Query parseQuery(String storageId,
+                     String repositoryId,
+                     String query)
+    {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        if (storageId != null)
+        {
+            builder.add(new TermQuery(new Term(FIELD_STORAGE_ID, storageId)), Occur.FILTER);
+        }
+        if (repositoryId != null)
+        {
+            builder.add(new TermQuery(new Term(FIELD_REPOSITORY_ID, repositoryId)), Occur.FILTER);
+        }
+
+        boolean empty = true;
+        for (String term : query.trim().split("\\s+"))
+        {
+            if (term.isEmpty())
+            {
+                continue;
+            }
+            empty = false;
+
+            if (term.startsWith(FILENAME_PREFIX))
+            {
+                builder.add(new TermQuery(new Term(FIELD_FILENAME, term.substring(FILENAME_PREFIX.length()))),
+                            Occur.MUST);
+                continue;
+            }
+
+            term = term.toLowerCase(Locale.ENGLISH);
+
+            if (term.length() < GRAM_SIZE)
+            {
+                builder.add(new PrefixQuery(new Term(FIELD_WORDS, term)), Occur.MUST);
+                continue;
+            }
+
+            PhraseQuery.Builder phraseBuilder = new PhraseQuery.Builder();
+            for (int i = 0; i + GRAM_SIZE <= term.length(); i++)
+            {
+                phraseBuilder.add(new Term(FIELD_TRIGRAMS, term.substring(i, i + GRAM_SIZE)), i);
+            }
+            builder.add(phraseBuilder.build(), Occur.MUST);
+        }
+
+        if (empty)
+        {
+            builder.add(new MatchAllDocsQuery(), Occur.MUST);
+        }
+
+        return builder.build();
+    }
+
+    @Override
+    public void close()
+        throws IOException
+    {
+        try
+        {
+            searcherManager.close();
+            indexWriter.close();
+        }
+        finally
+        {
+            directory.close();
+        }
+    }
+
+    private Document toDocument(String id,
+                                ArtifactEntry artifactEntry)
+    {
+        String path = artifactEntry.getArtifactPath();
+
+        StringJoiner text = new StringJoiner("\n");
+        text.add(path.substring(path.lastIndexOf('/') + 1));
+
+        ArtifactCoordinates artifactCoordinates = artifactEntry.getArtifactCoordinates();
+        Map<String, String> coordinates = artifactCoordinates.getCoordinates();
+        coordinates.values().stream().filter(v -> v != null).forEach(text::add);
+
+        artifactEntry.getTagSet().stream().map(ArtifactTag::getName).forEach(text::add);
+
+        Document document = new Document();
+
+        ArtifactArchiveListing artifactArchiveListing = artifactEntry.getArtifactArchiveListing();
+        if (artifactArchiveListing != null)
+        {
+            Collection<String> filenames = artifactArchiveListing.getFilenames();
+            for (String filename : filenames)
+            {
+                text.add(filename);
+                document.add(new StringField(FIELD_FILENAME, filename, Store.NO));
+            }
+        }
+
+        document.add(new StringField(FIELD_ID, id, Store.NO));
+        document.add(new StringField(FIELD_STORAGE_ID, artifactEntry.getStorageId(), Store.YES));
+        document.add(new StringField(FIELD_REPOSITORY_ID, artifactEntry.getRepositoryId(), Store.YES));
+        document.add(new StringField(FIELD_PATH, path, Store.YES));
+        document.add(new TextField(FIELD_WORDS, text.toString(), Store.NO));
+        document.add(new TextField(FIELD_TRIGRAMS, text.toString(), Store.NO));
+
+        return document;
+    }
+
+    private static String documentId(String storageId,
+                                     String repositoryId,
+                                     String path)
+    {
+        return String.format("%s/%s/%s", storageId, repositoryId, path);
+    }
+
+    private static Analyzer createAnalyzer()
+    {
+        Map<String, Analyzer> analyzers = new HashMap<>();
+        analyzers.put(FIELD_WORDS, new WordAnalyzer());
+        analyzers.put(FIELD_TRIGRAMS, new Analyzer()
+        {
+            @Override
+            protected TokenStreamComponents createComponents(String fieldName)
+            {
+                Tokenizer tokenizer = new NGramTokenizer(GRAM_SIZE, GRAM_SIZE);
+                TokenStream tokenStream = new LowerCaseFilter(tokenizer);
+
+                return new TokenStreamComponents(tokenizer, tokenStream);
+            }
+        });
+
+        return new PerFieldAnalyzerWrapper(new WordAnalyzer(), analyzers);
+    }
+
+    /**
+     * Splits the text into the words of letters and digits, so that the
+     * `spring-core-5.0.jar` would be found by `spring`, `core` or `5`.
+     */
+    private static class WordTokenizer
+            extends CharTokenizer
+    {
+
+        @Override
+        protected boolean isTokenChar(int c)
+        {
+            return Character.isLetterOrDigit(c);
+        }
+
+    }
+
+    private static class WordAnalyzer
+            extends Analyzer
+    {
+
+        @Override
+        protected TokenStreamComponents createComponents(String fieldName)
+        {
+            Tokenizer tokenizer = new WordTokenizer();
+
+            return new TokenStreamComponents(tokenizer, new LowerCaseFilter(tokenizer));
+        }
+
+    }
+
+}
@@ -0,0 +1,435 @@
+package org.carlspring.strongbox.providers.search;
+
+import org.carlspring.strongbox.artifact.AsyncArtifactEntryHandler;
+import org.carlspring.strongbox.booters.PropertiesBooter;
+import org.carlspring.strongbox.data.criteria.OQueryTemplate;
+import org.carlspring.strongbox.data.criteria.Paginator;
+import org.carlspring.strongbox.data.criteria.QueryTemplate;
+import org.carlspring.strongbox.data.criteria.Selector;
+import org.carlspring.strongbox.domain.ArtifactEntry;
+import org.carlspring.strongbox.event.AsyncEventListener;
+import org.carlspring.strongbox.event.artifact.ArtifactEvent;
+import org.carlspring.strongbox.event.artifact.ArtifactEventTypeEnum;
+import org.carlspring.strongbox.providers.io.RepositoryFiles;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.services.ArtifactEntryService;
+import org.carlspring.strongbox.services.support.ArtifactEntryCursors;
+import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.storage.search.SearchRequest;
+import org.carlspring.strongbox.storage.search.SearchResult;
+import org.carlspring.strongbox.storage.search.SearchResults;
+
+import javax.inject.Inject;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Full-text search over the {@link ArtifactEntry} records of all layouts,
+ * backed by the on-disk {@link ArtifactEntryLuceneIndex}. <br>
+ * The index is fed by the artifact stored, updated and deleted events: the
+ * changed paths are collected and applied to the index every
+ * `refreshIntervalMs` within one transaction, the paths of a failed update
+ * are applied again next time. The whole index is rebuilt from the
+ * {@link ArtifactEntry} records on the start, if there was no index yet or
+ * the number of the indexed documents doesn't match the number of the
+ * records, and on demand with {@link #scheduleRebuild()}. <br>
+ * The {@link AsyncArtifactEntryHandler}s save their changes after the
+ * artifact events were handled, so they call {@link #reindex(RepositoryPath)}
+ * to index the saved entry once more.
+ */
+@Component("luceneSearchProvider")
+public class LuceneSearchProvider
+        extends AbstractSearchProvider
+        implements InitializingBean, DisposableBean
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(LuceneSearchProvider.class);
+
+    public static final String ALIAS = "Lucene";
+
+    public static final String OPTION_LIMIT = "limit";
+
+    private static final int DEFAULT_LIMIT = 100;
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    @Inject
+    private SearchProviderRegistry searchProviderRegistry;
+
+    @Inject
+    private ArtifactEntryService artifactEntryService;
+
+    @Inject
+    private PropertiesBooter propertiesBooter;
+
+    @Inject
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${strongbox.search.lucene.enabled:false}")
+    private boolean enabled;
+
+    @Value("${strongbox.search.lucene.refreshIntervalMs:1000}")
+    private long refreshIntervalMs;
+
+    /**
+     * The `storageId/repositoryId/path` keys of the changed paths, which
+     * are not applied to the index yet.
+     */
+    private final Set<String> pendingPaths = ConcurrentHashMap.newKeySet();
+
+    private ArtifactEntryLuceneIndex index;
+
+    private ScheduledExecutorService executor;
+
+    @Override
+    public void afterPropertiesSet()
+        throws IOException
+    {
+        if (!enabled)
+        {
+            return;
+        }
+
+        Path indexPath = Paths.get(propertiesBooter.getVaultDirectory(), "lucene");
+        Files.createDirectories(indexPath);
+        index = new ArtifactEntryLuceneIndex(indexPath);
+
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, LuceneSearchProvider.class.getSimpleName());
+            thread.setDaemon(true);
+
+            return thread;
+        });
+        executor.execute(() -> {
+            if (index.isCreated() || !isConsistent())
+            {
+                rebuildQuietly();
+            }
+        });
+        executor.scheduleWithFixedDelay(this::flushQuietly, refreshIntervalMs, refreshIntervalMs,
+                                        TimeUnit.MILLISECONDS);
+
+        register();
+    }
+
+    @Override
+    public void destroy()
+        throws IOException
+    {
+        if (!enabled)
+        {
+            return;
+        }
+
+        executor.shutdown();
+        try
+        {
+            executor.awaitTermination(refreshIntervalMs, TimeUnit.MILLISECONDS);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+
+        flushQuietly();
+        index.close();
+    }
+
+    @Override
+    public void register()
+    {
+        searchProviderRegistry.addProvider(ALIAS, this);
+
+        logger.info("Registered search provider '" + getClass().getCanonicalName() + "' with alias '" + ALIAS + "'.");
+    }
+
+    @Override
+    public String getAlias()
+    {
+        return ALIAS;
+    }
+
+    @Override
+    public SearchResults search(SearchRequest searchRequest)
+        throws SearchException
+    {
+        int limit = DEFAULT_LIMIT;
+        String limitOption = searchRequest.getOptions().get(OPTION_LIMIT);
+        if (limitOption != null)
+        {
+            limit = Math.min(Integer.parseInt(limitOption), Paginator.MAX_LIMIT);
+        }
+
+        List<Map<String, String>> hits;
+        try
+        {
+            hits = index.search(searchRequest.getStorageId(), searchRequest.getRepositoryId(),
+                                searchRequest.getQuery(), limit);
+        }
+        catch (IOException e)
+        {
+            throw new SearchException(e);
+        }
+
+        SearchResults searchResults = new SearchResults();
+        for (Map<String, String> hit : hits)
+        {
+            ArtifactEntry artifactEntry = artifactEntryService.findOneArtifact(hit.get(ArtifactEntryLuceneIndex.FIELD_STORAGE_ID),
+                                                                               hit.get(ArtifactEntryLuceneIndex.FIELD_REPOSITORY_ID),
+                                                                               hit.get(ArtifactEntryLuceneIndex.FIELD_PATH));
+            if (artifactEntry == null)
+            {
+                // Already deleted, but the index is not refreshed yet.
+                continue;
+            }
+
+            SearchResult searchResult = createSearchResult(artifactEntry);
+            if (searchResult != null)
+            {
+                searchResults.getResults().add(searchResult);
+            }
+        }
+
+        logger.debug("Results: {}", searchResults.getResults().size());
+
+        return searchResults;
+    }
+
+    @AsyncEventListener
+    public void handle(final ArtifactEvent<RepositoryPath> event)
+    {
+        if (!enabled)
+        {
+            return;
+        }
+
+        if (event.getType() != ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_STORED.getType()
+                && event.getType() != ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_UPDATED.getType()
+                && event.getType() != ArtifactEventTypeEnum.EVENT_ARTIFACT_PATH_DELETED.getType())
+        {
+            return;
+        }
+
+        reindex(event.getPath());
+    }
+
+    /**
+     * Schedules the path to be indexed again with the next refresh. Should be
+     * called after the {@link ArtifactEntry} was changed without the artifact
+     * event, like the archive listing saved by the async event handlers.
+     */
+    public void reindex(RepositoryPath repositoryPath)
+    {
+        if (!enabled)
+        {
+            return;
+        }
+
+        Repository repository = repositoryPath.getRepository();
+
+        pendingPaths.add(String.format("%s/%s/%s", repository.getStorage().getId(), repository.getId(),
+                                       RepositoryFiles.relativizePath(repositoryPath)));
+    }
+
+    public boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    /**
+     * Rebuilds the index in background, after the already scheduled updates.
+     */
+    public void scheduleRebuild()
+    {
+        executor.execute(this::rebuildQuietly);
+    }
+
+    /**
+     * Deletes all the documents and indexes all the {@link ArtifactEntry}
+     * records again.
+     */
+    public void rebuild()
+        throws IOException
+    {
+        index.deleteAll();
+
+        Selector<ArtifactEntry> selector = new Selector<>(ArtifactEntry.class);
+        Paginator paginator = selector.getPaginator();
+        paginator.setProperty("uuid");
+        paginator.setLimit(REBUILD_BATCH_SIZE);
+        paginator.setCursor("");
+
+        QueryTemplate<List<ArtifactEntry>, ArtifactEntry> queryTemplate = new OQueryTemplate<>(entityManager);
+        long count = 0;
+        for (int size = REBUILD_BATCH_SIZE; size == REBUILD_BATCH_SIZE; count += size)
+        {
+            size = new TransactionTemplate(transactionManager).execute(t -> {
+                List<ArtifactEntry> artifactEntries = queryTemplate.select(selector);
+                for (ArtifactEntry artifactEntry : artifactEntries)
+                {
+                    updateQuietly(artifactEntry);
+                }
+                if (!artifactEntries.isEmpty())
+                {
+                    ArtifactEntry lastArtifactEntry = artifactEntries.get(artifactEntries.size() - 1);
+                    paginator.setCursor(ArtifactEntryCursors.cursorOf(lastArtifactEntry, paginator.getProperty()));
+                }
+
+                return artifactEntries.size();
+            });
+        }
+
+        index.commit();
+        index.refresh();
+
+        logger.info(String.format("Rebuilt the search index of [%s] entries.", count));
+    }
+
+    private boolean isConsistent()
+    {
+        try
+        {
+            Selector<ArtifactEntry> selector = new Selector<>(ArtifactEntry.class).select("count(*)");
+            QueryTemplate<Long, ArtifactEntry> queryTemplate = new OQueryTemplate<>(entityManager);
+            Long count = new TransactionTemplate(transactionManager).execute(t -> queryTemplate.select(selector));
+
+            int indexCount = index.count();
+            if (count == null || count != indexCount)
+            {
+                logger.info(String.format("The search index has [%s] of [%s] entries, it will be rebuilt.",
+                                          indexCount, count));
+
+                return false;
+            }
+        }
+        catch (Exception e)
+        {
+            logger.error("Failed to check the search index.", e);
+
+            return false;
+        }
+
+        return true;
+    }
+
+    private void rebuildQuietly()
+    {
+        try
+        {
+            rebuild();
+        }
+        catch (Exception e)
+        {
+            logger.error("Failed to rebuild the search index.", e);
+        }
+    }
+
+    private void flushQuietly()
+    {
+        try
+        {
+            flush();
+        }
+        catch (Exception e)
+        {
+            logger.error("Failed to update the search index.", e);
+        }
+    }
+
+    private void flush()
+        throws IOException
+    {
+        if (pendingPaths.isEmpty())
+        {
+            return;
+        }
+
+        Set<String> keys = new HashSet<>(pendingPaths);
+        pendingPaths.removeAll(keys);
+        try
+        {
+            new TransactionTemplate(transactionManager).execute(t -> {
+                for (String key : keys)
+                {
+                    String[] storageIdRepositoryIdAndPath = key.split("/", 3);
+                    update(storageIdRepositoryIdAndPath[0], storageIdRepositoryIdAndPath[1],
+                           storageIdRepositoryIdAndPath[2]);
+                }
+
+                return null;
+            });
+
+            index.commit();
+        }
+        catch (IOException | RuntimeException e)
+        {
+            // The changes are not committed, so all of them should be applied again.
+            pendingPaths.addAll(keys);
+
+            throw e;
+        }
+
+        index.refresh();
+    }
+
+    private void update(String storageId,
+                        String repositoryId,
+                        String path)
+    {
+        ArtifactEntry artifactEntry = artifactEntryService.findOneArtifact(storageId, repositoryId, path);
+        try
+        {
+            if (artifactEntry == null)
+            {
+                index.delete(storageId, repositoryId, path);
+            }
+            else
+            {
+                index.update(artifactEntry);
+            }
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException(String.format("Failed to index [%s/%s/%s].", storageId, repositoryId, path),
+                                       e);
+        }
+    }
+
+    private void updateQuietly(ArtifactEntry artifactEntry)
+    {
+        try
+        {
+            index.update(artifactEntry);
+        }
+        catch (IOException | RuntimeException e)
+        {
+            logger.error(String.format("Failed to index [%s].", Objects.toString(artifactEntry.getUuid())), e);
+        }
+    }
+
+}
@@ -29,7 +29,7 @@ public class OrientDbSearchProvider
 
     private static final Logger logger = LoggerFactory.getLogger(OrientDbSearchProvider.class);
 
-    private static final String QUERY_PATTERN_DB = "([^=]+)=([^;]+);";
+    private static final Pattern QUERY_PATTERN_DB = Pattern.compile("([^=]+)=([^;]+);");
 
     public static final String ALIAS = "OrientDB";
 
@@ -63,8 +63,7 @@ public class OrientDbSearchProvider
 
         String query = searchRequest.getQuery();
 
-        Pattern pattern = Pattern.compile(QUERY_PATTERN_DB);
-        Matcher matcher = pattern.matcher(query);
+        Matcher matcher = QUERY_PATTERN_DB.matcher(query);
 
         if (matcher.find())
         {
@@ -1,6 +1,7 @@
 package org.carlspring.strongbox.services;
 
 import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -27,6 +28,18 @@ public interface ArtifactEntryService
 {
 
     <S extends ArtifactEntry> S save(S entity, boolean updateLastVersion);
+
+    /**
+     * Saves the entries which don't exist within the repository yet, the
+     * existing paths are checked for all the entries at once. <br>
+     * The `last-version` tag is calculated once per package, only the greatest
+     * of the tagged entries keeps the tag.
+     *
+     * @return the saved entries
+     */
+    <S extends ArtifactEntry> List<S> saveIfAbsent(String storageId,
+                                                   String repositoryId,
+                                                   Collection<S> entities);
     
     /**
      * Returns list of artifacts that matches search query defined as {@link ArtifactCoordinates} fields. By default all
@@ -75,10 +88,32 @@ public interface ArtifactEntryService
                            String repositoryId,
                            String path);
 
+    /**
+     * Checks the existence of several paths at once.
+     *
+     * @return the paths from `paths` which have {@link ArtifactEntry} within
+     *         any of the given repositories
+     */
+    Set<String> findExistingArtifactPaths(Collection<Pair<String, String>> storageRepositoryPairList,
+                                          Collection<String> paths);
+
     ArtifactEntry findOneArtifact(String storageId,
                                   String repositoryId,
                                   String path);
 
     int delete(List<ArtifactEntry> artifactEntries);
 
+    /**
+     * Atomically increments the `downloadCount` and sets the `lastUsed` date
+     * of the {@link ArtifactEntry} with given path, without loading the
+     * entity.
+     *
+     * @return `false` if there is no {@link ArtifactEntry} for the path
+     */
+    boolean updateDownloadStatistics(String storageId,
+                                     String repositoryId,
+                                     String path,
+                                     int downloadCount,
+                                     Date lastUsed);
+
 }
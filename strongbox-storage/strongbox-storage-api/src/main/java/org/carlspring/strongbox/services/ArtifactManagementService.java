@@ -13,6 +13,7 @@ import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.providers.io.RepositoryPathLock;
 import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
 import org.carlspring.strongbox.providers.io.RepositoryStreamSupport.RepositoryOutputStream;
+import org.carlspring.strongbox.providers.io.StorageFileSystemProvider.TempOutputStream;
 import org.carlspring.strongbox.providers.layout.LayoutFileSystemProvider;
 import org.carlspring.strongbox.providers.layout.LayoutProviderRegistry;
 import org.carlspring.strongbox.storage.ArtifactStorageException;
@@ -95,6 +96,26 @@ public class ArtifactManagementService
         performRepositoryAcceptanceValidation(repositoryPath);
         return doStore(repositoryPath, is);
     }
+
+    /**
+     * Same as {@link #validateAndStore(RepositoryPath, InputStream)}, but the
+     * artifact content is written by the `contentWriter` directly into the
+     * repository output stream (e.g. decoded from the request body on the
+     * fly). <br>
+     * If the `contentWriter` fails, the written content is discarded and the
+     * previously stored artifact stays unchanged.
+     */
+    @Transactional
+    public long validateAndStore(RepositoryPath repositoryPath,
+                                 ArtifactContentWriter contentWriter)
+        throws IOException,
+        ProviderImplementationException,
+        NoSuchAlgorithmException,
+        ArtifactCoordinatesValidationException
+    {
+        performRepositoryAcceptanceValidation(repositoryPath);
+        return doStore(repositoryPath, contentWriter);
+    }
     
     @Deprecated
     @Transactional
@@ -123,6 +144,13 @@ public class ArtifactManagementService
     private long doStore(RepositoryPath repositoryPath,
                          InputStream is)
             throws IOException
+    {
+        return doStore(repositoryPath, os -> IOUtils.copy(is, os));
+    }
+
+    private long doStore(RepositoryPath repositoryPath,
+                         ArtifactContentWriter contentWriter)
+            throws IOException
     {
         long result;
         boolean updatedArtifactFile = false;
@@ -134,7 +162,15 @@ public class ArtifactManagementService
         
         try (final RepositoryOutputStream aos = artifactResolutionService.getOutputStream(repositoryPath))
         {
-            result = writeArtifact(repositoryPath, is, aos);
+            try
+            {
+                result = writeArtifact(repositoryPath, contentWriter, aos);
+            }
+            catch (IOException | RuntimeException e)
+            {
+                abort(aos);
+                throw e;
+            }
             aos.flush();
         }
         catch (IOException e)
@@ -164,8 +200,21 @@ public class ArtifactManagementService
         return result;
     }
 
+    /**
+     * Marks the temporary file behind the stream as aborted, so it will be
+     * deleted instead of being moved to the artifact path on close.
+     */
+    private void abort(OutputStream os)
+    {
+        TempOutputStream tempOutputStream = StreamUtils.findSource(TempOutputStream.class, os);
+        if (tempOutputStream != null)
+        {
+            tempOutputStream.abort();
+        }
+    }
+
     private long writeArtifact(RepositoryPath repositoryPath,
-                               InputStream is,
+                               ArtifactContentWriter contentWriter,
                                OutputStream os)
             throws IOException
     {
@@ -186,7 +235,7 @@ public class ArtifactManagementService
             artifactEventListenerRegistry.dispatchArtifactUploadingEvent(repositoryPath);
         }
         
-        long totalAmountOfBytes = IOUtils.copy(is, os);
+        long totalAmountOfBytes = contentWriter.write(os);
 
         URI repositoryPathId = repositoryPath.toUri();
         Map<String, String> digestMap = aos.getDigestMap();
@@ -386,4 +435,16 @@ public class ArtifactManagementService
         }
     }
 
+    @FunctionalInterface
+    public interface ArtifactContentWriter
+    {
+
+        /**
+         * @return the number of bytes written
+         */
+        long write(OutputStream os)
+            throws IOException;
+
+    }
+
 }
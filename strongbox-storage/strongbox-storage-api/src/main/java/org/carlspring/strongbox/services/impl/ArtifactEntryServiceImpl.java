@@ -7,6 +7,7 @@ import org.carlspring.strongbox.domain.ArtifactEntry;
 import org.carlspring.strongbox.domain.ArtifactTagEntry;
 import org.carlspring.strongbox.services.ArtifactEntryService;
 import org.carlspring.strongbox.services.ArtifactTagService;
+import org.carlspring.strongbox.services.support.ArtifactEntryLookupCache;
 import org.carlspring.strongbox.services.support.ArtifactEntrySearchCriteria;
 
 import javax.inject.Inject;
@@ -15,6 +16,7 @@ import java.util.Map.Entry;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.sql.OCommandSQL;
@@ -42,6 +44,9 @@ class ArtifactEntryServiceImpl extends AbstractArtifactEntryService
 
     @Inject
     private ArtifactTagService artifactTagService;
+
+    @Inject
+    private ArtifactEntryLookupCache artifactEntryLookupCache;
     
     @Override
     public <S extends ArtifactEntry> S save(S entity,
@@ -67,9 +72,65 @@ class ArtifactEntryServiceImpl extends AbstractArtifactEntryService
             updateLastVersionTag(entity);
         }
 
+        invalidateLookup(entity);
+
         return super.save(entity);
     }
 
+    @Override
+    public <S extends ArtifactEntry> List<S> saveIfAbsent(String storageId,
+                                                          String repositoryId,
+                                                          Collection<S> entities)
+    {
+        if (CollectionUtils.isEmpty(entities))
+        {
+            return Collections.emptyList();
+        }
+
+        Map<String, S> entityMap = new LinkedHashMap<>();
+        for (S entity : entities)
+        {
+            Assert.isTrue(storageId.equals(entity.getStorageId()) && repositoryId.equals(entity.getRepositoryId()),
+                          String.format("Entry [%s] should belong to [%s/%s].", entity.getArtifactPath(),
+                                        storageId, repositoryId));
+            entityMap.putIfAbsent(entity.getArtifactCoordinates().toPath(), entity);
+        }
+
+        findExistingArtifactPaths(storageId, repositoryId, entityMap.keySet()).forEach(entityMap::remove);
+        if (entityMap.isEmpty())
+        {
+            return Collections.emptyList();
+        }
+
+        ArtifactTag lastVersionTag = artifactTagService.findOneOrCreate(ArtifactTagEntry.LAST_VERSION);
+        Map<Map<String, String>, List<S>> packageMap = entityMap.values()
+                                                                .stream()
+                                                                .filter(e -> e.getTagSet().contains(lastVersionTag))
+                                                                .collect(Collectors.groupingBy(e -> e.getArtifactCoordinates()
+                                                                                                     .dropVersion()));
+        for (List<S> packageEntities : packageMap.values())
+        {
+            S lastVersionEntity = packageEntities.stream()
+                                                 .max((e1,
+                                                       e2) -> e1.getArtifactCoordinates()
+                                                                .compareTo(e2.getArtifactCoordinates()))
+                                                 .get();
+            packageEntities.stream()
+                           .filter(e -> e != lastVersionEntity)
+                           .forEach(e -> e.getTagSet().remove(lastVersionTag));
+
+            updateLastVersionTag(lastVersionEntity);
+        }
+
+        List<S> result = new ArrayList<>(entityMap.size());
+        for (S entity : entityMap.values())
+        {
+            result.add(save(entity, false));
+        }
+
+        return result;
+    }
+
     private boolean artifactEntryIsSavedForTheFirstTime(ArtifactEntry artifactEntry)
     {
         return artifactEntry.getUuid() == null;
@@ -444,18 +505,27 @@ class ArtifactEntryServiceImpl extends AbstractArtifactEntryService
         return Optional.ofNullable(artifactEntryId)
                        .flatMap(id -> Optional.ofNullable(entityManager.find(ArtifactEntry.class, id)))
                        .map(e -> detach(e))
-                       .orElse(null);
+                       .orElseGet(() -> {
+                           // Cached ID may refer to the record which was removed on another node.
+                           if (artifactEntryId != null)
+                           {
+                               artifactEntryLookupCache.invalidate(storageId, repositoryId, path);
+                           }
+                           return null;
+                       });
     }
     
     @Override
     public void delete(String id)
     {
         super.delete(id);
+        artifactEntryLookupCache.invalidateAll();
     }
 
     @Override
     public void delete(ArtifactEntry entity)
     {
+        invalidateLookup(entity);
         super.delete(entity);
     }
 
@@ -463,6 +533,7 @@ class ArtifactEntryServiceImpl extends AbstractArtifactEntryService
     public void deleteAll()
     {
         super.deleteAll();
+        artifactEntryLookupCache.invalidateAll();
     }
 
     @Override
@@ -479,13 +550,130 @@ class ArtifactEntryServiceImpl extends AbstractArtifactEntryService
         Map<String, Object> parameterMap = new HashMap<>();
         parameterMap.put("uuids", artifactEntries.stream().map(ArtifactEntry::getUuid).collect(Collectors.toList()));
 
+        artifactEntries.stream().forEach(this::invalidateLookup);
+
         OCommandSQL oCommandSQL = new OCommandSQL(sb.toString());
         return getDelegate().command(oCommandSQL).execute(parameterMap);
     }
 
+    @Override
+    public boolean updateDownloadStatistics(String storageId,
+                                            String repositoryId,
+                                            String path,
+                                            int downloadCount,
+                                            Date lastUsed)
+    {
+        ORID artifactEntryId = findArtifactEntryId(storageId, repositoryId, path);
+        if (artifactEntryId == null)
+        {
+            return false;
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("UPDATE ")
+          .append(getEntityClass().getSimpleName())
+          .append(" SET lastUsed = :lastUsed INCREMENT downloadCount = :downloadCount WHERE @rid = :rid");
+
+        Map<String, Object> parameterMap = new HashMap<>();
+        parameterMap.put("lastUsed", lastUsed);
+        parameterMap.put("downloadCount", downloadCount);
+        parameterMap.put("rid", artifactEntryId);
+
+        OCommandSQL oCommandSQL = new OCommandSQL(sb.toString());
+        Integer updated = getDelegate().command(oCommandSQL).execute(parameterMap);
+        if (updated == null || updated == 0)
+        {
+            artifactEntryLookupCache.invalidate(storageId, repositoryId, path);
+
+            return false;
+        }
+
+        return true;
+    }
+
+    private void invalidateLookup(ArtifactEntry entity)
+    {
+        if (entity.getArtifactCoordinates() == null)
+        {
+            return;
+        }
+
+        artifactEntryLookupCache.invalidate(entity.getStorageId(), entity.getRepositoryId(), entity.getArtifactPath());
+    }
+
+    /**
+     * @return the paths from `paths` which already have {@link ArtifactEntry}
+     *         within the repository
+     */
+    private Set<String> findExistingArtifactPaths(String storageId,
+                                                  String repositoryId,
+                                                  Collection<String> paths)
+    {
+        return findExistingArtifactPaths(toList(storageId, repositoryId), paths);
+    }
+
+    @Override
+    public Set<String> findExistingArtifactPaths(Collection<Pair<String, String>> storageRepositoryPairList,
+                                                 Collection<String> paths)
+    {
+        if (CollectionUtils.isEmpty(storageRepositoryPairList) || CollectionUtils.isEmpty(paths))
+        {
+            return Collections.emptySet();
+        }
+
+        String sQuery = String.format("SELECT FROM INDEX:idx_artifact_coordinates WHERE key IN :paths");
+
+        HashMap<String, Object> params = new HashMap<>();
+        params.put("paths", new ArrayList<>(paths));
+
+        List<ODocument> resultList = getDelegate().command(new OSQLSynchQuery<>(sQuery)).execute(params);
+        Map<ORID, String> artifactCoordinatesPathMap = resultList.stream()
+                                                                 .collect(Collectors.toMap(d -> ((ODocument) d.field("rid")).getIdentity(),
+                                                                                           d -> (String) d.field("key"),
+                                                                                           (p1,
+                                                                                            p2) -> p1));
+        if (artifactCoordinatesPathMap.isEmpty())
+        {
+            return Collections.emptySet();
+        }
+
+        Pair<String, String>[] p = storageRepositoryPairList.toArray(new Pair[storageRepositoryPairList.size()]);
+        String repositoriesCondition = IntStream.range(0, p.length)
+                                                .mapToObj(idx -> calculateStorageAndRepositoryCondition(p[idx], idx))
+                                                .collect(Collectors.joining(" OR "));
+
+        sQuery = String.format("SELECT artifactCoordinates FROM %s WHERE (%s) AND artifactCoordinates IN :artifactCoordinatesIds",
+                               getEntityClass().getSimpleName(), repositoriesCondition);
+
+        params = new HashMap<>();
+        for (int idx = 0; idx < p.length; idx++)
+        {
+            params.put(String.format("storageId%s", idx), p[idx].getValue0());
+            params.put(String.format("repositoryId%s", idx), p[idx].getValue1());
+        }
+        params.put("artifactCoordinatesIds", new ArrayList<>(artifactCoordinatesPathMap.keySet()));
+
+        resultList = getDelegate().command(new OSQLSynchQuery<>(sQuery)).execute(params);
+
+        return resultList.stream()
+                         .map(d -> d.field("artifactCoordinates"))
+                         .filter(c -> c instanceof OIdentifiable)
+                         .map(c -> artifactCoordinatesPathMap.get(((OIdentifiable) c).getIdentity()))
+                         .filter(Objects::nonNull)
+                         .collect(Collectors.toSet());
+    }
+
     private ORID findArtifactEntryId(String storageId,
                                      String repositoryId,
                                      String path)
+    {
+        return artifactEntryLookupCache.get(storageId, repositoryId, path,
+                                            () -> queryArtifactEntryId(storageId, repositoryId, path));
+    }
+
+    private ORID queryArtifactEntryId(String storageId,
+                                      String repositoryId,
+                                      String path)
     {
         String sQuery = String.format("SELECT FROM INDEX:idx_artifact_coordinates WHERE key = :path");
 
@@ -5,6 +5,7 @@ import org.carlspring.strongbox.configuration.*;
 import org.carlspring.strongbox.event.repository.RepositoryEvent;
 import org.carlspring.strongbox.event.repository.RepositoryEventListenerRegistry;
 import org.carlspring.strongbox.event.repository.RepositoryEventTypeEnum;
+import org.carlspring.strongbox.event.server.ServerEventListenerRegistry;
 import org.carlspring.strongbox.providers.layout.LayoutProvider;
 import org.carlspring.strongbox.providers.layout.LayoutProviderRegistry;
 import org.carlspring.strongbox.service.ProxyRepositoryConnectionPoolConfigurationService;
@@ -19,7 +20,6 @@ import javax.inject.Inject;
 import java.lang.reflect.UndeclaredThrowableException;
 import java.util.*;
 import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Consumer;
 
@@ -39,7 +39,7 @@ public class ConfigurationManagementServiceImpl
         implements ConfigurationManagementService
 {
 
-    private final ReadWriteLock configurationLock = new ReentrantReadWriteLock();
+    private final ReentrantReadWriteLock configurationLock = new ReentrantReadWriteLock();
 
     @Inject
     private ConfigurationFileManager configurationFileManager;
@@ -47,6 +47,9 @@ public class ConfigurationManagementServiceImpl
     @Inject
     private RepositoryEventListenerRegistry repositoryEventListenerRegistry;
 
+    @Inject
+    private ServerEventListenerRegistry serverEventListenerRegistry;
+
     @Inject
     private LayoutProviderRegistry layoutProviderRegistry;
 
@@ -65,6 +68,15 @@ public class ConfigurationManagementServiceImpl
      */
     private MutableConfiguration configuration;
 
+    /**
+     * The immutable copy of {@link #configuration}, which is built once per
+     * change and published by {@link #modifyInLock(Consumer, boolean)}, so
+     * the readers don't need any locks or copies.
+     *
+     * @see #getConfiguration()
+     */
+    private volatile Configuration configurationSnapshot;
+
     @PostConstruct
     public void init()
     {
@@ -103,17 +115,7 @@ public class ConfigurationManagementServiceImpl
     @Override
     public Configuration getConfiguration()
     {
-        final Lock readLock = configurationLock.readLock();
-        readLock.lock();
-
-        try
-        {
-            return new Configuration(configuration);
-        }
-        finally
-        {
-            readLock.unlock();
-        }
+        return configurationSnapshot;
     }
 
     @Override
@@ -634,11 +636,19 @@ public class ConfigurationManagementServiceImpl
             {
                 configurationFileManager.store(configuration);
             }
+
+            // Nested modifications will be published with the outermost one.
+            if (configurationLock.getWriteHoldCount() == 1)
+            {
+                configurationSnapshot = new Configuration(configuration);
+            }
         }
         finally
         {
             writeLock.unlock();
         }
+
+        serverEventListenerRegistry.dispatchConfigurationChangedEvent();
     }
 
 }
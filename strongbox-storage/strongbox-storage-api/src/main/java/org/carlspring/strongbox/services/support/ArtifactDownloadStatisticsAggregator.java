@@ -0,0 +1,327 @@
+package org.carlspring.strongbox.services.support;
+
+import org.carlspring.strongbox.providers.io.RepositoryFiles;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.services.ArtifactEntryService;
+import org.carlspring.strongbox.storage.repository.Repository;
+
+import javax.inject.Inject;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.orientechnologies.common.concur.ONeedRetryException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Write-behind aggregator for the `ArtifactEntry` download statistics. <br>
+ * Downloads are folded in memory per artifact path and then flushed with single
+ * transaction every `flushIntervalMs` or after `flushSize` downloads, so we
+ * don't need to lock and update the `ArtifactEntry` on each download.
+ */
+@Component
+public class ArtifactDownloadStatisticsAggregator implements InitializingBean, DisposableBean
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(ArtifactDownloadStatisticsAggregator.class);
+
+    private static final int MAX_RETRY = 10;
+
+    private final ArtifactEntryService artifactEntryService;
+
+    private final PlatformTransactionManager transactionManager;
+
+    private final long flushIntervalMs;
+
+    private final int flushSize;
+
+    private final int maxPending;
+
+    /**
+     * The map bins are locked on `compute`, so there is no contention between
+     * downloads of different artifacts.
+     */
+    private final Map<String, PendingDownloads> pending = new ConcurrentHashMap<>();
+
+    private final AtomicInteger pendingDownloadCount = new AtomicInteger();
+
+    private final AtomicLong flushedDownloadCount = new AtomicLong();
+
+    private final AtomicLong droppedDownloadCount = new AtomicLong();
+
+    private final AtomicLong flushCount = new AtomicLong();
+
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    private ScheduledExecutorService executor;
+
+    @Inject
+    ArtifactDownloadStatisticsAggregator(ArtifactEntryService artifactEntryService,
+                                         PlatformTransactionManager transactionManager,
+                                         @Value("${strongbox.artifact.downloadStatistics.flushIntervalMs:1000}") long flushIntervalMs,
+                                         @Value("${strongbox.artifact.downloadStatistics.flushSize:1000}") int flushSize,
+                                         @Value("${strongbox.artifact.downloadStatistics.maxPending:10000}") int maxPending)
+    {
+        this.artifactEntryService = artifactEntryService;
+        this.transactionManager = transactionManager;
+        this.flushIntervalMs = flushIntervalMs;
+        this.flushSize = flushSize;
+        this.maxPending = maxPending;
+    }
+
+    @Override
+    public void afterPropertiesSet()
+    {
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, ArtifactDownloadStatisticsAggregator.class.getSimpleName());
+            thread.setDaemon(true);
+
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy()
+    {
+        executor.shutdown();
+        try
+        {
+            executor.awaitTermination(flushIntervalMs, TimeUnit.MILLISECONDS);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+
+        flushQuietly();
+    }
+
+    /**
+     * Registers single download of the artifact.
+     */
+    public void record(RepositoryPath repositoryPath)
+        throws IOException
+    {
+        Repository repository = repositoryPath.getRepository();
+        String path = RepositoryFiles.relativizePath(repositoryPath);
+
+        record(repository.getStorage().getId(), repository.getId(), path, new Date());
+    }
+
+    public void record(String storageId,
+                       String repositoryId,
+                       String path,
+                       Date lastUsed)
+    {
+        String key = String.format("%s/%s/%s", storageId, repositoryId, path);
+        if (pending.size() >= maxPending && !pending.containsKey(key))
+        {
+            droppedDownloadCount.incrementAndGet();
+            logger.warn(String.format("Too many pending downloads [%s], statistics for [%s] dropped.",
+                                      pending.size(), key));
+            scheduleFlush();
+
+            return;
+        }
+
+        pending.compute(key, (k, v) -> (v == null ? new PendingDownloads(storageId, repositoryId, path) : v).add(lastUsed));
+
+        if (pendingDownloadCount.incrementAndGet() >= flushSize)
+        {
+            scheduleFlush();
+        }
+    }
+
+    /**
+     * Flushes all the pending downloads into the database.
+     */
+    public synchronized void flush()
+    {
+        List<PendingDownloads> batch = new ArrayList<>(pending.size());
+        for (String key : pending.keySet())
+        {
+            PendingDownloads downloads = pending.remove(key);
+            if (downloads == null)
+            {
+                continue;
+            }
+
+            pendingDownloadCount.addAndGet(-downloads.count);
+            batch.add(downloads);
+        }
+
+        if (batch.isEmpty())
+        {
+            return;
+        }
+
+        try
+        {
+            flushWithRetry(batch);
+        }
+        catch (RuntimeException e)
+        {
+            // Put the downloads back to not lose them, they will be flushed next time.
+            batch.forEach(this::merge);
+
+            throw e;
+        }
+
+        flushCount.incrementAndGet();
+        flushedDownloadCount.addAndGet(batch.stream().mapToLong(d -> d.count).sum());
+    }
+
+    private void flushWithRetry(List<PendingDownloads> batch)
+    {
+        for (int i = 1; i <= MAX_RETRY; i++)
+        {
+            try
+            {
+                new TransactionTemplate(transactionManager).execute(t -> {
+                    batch.forEach(this::flush);
+
+                    return null;
+                });
+
+                return;
+            }
+            catch (ONeedRetryException e)
+            {
+                logger.debug(String.format("Retry flush [%s] downloads.", batch.size()));
+                if (i >= MAX_RETRY)
+                {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private void flush(PendingDownloads downloads)
+    {
+        if (artifactEntryService.updateDownloadStatistics(downloads.storageId,
+                                                          downloads.repositoryId,
+                                                          downloads.path,
+                                                          downloads.count,
+                                                          new Date(downloads.lastUsed)))
+        {
+            return;
+        }
+
+        logger.debug(String.format("No ArtifactEntry found for [%s/%s/%s], [%s] downloads skipped.",
+                                   downloads.storageId, downloads.repositoryId, downloads.path, downloads.count));
+    }
+
+    private void merge(PendingDownloads downloads)
+    {
+        String key = String.format("%s/%s/%s", downloads.storageId, downloads.repositoryId, downloads.path);
+
+        pending.merge(key, downloads, (v1, v2) -> v1.merge(v2));
+        pendingDownloadCount.addAndGet(downloads.count);
+    }
+
+    private void scheduleFlush()
+    {
+        if (!flushScheduled.compareAndSet(false, true) || executor.isShutdown())
+        {
+            return;
+        }
+
+        executor.execute(() -> {
+            flushScheduled.set(false);
+            flushQuietly();
+        });
+    }
+
+    private void flushQuietly()
+    {
+        try
+        {
+            flush();
+        }
+        catch (Exception e)
+        {
+            logger.error("Failed to flush download statistics.", e);
+        }
+    }
+
+    /**
+     * @return the number of downloads which are waiting to be flushed
+     */
+    public int getPendingDownloadCount()
+    {
+        return pendingDownloadCount.get();
+    }
+
+    public long getFlushedDownloadCount()
+    {
+        return flushedDownloadCount.get();
+    }
+
+    public long getDroppedDownloadCount()
+    {
+        return droppedDownloadCount.get();
+    }
+
+    public long getFlushCount()
+    {
+        return flushCount.get();
+    }
+
+    private static class PendingDownloads
+    {
+
+        private final String storageId;
+
+        private final String repositoryId;
+
+        private final String path;
+
+        private int count;
+
+        private long lastUsed;
+
+        private PendingDownloads(String storageId,
+                                 String repositoryId,
+                                 String path)
+        {
+            this.storageId = storageId;
+            this.repositoryId = repositoryId;
+            this.path = path;
+        }
+
+        private PendingDownloads add(Date date)
+        {
+            count++;
+            lastUsed = Math.max(lastUsed, date.getTime());
+
+            return this;
+        }
+
+        private PendingDownloads merge(PendingDownloads other)
+        {
+            count += other.count;
+            lastUsed = Math.max(lastUsed, other.lastUsed);
+
+            return this;
+        }
+
+    }
+
+}
@@ -0,0 +1,170 @@
+package org.carlspring.strongbox.services.support;
+
+import org.carlspring.strongbox.domain.ArtifactEntry;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.io.RepositoryPathLock;
+import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
+import org.carlspring.strongbox.services.ArtifactEntryService;
+
+import javax.inject.Inject;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+
+import com.google.common.collect.Lists;
+import com.orientechnologies.common.concur.ONeedRetryException;
+import com.orientechnologies.orient.core.storage.ORecordDuplicatedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Bulk ingest of {@link ArtifactEntry} records (like the entries of remote
+ * repository feeds). <br>
+ * The entries are saved within one transaction per `batchSize` entries with
+ * {@link ArtifactEntryService#saveIfAbsent(String, String, Collection)}, so
+ * there is no need to check and save each entry separately. The path write
+ * locks of the batch are taken in the path order before the transaction, the
+ * same way as for the single entry. The batch is retried if some of the paths
+ * were stored concurrently, the existing paths will be skipped on the next
+ * attempt.
+ */
+@Component
+public class ArtifactEntryBulkWriter
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(ArtifactEntryBulkWriter.class);
+
+    private static final int MAX_RETRY = 10;
+
+    private ArtifactEntryService artifactEntryService;
+
+    private PlatformTransactionManager transactionManager;
+
+    private RepositoryPathResolver repositoryPathResolver;
+
+    private RepositoryPathLock repositoryPathLock;
+
+    @Value("${strongbox.artifactEntry.bulkWriter.batchSize:500}")
+    private int batchSize;
+
+    /**
+     * The collaborators are injected with setters rather than the constructor,
+     * because the layout providers, which are needed to resolve the paths,
+     * depend on this writer.
+     */
+    @Inject
+    void setArtifactEntryService(ArtifactEntryService artifactEntryService)
+    {
+        this.artifactEntryService = artifactEntryService;
+    }
+
+    @Inject
+    void setTransactionManager(PlatformTransactionManager transactionManager)
+    {
+        this.transactionManager = transactionManager;
+    }
+
+    @Inject
+    void setRepositoryPathResolver(RepositoryPathResolver repositoryPathResolver)
+    {
+        this.repositoryPathResolver = repositoryPathResolver;
+    }
+
+    @Inject
+    void setRepositoryPathLock(RepositoryPathLock repositoryPathLock)
+    {
+        this.repositoryPathLock = repositoryPathLock;
+    }
+
+    void setBatchSize(int batchSize)
+    {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * @return the number of saved entries
+     */
+    public <S extends ArtifactEntry> int write(String storageId,
+                                               String repositoryId,
+                                               Collection<S> entities)
+        throws IOException
+    {
+        int result = 0;
+        for (List<S> batch : Lists.partition(new ArrayList<>(entities), batchSize))
+        {
+            result += writeWithLock(storageId, repositoryId, batch);
+        }
+
+        logger.debug(String.format("Saved [%s] of [%s] entries into [%s/%s].", result, entities.size(), storageId,
+                                   repositoryId));
+
+        return result;
+    }
+
+    private <S extends ArtifactEntry> int writeWithLock(String storageId,
+                                                        String repositoryId,
+                                                        List<S> batch)
+        throws IOException
+    {
+        List<RepositoryPath> repositoryPaths = new ArrayList<>();
+        for (S entity : batch)
+        {
+            repositoryPaths.add(repositoryPathResolver.resolve(storageId, repositoryId,
+                                                               entity.getArtifactCoordinates().toPath()));
+        }
+        // The locks are always taken in the same order to avoid deadlocks
+        // between the concurrent batches.
+        repositoryPaths.sort(Comparator.comparing(RepositoryPath::toString));
+
+        LinkedList<Lock> locks = new LinkedList<>();
+        try
+        {
+            for (RepositoryPath repositoryPath : repositoryPaths)
+            {
+                Lock lock = repositoryPathLock.lock(repositoryPath).writeLock();
+                lock.lock();
+                locks.push(lock);
+            }
+
+            return writeWithRetry(storageId, repositoryId, batch);
+        }
+        finally
+        {
+            locks.forEach(Lock::unlock);
+        }
+    }
+
+    private <S extends ArtifactEntry> int writeWithRetry(String storageId,
+                                                         String repositoryId,
+                                                         List<S> batch)
+    {
+        for (int i = 1; true; i++)
+        {
+            try
+            {
+                return new TransactionTemplate(transactionManager).execute(t -> artifactEntryService.saveIfAbsent(storageId,
+                                                                                                                   repositoryId,
+                                                                                                                   batch)
+                                                                                                     .size());
+            }
+            catch (ONeedRetryException | ORecordDuplicatedException e)
+            {
+                logger.debug(String.format("Retry save [%s] entries into [%s/%s].", batch.size(), storageId,
+                                           repositoryId));
+                if (i >= MAX_RETRY)
+                {
+                    throw e;
+                }
+            }
+        }
+    }
+
+}
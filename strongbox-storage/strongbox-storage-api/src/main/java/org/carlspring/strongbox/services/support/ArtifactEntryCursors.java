@@ -0,0 +1,88 @@
+package org.carlspring.strongbox.services.support;
+
+import org.carlspring.strongbox.artifact.coordinates.ArtifactCoordinates;
+import org.carlspring.strongbox.data.criteria.Paginator;
+import org.carlspring.strongbox.data.criteria.Paginator.Order;
+import org.carlspring.strongbox.domain.ArtifactEntry;
+
+import java.util.Comparator;
+import java.util.function.Function;
+
+/**
+ * Keyset paging support for {@link ArtifactEntry} queries. <br>
+ * Only the `uuid` and `artifactCoordinates.coordinates.*` properties can be
+ * used as the cursor sort key, because their values are strings and can be
+ * compared within query the same way as here.
+ */
+public class ArtifactEntryCursors
+{
+
+    private static final String UUID_PROPERTY = "uuid";
+
+    private static final String COORDINATES_PROPERTY_PREFIX = "artifactCoordinates.coordinates.";
+
+    private ArtifactEntryCursors()
+    {
+    }
+
+    public static boolean isSupported(String property)
+    {
+        return UUID_PROPERTY.equals(property)
+                || property != null && property.startsWith(COORDINATES_PROPERTY_PREFIX)
+                        && property.length() > COORDINATES_PROPERTY_PREFIX.length();
+    }
+
+    public static String sortKey(ArtifactEntry artifactEntry,
+                                 String property)
+    {
+        if (UUID_PROPERTY.equals(property))
+        {
+            return artifactEntry.getUuid();
+        }
+
+        ArtifactCoordinates coordinates = artifactEntry.getArtifactCoordinates();
+        if (coordinates == null)
+        {
+            return null;
+        }
+
+        return (String) coordinates.getCoordinates().get(property.substring(COORDINATES_PROPERTY_PREFIX.length()));
+    }
+
+    /**
+     * @return the cursor to get the page next to the `artifactEntry`
+     */
+    public static String cursorOf(ArtifactEntry artifactEntry,
+                                  String property)
+    {
+        return Paginator.cursorOf(sortKey(artifactEntry, property), artifactEntry.getUuid());
+    }
+
+    /**
+     * @return the comparator which orders the entries the same way as
+     *         `paginator` orders the query results
+     */
+    public static Comparator<ArtifactEntry> comparator(Paginator paginator)
+    {
+        String property = paginator.getProperty();
+
+        return comparator(paginator, e -> sortKey(e, property), ArtifactEntry::getUuid);
+    }
+
+    /**
+     * Same as {@link #comparator(Paginator)}, but for the items which hold the
+     * already calculated sort key and `uuid` of their entries.
+     */
+    public static <T> Comparator<T> comparator(Paginator paginator,
+                                               Function<T, String> sortKey,
+                                               Function<T, String> uuid)
+    {
+        Comparator<String> nullsFirst = Comparator.nullsFirst(Comparator.naturalOrder());
+
+        Comparator<T> result = Comparator.comparing(sortKey, nullsFirst);
+        result = result.thenComparing(uuid, nullsFirst);
+
+        return Order.DESC.equals(paginator.getOrder()) ? result.reversed() : result;
+    }
+
+}
@@ -0,0 +1,188 @@
+package org.carlspring.strongbox.services.support;
+
+import org.carlspring.strongbox.event.artifact.ArtifactEvent;
+import org.carlspring.strongbox.event.artifact.ArtifactEventTypeEnum;
+import org.carlspring.strongbox.providers.io.RepositoryFiles;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.storage.repository.Repository;
+
+import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.orientechnologies.orient.core.id.ORID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Local (per node) cache of `storageId/repositoryId/path` to `ArtifactEntry`
+ * record ID lookups, which are two index queries otherwise. The paths without
+ * `ArtifactEntry` are cached as well.
+ */
+@Component
+public class ArtifactEntryLookupCache
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(ArtifactEntryLookupCache.class);
+
+    @Value("${strongbox.artifactEntry.lookupCache.maxSize:10000}")
+    private long maxSize;
+
+    @Value("${strongbox.artifactEntry.lookupCache.ttlSeconds:60}")
+    private long ttlSeconds;
+
+    private Cache<String, Optional<ORID>> cache;
+
+    @PostConstruct
+    public void init()
+    {
+        cache = CacheBuilder.newBuilder()
+                            .maximumSize(maxSize)
+                            .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                            .recordStats()
+                            .build();
+    }
+
+    /**
+     * Returns cached `ArtifactEntry` ID, or the one provided by `lookup`.
+     *
+     * @return the ID or `null` if there is no `ArtifactEntry` for the path
+     */
+    public ORID get(String storageId,
+                    String repositoryId,
+                    String path,
+                    Supplier<ORID> lookup)
+    {
+        String key = key(storageId, repositoryId, path);
+        Optional<ORID> result;
+        try
+        {
+            result = cache.get(key, () -> Optional.ofNullable(lookup.get()));
+        }
+        catch (ExecutionException | UncheckedExecutionException e)
+        {
+            throw new IllegalStateException(String.format("Failed to lookup [%s]", key), e.getCause());
+        }
+
+        // Temporary IDs are valid only within current transaction.
+        if (result.isPresent() && !result.get().isPersistent())
+        {
+            cache.invalidate(key);
+        }
+
+        return result.orElse(null);
+    }
+
+    /**
+     * Invalidates the path immediately and once again after current
+     * transaction commit, so concurrent transactions will not keep the stale
+     * results.
+     */
+    public void invalidate(String storageId,
+                           String repositoryId,
+                           String path)
+    {
+        String key = key(storageId, repositoryId, path);
+        cache.invalidate(key);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive())
+        {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter()
+        {
+            @Override
+            public void afterCompletion(int status)
+            {
+                cache.invalidate(key);
+            }
+        });
+    }
+
+    public void invalidateAll()
+    {
+        cache.invalidateAll();
+    }
+
+    public long getHitCount()
+    {
+        return cache.stats().hitCount();
+    }
+
+    public long getMissCount()
+    {
+        return cache.stats().missCount();
+    }
+
+    public CacheStats getStats()
+    {
+        return cache.stats();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handle(ArtifactEvent<? extends Path> event)
+    {
+        if (event.getType() != ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_STORED.getType()
+                && event.getType() != ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_UPDATED.getType()
+                && event.getType() != ArtifactEventTypeEnum.EVENT_ARTIFACT_PATH_DELETED.getType())
+        {
+            return;
+        }
+        if (!(event.getPath() instanceof RepositoryPath))
+        {
+            return;
+        }
+
+        RepositoryPath repositoryPath = (RepositoryPath) event.getPath();
+        Repository repository = repositoryPath.getRepository();
+
+        String path;
+        try
+        {
+            path = RepositoryFiles.relativizePath(repositoryPath);
+        }
+        catch (IOException e)
+        {
+            logger.error(String.format("Failed to invalidate [%s], invalidate all.", repositoryPath), e);
+            invalidateAll();
+
+            return;
+        }
+
+        String key = key(repository.getStorage().getId(), repository.getId(), path);
+        if (cache.asMap().remove(key) != null
+                || event.getType() != ArtifactEventTypeEnum.EVENT_ARTIFACT_PATH_DELETED.getType())
+        {
+            return;
+        }
+
+        // Deleted path, which was not cached, can be a directory (we can't
+        // check this after it was deleted), so all the nested paths should be
+        // invalidated.
+        String directoryKey = key.endsWith("/") ? key : key + "/";
+        cache.asMap().keySet().removeIf(k -> k.startsWith(directoryKey));
+    }
+
+    private String key(String storageId,
+                       String repositoryId,
+                       String path)
+    {
+        return String.format("%s/%s/%s", storageId, repositoryId, path);
+    }
+
+}
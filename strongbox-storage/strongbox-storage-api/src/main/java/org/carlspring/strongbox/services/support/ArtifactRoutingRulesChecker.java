@@ -1,16 +1,16 @@
 package org.carlspring.strongbox.services.support;
 
+import org.carlspring.strongbox.configuration.Configuration;
 import org.carlspring.strongbox.configuration.ConfigurationManager;
 import org.carlspring.strongbox.providers.io.RepositoryFiles;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.storage.repository.Repository;
-import org.carlspring.strongbox.storage.routing.RoutingRule;
 import org.carlspring.strongbox.storage.routing.RoutingRules;
-import org.carlspring.strongbox.storage.routing.RuleSet;
 
 import javax.inject.Inject;
 import java.io.IOException;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 /**
@@ -24,28 +24,20 @@ public class ArtifactRoutingRulesChecker
     @Inject
     private ConfigurationManager configurationManager;
 
+    @Value("${strongbox.routingRules.decisionCache.maxSize:10000}")
+    private long decisionCacheSize;
+
+    private volatile RoutingRulesMatcher routingRulesMatcher;
+
     public boolean isDenied(String groupRepositoryId,
                             RepositoryPath repositoryPath)
             throws IOException
     {
-        final RoutingRules routingRules = configurationManager.getConfiguration().getRoutingRules();
-        final RuleSet denyRules = routingRules.getDenyRules(groupRepositoryId);
-        final RuleSet wildcardDenyRules = routingRules.getWildcardDeniedRules();
-        final RuleSet acceptRules = routingRules.getAcceptRules(groupRepositoryId);
-        final RuleSet wildcardAcceptRules = routingRules.getWildcardAcceptedRules();
-
-        if (fitsRoutingRules(repositoryPath, denyRules) ||
-            fitsRoutingRules(repositoryPath, wildcardDenyRules))
-        {
-            if (!(fitsRoutingRules(repositoryPath, acceptRules) ||
-                  fitsRoutingRules(repositoryPath, wildcardAcceptRules)))
-            {
-                return true;
-            }
-
-        }
+        Repository repository = repositoryPath.getRepository();
 
-        return false;
+        return getRoutingRulesMatcher().isDenied(groupRepositoryId,
+                                                 repository.getId(),
+                                                 RepositoryFiles.relativizePath(repositoryPath));
     }
 
     public boolean isAccepted(String groupRepositoryId,
@@ -55,25 +47,25 @@ public class ArtifactRoutingRulesChecker
         return !isDenied(groupRepositoryId, repositoryPath);
     }
 
-    private boolean fitsRoutingRules(RepositoryPath repositoryPath,
-                                     RuleSet denyRules)
-            throws IOException
+    /**
+     * The {@link Configuration} is an immutable snapshot which is replaced on
+     * every change, so the rules are compiled again only when the snapshot
+     * rules changed.
+     */
+    private RoutingRulesMatcher getRoutingRulesMatcher()
     {
-        Repository repository = repositoryPath.getRepository();
-        if (denyRules != null && !denyRules.getRoutingRules().isEmpty())
+        RoutingRules routingRules = configurationManager.getConfiguration().getRoutingRules();
+
+        RoutingRulesMatcher result = routingRulesMatcher;
+        if (result != null && result.getRoutingRules() == routingRules)
         {
-            String artifactPath = RepositoryFiles.relativizePath(repositoryPath);
-            for (RoutingRule rule : denyRules.getRoutingRules())
-            {
-                if (rule.getRepositories().contains(repository.getId())
-                    && rule.getRegex().matcher(artifactPath).matches())
-                {
-                    return true;
-                }
-            }
+            return result;
         }
 
-        return false;
+        result = new RoutingRulesMatcher(routingRules, decisionCacheSize);
+        routingRulesMatcher = result;
+
+        return result;
     }
 
 }
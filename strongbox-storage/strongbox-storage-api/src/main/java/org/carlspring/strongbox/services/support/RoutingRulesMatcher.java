@@ -0,0 +1,201 @@
+package org.carlspring.strongbox.services.support;
+
+import org.carlspring.strongbox.storage.routing.RoutingRule;
+import org.carlspring.strongbox.storage.routing.RoutingRules;
+import org.carlspring.strongbox.storage.routing.RuleSet;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * {@link RoutingRules} compiled into the single matcher per group repository
+ * member: the deny and accept rules which refer to the member are combined
+ * into one regex alternation, guarded by the literal prefixes of the rules, so
+ * the paths which can't fit any rule are rejected without regex evaluation.
+ * <br>
+ * The decisions are memoised within bounded cache. The instance is bound to
+ * the {@link RoutingRules} it was compiled from, so it should be replaced
+ * once the configuration changed.
+ */
+public class RoutingRulesMatcher
+{
+
+    private static final String REGEX_META_CHARACTERS = ".[]{}()*+?^$|\\";
+
+    private static final String REGEX_QUANTIFIERS = "*?{";
+
+    private static final Pattern BACK_REFERENCE = Pattern.compile("\\\\([1-9]|k<)");
+
+    private static final Predicate<String> NEVER_DENIED = p -> false;
+
+    private final RoutingRules routingRules;
+
+    private final Map<String, Predicate<String>> matchers = new ConcurrentHashMap<>();
+
+    private final Cache<String, Boolean> decisions;
+
+    public RoutingRulesMatcher(RoutingRules routingRules,
+                               long decisionCacheSize)
+    {
+        this.routingRules = routingRules;
+        this.decisions = CacheBuilder.newBuilder().maximumSize(decisionCacheSize).build();
+    }
+
+    public RoutingRules getRoutingRules()
+    {
+        return routingRules;
+    }
+
+    /**
+     * @param groupRepositoryId
+     *            the group repository ID
+     * @param repositoryId
+     *            the group member repository ID
+     * @param path
+     *            the path relative to the repository root
+     */
+    public boolean isDenied(String groupRepositoryId,
+                            String repositoryId,
+                            String path)
+    {
+        String matcherKey = String.format("%s:%s", groupRepositoryId, repositoryId);
+        Predicate<String> matcher = matchers.computeIfAbsent(matcherKey,
+                                                             k -> compile(groupRepositoryId, repositoryId));
+        if (matcher == NEVER_DENIED)
+        {
+            return false;
+        }
+
+        try
+        {
+            return decisions.get(String.format("%s:%s", matcherKey, path), () -> matcher.test(path));
+        }
+        catch (ExecutionException e)
+        {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private Predicate<String> compile(String groupRepositoryId,
+                                      String repositoryId)
+    {
+        List<String> denyPatterns = patterns(repositoryId,
+                                             routingRules.getDenyRules(groupRepositoryId),
+                                             routingRules.getWildcardDenyRules());
+        if (denyPatterns.isEmpty())
+        {
+            return NEVER_DENIED;
+        }
+
+        Predicate<String> denied = combine(denyPatterns);
+
+        List<String> acceptPatterns = patterns(repositoryId,
+                                               routingRules.getAcceptRules(groupRepositoryId),
+                                               routingRules.getWildcardAcceptedRules());
+        if (acceptPatterns.isEmpty())
+        {
+            return denied;
+        }
+
+        return denied.and(combine(acceptPatterns).negate());
+    }
+
+    private List<String> patterns(String repositoryId,
+                                  RuleSet... ruleSets)
+    {
+        List<String> result = new ArrayList<>();
+        for (RuleSet ruleSet : ruleSets)
+        {
+            if (ruleSet == null)
+            {
+                continue;
+            }
+            for (RoutingRule rule : ruleSet.getRoutingRules())
+            {
+                if (rule.getRepositories().contains(repositoryId))
+                {
+                    result.add(rule.getPattern());
+                }
+            }
+        }
+
+        return result;
+    }
+
+    private static Predicate<String> combine(List<String> patterns)
+    {
+        Predicate<String> result;
+        if (patterns.size() == 1)
+        {
+            Pattern pattern = Pattern.compile(patterns.get(0));
+            result = p -> pattern.matcher(p).matches();
+        }
+        else if (patterns.stream().anyMatch(p -> BACK_REFERENCE.matcher(p).find()))
+        {
+            // Group numbers are shifted within alternation, so back references can't be combined.
+            List<Pattern> compiled = patterns.stream().map(Pattern::compile).collect(Collectors.toList());
+            result = p -> compiled.stream().anyMatch(pattern -> pattern.matcher(p).matches());
+        }
+        else
+        {
+            Pattern pattern = Pattern.compile(patterns.stream()
+                                                      .map(p -> String.format("(?:%s)", p))
+                                                      .collect(Collectors.joining("|")));
+            result = p -> pattern.matcher(p).matches();
+        }
+
+        String[] prefixes = patterns.stream().map(RoutingRulesMatcher::literalPrefix).toArray(String[]::new);
+        if (Arrays.stream(prefixes).anyMatch(String::isEmpty))
+        {
+            return result;
+        }
+
+        Predicate<String> regex = result;
+        return p -> Arrays.stream(prefixes).anyMatch(p::startsWith) && regex.test(p);
+    }
+
+    /**
+     * @return the literal string which all the paths matched by the pattern
+     *         start with
+     */
+    static String literalPrefix(String pattern)
+    {
+        // Any alternative can have its own prefix.
+        if (pattern.indexOf('|') >= 0)
+        {
+            return "";
+        }
+
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < pattern.length(); i++)
+        {
+            char c = pattern.charAt(i);
+            if (REGEX_META_CHARACTERS.indexOf(c) < 0)
+            {
+                result.append(c);
+                continue;
+            }
+
+            // Previous character can be optional.
+            if (REGEX_QUANTIFIERS.indexOf(c) >= 0 && result.length() > 0)
+            {
+                result.setLength(result.length() - 1);
+            }
+
+            break;
+        }
+
+        return result.toString();
+    }
+
+}
@@ -3,6 +3,8 @@ package org.carlspring.strongbox.storage.search;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
@@ -16,6 +18,13 @@ public class SearchResults
     @JsonProperty("artifact")
     private Set<SearchResult> results = new LinkedHashSet<>();
 
+    /**
+     * The keyset cursor of the next page, if there can be more results.
+     */
+    @JsonProperty("cursor")
+    @JsonInclude(Include.NON_NULL)
+    private String cursor;
+
 
     public SearchResults()
     {
@@ -31,6 +40,16 @@ public class SearchResults
         this.results = results;
     }
 
+    public String getCursor()
+    {
+        return cursor;
+    }
+
+    public void setCursor(String cursor)
+    {
+        this.cursor = cursor;
+    }
+
     @Override
     public String toString()
     {
@@ -0,0 +1,130 @@
+package org.carlspring.strongbox.providers.io;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LocalReadWriteLockServiceTest
+{
+
+    private static final String LOCK_NAME = "strongbox:/storage0/releases/org/carlspring/test";
+
+    private final LocalReadWriteLockService lockService = new LocalReadWriteLockService();
+
+    @Test
+    public void testSameNameSameLock()
+    {
+        ReadWriteLock lock = lockService.getReentrantReadWriteLock(LOCK_NAME);
+
+        assertSame(lock, lockService.getReentrantReadWriteLock(LOCK_NAME));
+    }
+
+    @Test
+    public void testDifferentNamesDifferentLocks()
+        throws Exception
+    {
+        // The nested locks, like `pre-remote-fetch` and `remote-fetch`, must
+        // never share the same lock.
+        for (int i = 0; i < 10000; i++)
+        {
+            assertNotSame(lockService.getReentrantReadWriteLock(LOCK_NAME),
+                          lockService.getReentrantReadWriteLock(LOCK_NAME + "?" + i));
+        }
+
+        Lock writeLock = lockService.getReentrantReadWriteLock(LOCK_NAME + "?remote-fetch").writeLock();
+        writeLock.lock();
+        try
+        {
+            assertTrue(tryLockInOtherThread(false));
+        }
+        finally
+        {
+            writeLock.unlock();
+        }
+    }
+
+    @Test
+    public void testHeldLockNotCollected()
+        throws Exception
+    {
+        Lock writeLock = lockService.getReentrantReadWriteLock(LOCK_NAME).writeLock();
+        writeLock.lock();
+        try
+        {
+            // Only the write lock is referenced, the enclosing lock must be
+            // kept for the name.
+            System.gc();
+
+            assertFalse(tryLockInOtherThread(false));
+        }
+        finally
+        {
+            writeLock.unlock();
+        }
+    }
+
+    @Test
+    public void testWriteLockExcludesOtherThreads()
+        throws Exception
+    {
+        Lock writeLock = lockService.getReentrantReadWriteLock(LOCK_NAME).writeLock();
+        writeLock.lock();
+        try
+        {
+            // Reentrant within the same thread.
+            Lock readLock = lockService.getReentrantReadWriteLock(LOCK_NAME).readLock();
+            assertTrue(readLock.tryLock());
+            readLock.unlock();
+
+            assertFalse(tryLockInOtherThread(true));
+            assertFalse(tryLockInOtherThread(false));
+        }
+        finally
+        {
+            writeLock.unlock();
+        }
+
+        assertTrue(tryLockInOtherThread(false));
+    }
+
+    @Test
+    public void testReadLocksAreShared()
+        throws Exception
+    {
+        Lock readLock = lockService.getReentrantReadWriteLock(LOCK_NAME).readLock();
+        readLock.lock();
+        try
+        {
+            assertTrue(tryLockInOtherThread(true));
+            assertFalse(tryLockInOtherThread(false));
+        }
+        finally
+        {
+            readLock.unlock();
+        }
+    }
+
+    private boolean tryLockInOtherThread(boolean read)
+        throws Exception
+    {
+        return CompletableFuture.supplyAsync(() -> {
+            ReadWriteLock readWriteLock = lockService.getReentrantReadWriteLock(LOCK_NAME);
+            Lock lock = read ? readWriteLock.readLock() : readWriteLock.writeLock();
+            if (!lock.tryLock())
+            {
+                return false;
+            }
+            lock.unlock();
+
+            return true;
+        }).get(10, TimeUnit.SECONDS);
+    }
+
+}
@@ -0,0 +1,64 @@
+package org.carlspring.strongbox.providers.io;
+
+import org.carlspring.strongbox.storage.MutableStorage;
+import org.carlspring.strongbox.storage.Storage;
+import org.carlspring.strongbox.storage.repository.MutableRepository;
+import org.carlspring.strongbox.storage.repository.Repository;
+
+import java.nio.file.FileSystems;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import org.mockito.Mockito;
+
+/**
+ * The {@link LayoutFileSystem} over the default file system, which can be used
+ * to create and relativize the {@link RepositoryPath}s without the
+ * `strongbox` file system provider. The paths are never within the trash or
+ * temp directories.
+ */
+public class MockedLayoutFileSystem
+        extends LayoutFileSystem
+{
+
+    public MockedLayoutFileSystem(String storageId,
+                                  String repositoryId)
+    {
+        super(createRepository(storageId, repositoryId), FileSystems.getDefault(), createProvider());
+    }
+
+    @Override
+    public Set<String> getDigestAlgorithmSet()
+    {
+        throw new UnsupportedOperationException();
+    }
+
+    private static Repository createRepository(String storageId,
+                                               String repositoryId)
+    {
+        MutableRepository repository = new MutableRepository();
+        repository.setId(repositoryId);
+        repository.setBasedir(String.format("target/strongbox-vault/storages/%s/%s", storageId, repositoryId));
+
+        MutableStorage storage = new MutableStorage();
+        storage.setId(storageId);
+        storage.addRepository(repository);
+
+        return new Storage(storage).getRepository(repositoryId);
+    }
+
+    private static StorageFileSystemProvider createProvider()
+    {
+        return Mockito.mock(StorageFileSystemProvider.class,
+                            invocation -> Map.class.equals(invocation.getMethod().getReturnType())
+                                    ? falseAttribute(invocation.getArgument(1))
+                                    : Mockito.RETURNS_DEFAULTS.answer(invocation));
+    }
+
+    private static Map<String, Object> falseAttribute(String attribute)
+    {
+        return Collections.singletonMap(attribute.substring(attribute.indexOf(':') + 1), Boolean.FALSE);
+    }
+
+}
@@ -0,0 +1,88 @@
+package org.carlspring.strongbox.providers.io;
+
+import org.carlspring.strongbox.storage.MutableStorage;
+import org.carlspring.strongbox.storage.Storage;
+import org.carlspring.strongbox.storage.repository.MutableRepository;
+import org.carlspring.strongbox.storage.repository.Repository;
+
+import java.nio.file.FileSystems;
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class RepositoryFileSystemRegistryTest
+{
+
+    private static final String LAYOUT = "test-layout";
+
+    private RepositoryFileSystemRegistry registry;
+
+    private MutableStorage storage;
+
+    private MutableRepository repository;
+
+    @BeforeEach
+    public void setup()
+    {
+        registry = new RepositoryFileSystemRegistry();
+        registry.setFyleSystemFactories(Collections.singletonMap("LayoutFileSystemFactory." + LAYOUT,
+                                                                 this::createFileSystem));
+
+        repository = new MutableRepository();
+        repository.setId("releases");
+        repository.setLayout(LAYOUT);
+        repository.setBasedir("target/strongbox-vault/storages/storage0/releases");
+
+        storage = new MutableStorage();
+        storage.setId("storage0");
+        storage.addRepository(repository);
+    }
+
+    @Test
+    public void testFileSystemCachedPerRepository()
+    {
+        Repository r = new Storage(storage).getRepository("releases");
+
+        LayoutFileSystem fileSystem = registry.getFileSystem(r);
+
+        assertSame(fileSystem, registry.getFileSystem(r));
+        assertEquals(1L, registry.getFileSystemCreatedCount());
+    }
+
+    @Test
+    public void testFileSystemReplacedOnRepositoryChange()
+    {
+        Repository r = new Storage(storage).getRepository("releases");
+        LayoutFileSystem fileSystem = registry.getFileSystem(r);
+
+        // The configuration changed, but the cache was not invalidated yet, or
+        // the stale file system was put concurrently with the invalidation.
+        repository.setBasedir("target/strongbox-vault/storages/storage0/releases-changed");
+        Repository changed = new Storage(storage).getRepository("releases");
+
+        LayoutFileSystem changedFileSystem = registry.getFileSystem(changed);
+
+        assertNotSame(fileSystem, changedFileSystem);
+        assertSame(changed, changedFileSystem.getRepository());
+        assertSame(changedFileSystem, registry.getFileSystem(changed));
+        assertEquals(2L, registry.getFileSystemCreatedCount());
+    }
+
+    private LayoutFileSystem createFileSystem(Repository r)
+    {
+        return new LayoutFileSystem(r, FileSystems.getDefault(), null)
+        {
+            @Override
+            public Set<String> getDigestAlgorithmSet()
+            {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+}
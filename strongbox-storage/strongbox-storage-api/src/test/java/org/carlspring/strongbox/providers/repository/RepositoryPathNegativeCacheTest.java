@@ -0,0 +1,138 @@
+package org.carlspring.strongbox.providers.repository;
+
+import org.carlspring.strongbox.event.artifact.ArtifactEvent;
+import org.carlspring.strongbox.event.artifact.ArtifactEventTypeEnum;
+import org.carlspring.strongbox.providers.io.LayoutFileSystem;
+import org.carlspring.strongbox.providers.io.MockedLayoutFileSystem;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.repository.RepositoryPathNegativeCache.NegativeCacheStatistics;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RepositoryPathNegativeCacheTest
+{
+
+    private static final String ARTIFACT_PATH = "org/carlspring/strongbox/test/1.0/test-1.0.jar";
+
+    private LayoutFileSystem groupFileSystem;
+
+    private LayoutFileSystem hostedFileSystem;
+
+    @BeforeEach
+    public void setup()
+    {
+        groupFileSystem = new MockedLayoutFileSystem("storage0", "group");
+        hostedFileSystem = new MockedLayoutFileSystem("storage0", "releases");
+    }
+
+    @Test
+    public void testHitAndMiss()
+        throws IOException
+    {
+        RepositoryPathNegativeCache cache = newCache(true, 60L, false);
+        RepositoryPath path = groupFileSystem.getRootDirectory().resolve(ARTIFACT_PATH);
+
+        assertFalse(cache.isNotFound(path));
+        cache.putNotFound(path);
+        assertTrue(cache.isNotFound(path));
+
+        NegativeCacheStatistics statistics = cache.getStatistics().get("storage0:group");
+        assertEquals(1L, statistics.getHitCount());
+        assertEquals(1L, statistics.getMissCount());
+        assertEquals(1L, statistics.getSize());
+    }
+
+    @Test
+    public void testDisabled()
+        throws IOException
+    {
+        RepositoryPathNegativeCache cache = newCache(false, 60L, false);
+
+        RepositoryPath path = groupFileSystem.getRootDirectory().resolve(ARTIFACT_PATH);
+        cache.putNotFound(path);
+
+        assertFalse(cache.isNotFound(path));
+    }
+
+    @Test
+    public void testTtl()
+        throws Exception
+    {
+        RepositoryPathNegativeCache cache = newCache(true, 1L, false);
+
+        RepositoryPath path = groupFileSystem.getRootDirectory().resolve(ARTIFACT_PATH);
+        cache.putNotFound(path);
+        assertTrue(cache.isNotFound(path));
+
+        Thread.sleep(1100);
+
+        assertFalse(cache.isNotFound(path));
+    }
+
+    @Test
+    public void testInvalidatedOnStore()
+        throws IOException
+    {
+        testInvalidatedOnStore(false);
+    }
+
+    @Test
+    public void testBloomFilterInvalidatedOnStore()
+        throws IOException
+    {
+        testInvalidatedOnStore(true);
+    }
+
+    private void testInvalidatedOnStore(boolean bloomFilter)
+        throws IOException
+    {
+        RepositoryPathNegativeCache cache = newCache(true, 60L, bloomFilter);
+
+        RepositoryPath path = groupFileSystem.getRootDirectory().resolve(ARTIFACT_PATH);
+        cache.putNotFound(path);
+        assertTrue(cache.isNotFound(path));
+
+        // The path stored into the group member is available within the group.
+        cache.handle(new ArtifactEvent<>(hostedFileSystem.getRootDirectory().resolve(ARTIFACT_PATH),
+                                         ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_STORED.getType()));
+
+        assertFalse(cache.isNotFound(path));
+    }
+
+    /**
+     * The path is kept within two Bloom filter generations, which are rotated
+     * every TTL/2, so the path expires in between TTL/2 and TTL.
+     */
+    @Test
+    public void testBloomFilterRotation()
+        throws Exception
+    {
+        RepositoryPathNegativeCache cache = newCache(true, 2L, true);
+
+        RepositoryPath path = groupFileSystem.getRootDirectory().resolve(ARTIFACT_PATH);
+        cache.putNotFound(path);
+        assertTrue(cache.isNotFound(path));
+
+        // The current generation becomes the previous one.
+        Thread.sleep(1100);
+        assertTrue(cache.isNotFound(path));
+
+        // The generation, which holds the path, is dropped.
+        Thread.sleep(1100);
+        assertFalse(cache.isNotFound(path));
+    }
+
+    private RepositoryPathNegativeCache newCache(boolean enabled,
+                                                 long ttlSeconds,
+                                                 boolean bloomFilter)
+    {
+        return new RepositoryPathNegativeCache(enabled, ttlSeconds, 100, bloomFilter, 0.001d);
+    }
+
+}
@@ -0,0 +1,112 @@
+package org.carlspring.strongbox.providers.repository.proxied;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RemoteArtifactTransferTest
+{
+
+    @Test
+    public void testReadersAttachedDuringTransfer()
+        throws Exception
+    {
+        RemoteArtifactTransfer transfer = new RemoteArtifactTransfer(null);
+        byte[] chunk = "strongbox".getBytes(StandardCharsets.UTF_8);
+
+        InputStream earlyReader = transfer.newInputStream();
+
+        Thread writer = new Thread(() -> {
+            try (OutputStream os = transfer.getSpoolOutputStream())
+            {
+                transfer.onConnected(chunk.length * 3L);
+                for (int i = 0; i < 3; i++)
+                {
+                    os.write(chunk);
+                    Thread.sleep(50);
+                }
+                transfer.onComplete(null);
+            }
+            catch (Exception e)
+            {
+                transfer.onComplete(new IOException(e));
+            }
+        });
+        writer.start();
+
+        transfer.awaitConnected();
+        assertEquals(chunk.length * 3L, transfer.getContentLength());
+
+        InputStream lateReader = transfer.newInputStream();
+
+        byte[] expected = "strongboxstrongboxstrongbox".getBytes(StandardCharsets.UTF_8);
+        try (InputStream is = earlyReader)
+        {
+            assertArrayEquals(expected, IOUtils.toByteArray(is));
+        }
+        try (InputStream is = lateReader)
+        {
+            assertArrayEquals(expected, IOUtils.toByteArray(is));
+        }
+
+        writer.join();
+        transfer.awaitCompleted();
+
+        assertTrue(transfer.isCompleted());
+        // Spool file should be removed once transfer completed and all the readers closed.
+        assertNull(transfer.newInputStream());
+    }
+
+    @Test
+    public void testReadersCompleteBeforeStored()
+        throws Exception
+    {
+        RemoteArtifactTransfer transfer = new RemoteArtifactTransfer(null);
+        byte[] content = "strongbox".getBytes(StandardCharsets.UTF_8);
+
+        InputStream is = transfer.newInputStream();
+        try (OutputStream os = transfer.getSpoolOutputStream())
+        {
+            transfer.onConnected(content.length);
+            os.write(content);
+        }
+        transfer.onDownloaded();
+
+        // The readers should not wait for the spool to be stored.
+        assertArrayEquals(content, IOUtils.toByteArray(is));
+        assertFalse(transfer.isCompleted());
+
+        is.close();
+        transfer.onComplete(null);
+
+        assertNull(transfer.newInputStream());
+    }
+
+    @Test
+    public void testFailedTransfer()
+        throws Exception
+    {
+        RemoteArtifactTransfer transfer = new RemoteArtifactTransfer(null);
+
+        InputStream is = transfer.newInputStream();
+        transfer.getSpoolOutputStream().write(new byte[] { 1, 2, 3 });
+        transfer.onComplete(new IOException("Connection reset"));
+
+        assertThrows(IOException.class, () -> IOUtils.toByteArray(is));
+        assertThrows(IOException.class, transfer::awaitConnected);
+        assertThrows(IOException.class, transfer::awaitCompleted);
+
+        is.close();
+    }
+
+}
@@ -0,0 +1,141 @@
+package org.carlspring.strongbox.providers.search;
+
+import org.carlspring.strongbox.artifact.coordinates.NullArtifactCoordinates;
+import org.carlspring.strongbox.domain.ArtifactArchiveListing;
+import org.carlspring.strongbox.domain.ArtifactEntry;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ArtifactEntryLuceneIndexTest
+{
+
+    private Path indexPath;
+
+    private ArtifactEntryLuceneIndex index;
+
+    @BeforeEach
+    public void setUp()
+        throws IOException
+    {
+        indexPath = Files.createTempDirectory(ArtifactEntryLuceneIndexTest.class.getSimpleName());
+        index = new ArtifactEntryLuceneIndex(indexPath);
+
+        ArtifactEntry springCore = newArtifactEntry("storage0", "releases",
+                                                    "org/carlspring/spring-core/5.0.1/spring-core-5.0.1.jar");
+        ArtifactArchiveListing artifactArchiveListing = new ArtifactArchiveListing();
+        artifactArchiveListing.setFilenames(new LinkedHashSet<>(Arrays.asList("META-INF/MANIFEST.MF",
+                                                                              "org/carlspring/core/Bean.class")));
+        springCore.setArtifactArchiveListing(artifactArchiveListing);
+        index.update(springCore);
+        index.update(newArtifactEntry("storage0", "releases", "org/carlspring/spring-web/5.0.1/spring-web-5.0.1.jar"));
+        index.update(newArtifactEntry("storage1", "npm-releases", "react/-/react-16.5.0.tgz"));
+        index.refresh();
+    }
+
+    @AfterEach
+    public void tearDown()
+        throws IOException
+    {
+        index.close();
+        FileUtils.deleteDirectory(indexPath.toFile());
+    }
+
+    @Test
+    public void testCreated()
+        throws IOException
+    {
+        assertTrue(index.isCreated());
+        assertEquals(3, index.count());
+    }
+
+    @Test
+    public void testSubstringSearch()
+        throws IOException
+    {
+        assertEquals(2, search(null, null, "ring").size());
+        assertEquals("org/carlspring/spring-core/5.0.1/spring-core-5.0.1.jar",
+                     search(null, null, "ring-co").get(0));
+        assertTrue(search(null, null, "sprang").isEmpty());
+        assertEquals(1, search(null, null, "EAC").size());
+    }
+
+    @Test
+    public void testPrefixSearch()
+        throws IOException
+    {
+        assertEquals(1, search(null, null, "we").size());
+        assertEquals(3, search(null, null, "5").size());
+        assertEquals(1, search(null, null, "5 re").size());
+    }
+
+    @Test
+    public void testArchiveFilenameSearch()
+        throws IOException
+    {
+        assertEquals("org/carlspring/spring-core/5.0.1/spring-core-5.0.1.jar",
+                     search(null, null, "file:org/carlspring/core/Bean.class").get(0));
+        assertTrue(search(null, null, "file:org/carlspring/core/bean.class").isEmpty());
+        assertTrue(search(null, null, "file:Bean.class").isEmpty());
+        assertTrue(search("storage1", null, "file:META-INF/MANIFEST.MF").isEmpty());
+    }
+
+    @Test
+    public void testRepositoryFilter()
+        throws IOException
+    {
+        assertEquals(2, search("storage0", "releases", "").size());
+        assertTrue(search("storage0", "releases", "react").isEmpty());
+    }
+
+    @Test
+    public void testDelete()
+        throws IOException
+    {
+        index.delete("storage0", "releases", "org/carlspring/spring-core");
+        index.delete("storage1", "npm-releases", "react/-/react-16.5.0.tgz");
+        index.refresh();
+
+        List<String> result = search(null, null, "");
+        assertEquals(1, result.size());
+        assertEquals(1, index.count());
+        assertFalse(result.contains("org/carlspring/spring-core/5.0.1/spring-core-5.0.1.jar"));
+    }
+
+    private List<String> search(String storageId,
+                                String repositoryId,
+                                String query)
+        throws IOException
+    {
+        List<Map<String, String>> hits = index.search(storageId, repositoryId, query, 10);
+
+        return hits.stream().map(h -> h.get(ArtifactEntryLuceneIndex.FIELD_PATH)).collect(Collectors.toList());
+    }
+
+    private ArtifactEntry newArtifactEntry(String storageId,
+                                           String repositoryId,
+                                           String path)
+    {
+        ArtifactEntry artifactEntry = new ArtifactEntry();
+        artifactEntry.setStorageId(storageId);
+        artifactEntry.setRepositoryId(repositoryId);
+        artifactEntry.setArtifactCoordinates(new NullArtifactCoordinates(path));
+
+        return artifactEntry;
+    }
+
+}
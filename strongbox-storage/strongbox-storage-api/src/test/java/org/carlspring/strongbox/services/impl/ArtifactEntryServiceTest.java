@@ -9,6 +9,7 @@ import org.carlspring.strongbox.domain.ArtifactEntry;
 import org.carlspring.strongbox.services.ArtifactEntryService;
 
 import javax.inject.Inject;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
@@ -127,6 +128,47 @@ public class ArtifactEntryServiceTest
 
     }
 
+    @Test
+    public void saveIfAbsentShouldSkipExistingEntries()
+    {
+        artifactEntryService.deleteAll();
+        createArtifacts(groupId, artifactId, storageId, repositoryId);
+
+        List<ArtifactEntry> artifactEntries = Arrays.asList(newArtifactEntry(String.format("%s/%s/%s/%s", groupId,
+                                                                                           artifactId + "123", "1.2.3",
+                                                                                           "jar")),
+                                                            newArtifactEntry(String.format("%s/%s/%s/%s", groupId,
+                                                                                           artifactId + "456", "1.2.3",
+                                                                                           "jar")),
+                                                            newArtifactEntry(String.format("%s/%s/%s/%s", groupId,
+                                                                                           artifactId + "456", "1.2.3",
+                                                                                           "jar")));
+
+        List<ArtifactEntry> result = artifactEntryService.saveIfAbsent(storageId, repositoryId, artifactEntries);
+
+        assertEquals(1, result.size());
+        assertEquals("org.carlspring.strongbox/coordinates-test456/1.2.3/jar",
+                     result.get(0).getArtifactCoordinates().toPath());
+        assertTrue(artifactEntryService.artifactExists(storageId, repositoryId,
+                                                       "org.carlspring.strongbox/coordinates-test456/1.2.3/jar"));
+        assertEquals(4L, artifactEntryService.count());
+
+        result = artifactEntryService.saveIfAbsent(storageId, repositoryId, artifactEntries);
+        assertTrue(result.isEmpty());
+
+        artifactEntryService.deleteAll();
+    }
+
+    private ArtifactEntry newArtifactEntry(String path)
+    {
+        ArtifactEntry artifactEntry = new ArtifactEntry();
+        artifactEntry.setArtifactCoordinates(new NullArtifactCoordinates(path));
+        artifactEntry.setStorageId(storageId);
+        artifactEntry.setRepositoryId(repositoryId);
+
+        return artifactEntry;
+    }
+
     private ArtifactEntry save(ArtifactEntry artifactEntry)
     {
         ArtifactEntry result = artifactEntryService.save(artifactEntry);
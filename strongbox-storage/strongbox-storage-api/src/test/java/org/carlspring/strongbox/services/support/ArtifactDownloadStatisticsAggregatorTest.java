@@ -0,0 +1,128 @@
+package org.carlspring.strongbox.services.support;
+
+import org.carlspring.strongbox.services.ArtifactEntryService;
+
+import java.util.Date;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ArtifactDownloadStatisticsAggregatorTest
+{
+
+    private static final long TIMEOUT = 5000L;
+
+    private ArtifactEntryService artifactEntryService;
+
+    private ArtifactDownloadStatisticsAggregator aggregator;
+
+    @BeforeEach
+    public void setup()
+    {
+        artifactEntryService = Mockito.mock(ArtifactEntryService.class);
+        when(artifactEntryService.updateDownloadStatistics(anyString(), anyString(), anyString(), anyInt(),
+                                                           any(Date.class))).thenReturn(true);
+    }
+
+    @AfterEach
+    public void tearDown()
+    {
+        if (aggregator != null)
+        {
+            aggregator.destroy();
+        }
+    }
+
+    @Test
+    public void testFlushBySize()
+    {
+        init(60000L, 3, 100);
+
+        aggregator.record("storage0", "releases", "a.jar", new Date());
+        aggregator.record("storage0", "releases", "a.jar", new Date());
+        assertEquals(2, aggregator.getPendingDownloadCount());
+
+        aggregator.record("storage0", "releases", "a.jar", new Date());
+
+        // Three downloads of the same artifact are folded into single update.
+        verify(artifactEntryService, timeout(TIMEOUT)).updateDownloadStatistics(eq("storage0"), eq("releases"),
+                                                                                eq("a.jar"), eq(3),
+                                                                                any(Date.class));
+        // Wait for the scheduled flush to complete.
+        aggregator.flush();
+
+        assertEquals(1L, aggregator.getFlushCount());
+        assertEquals(3L, aggregator.getFlushedDownloadCount());
+        assertEquals(0, aggregator.getPendingDownloadCount());
+    }
+
+    @Test
+    public void testFlushByInterval()
+    {
+        init(50L, 1000, 100);
+
+        aggregator.record("storage0", "releases", "a.jar", new Date());
+        aggregator.record("storage0", "releases", "b.jar", new Date());
+
+        verify(artifactEntryService, timeout(TIMEOUT)).updateDownloadStatistics(eq("storage0"), eq("releases"),
+                                                                                eq("a.jar"), eq(1),
+                                                                                any(Date.class));
+        verify(artifactEntryService, timeout(TIMEOUT)).updateDownloadStatistics(eq("storage0"), eq("releases"),
+                                                                                eq("b.jar"), eq(1),
+                                                                                any(Date.class));
+        aggregator.flush();
+
+        assertEquals(2L, aggregator.getFlushedDownloadCount());
+    }
+
+    @Test
+    public void testMaxPendingBackPressure()
+    {
+        init(60000L, 1000, 2);
+
+        aggregator.record("storage0", "releases", "a.jar", new Date());
+        aggregator.record("storage0", "releases", "b.jar", new Date());
+        // There is no room for one more artifact, so this download is dropped
+        // and the flush is scheduled.
+        aggregator.record("storage0", "releases", "c.jar", new Date());
+
+        assertEquals(1L, aggregator.getDroppedDownloadCount());
+        verify(artifactEntryService, timeout(TIMEOUT)).updateDownloadStatistics(eq("storage0"), eq("releases"),
+                                                                                eq("b.jar"), eq(1),
+                                                                                any(Date.class));
+        verify(artifactEntryService, never()).updateDownloadStatistics(eq("storage0"), eq("releases"),
+                                                                       eq("c.jar"), anyInt(),
+                                                                       any(Date.class));
+
+        // The downloads are accepted again once flushed.
+        aggregator.record("storage0", "releases", "c.jar", new Date());
+
+        assertEquals(1L, aggregator.getDroppedDownloadCount());
+        assertEquals(1, aggregator.getPendingDownloadCount());
+    }
+
+    private void init(long flushIntervalMs,
+                      int flushSize,
+                      int maxPending)
+    {
+        aggregator = new ArtifactDownloadStatisticsAggregator(artifactEntryService,
+                                                              Mockito.mock(PlatformTransactionManager.class),
+                                                              flushIntervalMs,
+                                                              flushSize,
+                                                              maxPending);
+        aggregator.afterPropertiesSet();
+    }
+
+}
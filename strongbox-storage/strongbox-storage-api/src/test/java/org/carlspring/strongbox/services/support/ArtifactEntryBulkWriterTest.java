@@ -0,0 +1,137 @@
+package org.carlspring.strongbox.services.support;
+
+import org.carlspring.strongbox.artifact.coordinates.NullArtifactCoordinates;
+import org.carlspring.strongbox.domain.ArtifactEntry;
+import org.carlspring.strongbox.providers.io.LayoutFileSystem;
+import org.carlspring.strongbox.providers.io.MockedLayoutFileSystem;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.io.RepositoryPathLock;
+import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
+import org.carlspring.strongbox.services.ArtifactEntryService;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.orientechnologies.orient.core.storage.ORecordDuplicatedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ArtifactEntryBulkWriterTest
+{
+
+    private static final String STORAGE_ID = "storage0";
+
+    private static final String REPOSITORY_ID = "releases";
+
+    private ArtifactEntryService artifactEntryService;
+
+    private ReentrantReadWriteLock lock;
+
+    private ArtifactEntryBulkWriter bulkWriter;
+
+    @BeforeEach
+    public void setup()
+        throws Exception
+    {
+        artifactEntryService = Mockito.mock(ArtifactEntryService.class);
+
+        LayoutFileSystem fileSystem = new MockedLayoutFileSystem(STORAGE_ID, REPOSITORY_ID);
+        RepositoryPathResolver repositoryPathResolver = Mockito.mock(RepositoryPathResolver.class);
+        when(repositoryPathResolver.resolve(eq(STORAGE_ID), eq(REPOSITORY_ID), anyString()))
+                .then(invocation -> fileSystem.getRootDirectory().resolve((String) invocation.getArgument(2)));
+
+        lock = new ReentrantReadWriteLock();
+        RepositoryPathLock repositoryPathLock = Mockito.mock(RepositoryPathLock.class);
+        when(repositoryPathLock.lock(any(RepositoryPath.class))).thenReturn(lock);
+
+        bulkWriter = new ArtifactEntryBulkWriter();
+        bulkWriter.setArtifactEntryService(artifactEntryService);
+        bulkWriter.setTransactionManager(Mockito.mock(PlatformTransactionManager.class));
+        bulkWriter.setRepositoryPathResolver(repositoryPathResolver);
+        bulkWriter.setRepositoryPathLock(repositoryPathLock);
+        bulkWriter.setBatchSize(2);
+    }
+
+    @Test
+    public void testWriteInBatches()
+        throws Exception
+    {
+        List<ArtifactEntry> artifactEntries = createArtifactEntries("a", "b", "c");
+        when(artifactEntryService.saveIfAbsent(eq(STORAGE_ID), eq(REPOSITORY_ID), anyCollection()))
+                .then(invocation -> {
+                    // The paths are locked while the batch is saved.
+                    assertTrue(lock.isWriteLockedByCurrentThread());
+
+                    return new ArrayList<>((Collection<?>) invocation.getArgument(2));
+                });
+
+        assertEquals(3, bulkWriter.write(STORAGE_ID, REPOSITORY_ID, artifactEntries));
+
+        verify(artifactEntryService, times(2)).saveIfAbsent(eq(STORAGE_ID), eq(REPOSITORY_ID), anyCollection());
+        assertFalse(lock.isWriteLocked());
+    }
+
+    @Test
+    public void testRetryOnDuplicatedKey()
+        throws Exception
+    {
+        List<ArtifactEntry> artifactEntries = createArtifactEntries("a", "b");
+        // The first attempt fails because the path `a` was stored concurrently,
+        // so it's skipped on the next attempt.
+        when(artifactEntryService.saveIfAbsent(eq(STORAGE_ID), eq(REPOSITORY_ID), anyCollection()))
+                .thenThrow(Mockito.mock(ORecordDuplicatedException.class))
+                .thenReturn(artifactEntries.subList(1, 2));
+
+        assertEquals(1, bulkWriter.write(STORAGE_ID, REPOSITORY_ID, artifactEntries));
+
+        verify(artifactEntryService, times(2)).saveIfAbsent(eq(STORAGE_ID), eq(REPOSITORY_ID), anyCollection());
+        assertFalse(lock.isWriteLocked());
+    }
+
+    @Test
+    public void testRetryLimit()
+    {
+        List<ArtifactEntry> artifactEntries = createArtifactEntries("a");
+        when(artifactEntryService.saveIfAbsent(eq(STORAGE_ID), eq(REPOSITORY_ID), anyCollection()))
+                .thenThrow(Mockito.mock(ORecordDuplicatedException.class));
+
+        assertThrows(ORecordDuplicatedException.class,
+                     () -> bulkWriter.write(STORAGE_ID, REPOSITORY_ID, artifactEntries));
+
+        verify(artifactEntryService, times(10)).saveIfAbsent(eq(STORAGE_ID), eq(REPOSITORY_ID), anyCollection());
+        assertFalse(lock.isWriteLocked());
+    }
+
+    private List<ArtifactEntry> createArtifactEntries(String... paths)
+    {
+        List<ArtifactEntry> result = new ArrayList<>();
+        for (String path : Arrays.asList(paths))
+        {
+            ArtifactEntry artifactEntry = new ArtifactEntry();
+            artifactEntry.setStorageId(STORAGE_ID);
+            artifactEntry.setRepositoryId(REPOSITORY_ID);
+            artifactEntry.setArtifactCoordinates(new NullArtifactCoordinates(path));
+
+            result.add(artifactEntry);
+        }
+
+        return result;
+    }
+
+}
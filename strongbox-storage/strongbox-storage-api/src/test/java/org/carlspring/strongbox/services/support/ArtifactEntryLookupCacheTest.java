@@ -0,0 +1,146 @@
+package org.carlspring.strongbox.services.support;
+
+import org.carlspring.strongbox.StorageApiTestConfig;
+import org.carlspring.strongbox.event.artifact.ArtifactEvent;
+import org.carlspring.strongbox.event.artifact.ArtifactEventTypeEnum;
+import org.carlspring.strongbox.providers.io.LayoutFileSystem;
+import org.carlspring.strongbox.providers.io.MockedLayoutFileSystem;
+
+import javax.inject.Inject;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@SpringBootTest
+@ActiveProfiles(profiles = "test")
+@ContextConfiguration(classes = StorageApiTestConfig.class)
+@TestPropertySource(properties = { "strongbox.artifactEntry.lookupCache.maxSize=100",
+                                   "strongbox.artifactEntry.lookupCache.ttlSeconds=60" })
+public class ArtifactEntryLookupCacheTest
+{
+
+    private static final String ARTIFACT_PATH = "org/carlspring/strongbox/test/1.0/test-1.0.jar";
+
+    private static final String OTHER_ARTIFACT_PATH = "org/carlspring/strongbox/test/1.1/test-1.1.jar";
+
+    @Inject
+    private ArtifactEntryLookupCache cache;
+
+    private LayoutFileSystem fileSystem;
+
+    private AtomicInteger lookupCount;
+
+    private long hitCount;
+
+    private long missCount;
+
+    @BeforeEach
+    public void setup()
+    {
+        cache.invalidateAll();
+
+        hitCount = cache.getHitCount();
+        missCount = cache.getMissCount();
+        lookupCount = new AtomicInteger();
+
+        fileSystem = new MockedLayoutFileSystem("storage0", "releases");
+    }
+
+    @Test
+    public void testHitAndMiss()
+    {
+        ORID id = new ORecordId(10, 1);
+
+        assertEquals(id, get(ARTIFACT_PATH, id));
+        assertEquals(id, get(ARTIFACT_PATH, id));
+
+        assertEquals(1, lookupCount.get());
+        assertEquals(1L, cache.getHitCount() - hitCount);
+        assertEquals(1L, cache.getMissCount() - missCount);
+
+        // The paths without `ArtifactEntry` are cached as well.
+        assertNull(get(OTHER_ARTIFACT_PATH, null));
+        assertNull(get(OTHER_ARTIFACT_PATH, null));
+
+        assertEquals(2, lookupCount.get());
+    }
+
+    @Test
+    public void testTemporaryIdNotCached()
+    {
+        ORID id = new ORecordId(10, -2);
+
+        assertEquals(id, get(ARTIFACT_PATH, id));
+        assertEquals(id, get(ARTIFACT_PATH, id));
+
+        assertEquals(2, lookupCount.get());
+    }
+
+    @Test
+    public void testInvalidate()
+    {
+        ORID id = new ORecordId(10, 1);
+
+        get(ARTIFACT_PATH, id);
+        cache.invalidate("storage0", "releases", ARTIFACT_PATH);
+        get(ARTIFACT_PATH, id);
+
+        assertEquals(2, lookupCount.get());
+    }
+
+    @Test
+    public void testStoredEventInvalidatesExactPath()
+    {
+        ORID id = new ORecordId(10, 1);
+
+        get(ARTIFACT_PATH, id);
+        get(OTHER_ARTIFACT_PATH, id);
+
+        cache.handle(new ArtifactEvent<>(fileSystem.getRootDirectory().resolve(ARTIFACT_PATH),
+                                         ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_STORED.getType()));
+
+        get(ARTIFACT_PATH, id);
+        get(OTHER_ARTIFACT_PATH, id);
+
+        assertEquals(3, lookupCount.get());
+    }
+
+    @Test
+    public void testDirectoryDeletedEventInvalidatesNestedPaths()
+    {
+        ORID id = new ORecordId(10, 1);
+
+        get(ARTIFACT_PATH, id);
+        get(OTHER_ARTIFACT_PATH, id);
+        get("org/carlspring/strongbox/other/1.0/other-1.0.jar", id);
+
+        cache.handle(new ArtifactEvent<>(fileSystem.getRootDirectory().resolve("org/carlspring/strongbox/test"),
+                                         ArtifactEventTypeEnum.EVENT_ARTIFACT_PATH_DELETED.getType()));
+
+        get(ARTIFACT_PATH, id);
+        get(OTHER_ARTIFACT_PATH, id);
+        get("org/carlspring/strongbox/other/1.0/other-1.0.jar", id);
+
+        assertEquals(5, lookupCount.get());
+    }
+
+    private ORID get(String path,
+                     ORID id)
+    {
+        return cache.get("storage0", "releases", path, () -> {
+            lookupCount.incrementAndGet();
+
+            return id;
+        });
+    }
+
+}
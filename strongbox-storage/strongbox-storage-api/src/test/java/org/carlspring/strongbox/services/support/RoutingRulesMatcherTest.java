@@ -0,0 +1,92 @@
+package org.carlspring.strongbox.services.support;
+
+import org.carlspring.strongbox.storage.routing.MutableRoutingRule;
+import org.carlspring.strongbox.storage.routing.MutableRoutingRules;
+import org.carlspring.strongbox.storage.routing.MutableRuleSet;
+import org.carlspring.strongbox.storage.routing.RoutingRules;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RoutingRulesMatcherTest
+{
+
+    private static final String GROUP = "group-releases";
+
+    private static final String RELEASES_1 = "releases-1";
+
+    private static final String RELEASES_2 = "releases-2";
+
+    private RoutingRulesMatcher matcher;
+
+    @BeforeEach
+    public void setUp()
+    {
+        MutableRoutingRules routingRules = new MutableRoutingRules();
+        routingRules.addDenyRule(GROUP,
+                                 ruleSet(GROUP,
+                                         rule("org/carlspring/.*", RELEASES_1),
+                                         rule(".*-SNAPSHOT\\.jar", RELEASES_1, RELEASES_2)));
+        routingRules.addAcceptRule(GROUP,
+                                   ruleSet(GROUP,
+                                           rule("org/carlspring/strongbox/.*", RELEASES_1)));
+        routingRules.addDenyRule(MutableRoutingRules.WILDCARD,
+                                 ruleSet(MutableRoutingRules.WILDCARD,
+                                         rule("com/(foo|bar)/.*", RELEASES_2)));
+
+        matcher = new RoutingRulesMatcher(new RoutingRules(routingRules), 100);
+    }
+
+    @Test
+    public void testDenyRules()
+    {
+        assertTrue(matcher.isDenied(GROUP, RELEASES_1, "org/carlspring/commons/1.0/commons-1.0.jar"));
+        assertTrue(matcher.isDenied(GROUP, RELEASES_2, "com/bar/2.0/bar-2.0-SNAPSHOT.jar"));
+        assertTrue(matcher.isDenied(GROUP, RELEASES_2, "com/foo/1.0/foo-1.0.jar"));
+
+        assertFalse(matcher.isDenied(GROUP, RELEASES_2, "org/carlspring/commons/1.0/commons-1.0.jar"));
+        assertFalse(matcher.isDenied(GROUP, RELEASES_1, "com/foo/1.0/foo-1.0.jar"));
+        assertFalse(matcher.isDenied("other-group", RELEASES_1, "org/carlspring/commons/1.0/commons-1.0.jar"));
+    }
+
+    @Test
+    public void testAcceptRulesOverrideDenyRules()
+    {
+        assertFalse(matcher.isDenied(GROUP, RELEASES_1, "org/carlspring/strongbox/1.0/strongbox-1.0.jar"));
+        assertFalse(matcher.isDenied(GROUP, RELEASES_1, "org/carlspring/strongbox/1.0/strongbox-1.0-SNAPSHOT.jar"));
+        assertTrue(matcher.isDenied(GROUP, RELEASES_1, "org/carlspring/commons/1.0/commons-1.0-SNAPSHOT.jar"));
+    }
+
+    @Test
+    public void testLiteralPrefix()
+    {
+        assertEquals("org/carlspring/", RoutingRulesMatcher.literalPrefix("org/carlspring/.*"));
+        assertEquals("org/carlsprin", RoutingRulesMatcher.literalPrefix("org/carlsprings?/.*"));
+        assertEquals("org/carlspring", RoutingRulesMatcher.literalPrefix("org/carlspring+/.*"));
+        assertEquals("", RoutingRulesMatcher.literalPrefix(".*-SNAPSHOT\\.jar"));
+        assertEquals("", RoutingRulesMatcher.literalPrefix("org/foo/.*|com/bar/.*"));
+    }
+
+    private MutableRuleSet ruleSet(String groupRepositoryId,
+                                   MutableRoutingRule... rules)
+    {
+        MutableRuleSet ruleSet = new MutableRuleSet();
+        ruleSet.setGroupRepository(groupRepositoryId);
+        ruleSet.setRoutingRules(Arrays.asList(rules));
+
+        return ruleSet;
+    }
+
+    private MutableRoutingRule rule(String pattern,
+                                    String... repositories)
+    {
+        return new MutableRoutingRule(pattern, new LinkedHashSet<>(Arrays.asList(repositories)));
+    }
+
+}
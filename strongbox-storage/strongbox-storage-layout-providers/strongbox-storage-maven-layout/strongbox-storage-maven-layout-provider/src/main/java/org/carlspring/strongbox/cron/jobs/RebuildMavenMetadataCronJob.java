@@ -38,18 +38,24 @@ public class RebuildMavenMetadataCronJob
         String storageId = config.getProperty("storageId");
         String repositoryId = config.getProperty("repositoryId");
         String basePath = config.getProperty("basePath");
+        // Only the artifacts stored or deleted since the last run will be processed.
+        boolean incremental = Boolean.parseBoolean(config.getProperty("incremental"));
 
         if (storageId == null)
         {
             Map<String, Storage> storages = getStorages();
             for (String storage : storages.keySet())
             {
-                rebuildRepositories(storage);
+                rebuildRepositories(storage, incremental);
             }
         }
         else if (repositoryId == null)
         {
-            rebuildRepositories(storageId);
+            rebuildRepositories(storageId, incremental);
+        }
+        else if (incremental && basePath == null)
+        {
+            artifactMetadataService.rebuildDirtyMetadata(storageId, repositoryId);
         }
         else
         {
@@ -61,17 +67,25 @@ public class RebuildMavenMetadataCronJob
      * To rebuild artifact's metadata in repositories
      *
      * @param storageId path of storage
+     * @param incremental rebuild only the dirty metadata
      * @throws NoSuchAlgorithmException
      * @throws XmlPullParserException
      * @throws IOException
      */
-    private void rebuildRepositories(String storageId)
+    private void rebuildRepositories(String storageId,
+                                     boolean incremental)
             throws NoSuchAlgorithmException, XmlPullParserException, IOException
     {
         Map<String, Repository> repositories = getRepositories(storageId);
 
         for (String repository : repositories.keySet())
         {
+            if (incremental)
+            {
+                artifactMetadataService.rebuildDirtyMetadata(storageId, repository);
+                continue;
+            }
+
             artifactMetadataService.rebuildMetadata(storageId, repository, null);
         }
     }
@@ -0,0 +1,148 @@
+package org.carlspring.strongbox.event.artifact;
+
+import org.carlspring.maven.commons.util.ArtifactUtils;
+import org.carlspring.strongbox.providers.io.RepositoryFiles;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.layout.Maven2LayoutProvider;
+import org.carlspring.strongbox.storage.metadata.MavenMetadataDirtySet;
+import org.carlspring.strongbox.storage.repository.Repository;
+
+import javax.inject.Inject;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.repository.metadata.Metadata;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Marks the `groupId:artifactId` of the stored and deleted Maven artifacts as
+ * dirty, so that only their metadata will be regenerated. <br>
+ * If a deleted directory can't be mapped to the `groupId:artifactId`, the
+ * whole repository metadata is regenerated next time.
+ */
+@Component
+public class MavenMetadataDirtySetEventListener
+        extends BaseMavenArtifactEventListener
+{
+
+    @Inject
+    private MavenMetadataDirtySet mavenMetadataDirtySet;
+
+    @Inject
+    private Maven2LayoutProvider maven2LayoutProvider;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handle(final ArtifactEvent<RepositoryPath> event)
+    {
+        if (event.getType() != ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_STORED.getType()
+                && event.getType() != ArtifactEventTypeEnum.EVENT_ARTIFACT_PATH_DELETED.getType())
+        {
+            return;
+        }
+
+        final Repository repository = getRepository(event);
+        if (!Maven2LayoutProvider.ALIAS.equals(repository.getLayout()))
+        {
+            return;
+        }
+
+        RepositoryPath path = event.getPath();
+        if (maven2LayoutProvider.isMavenMetadata(path) || maven2LayoutProvider.isChecksum(path))
+        {
+            return;
+        }
+
+        String storageId = repository.getStorage().getId();
+        String repositoryId = repository.getId();
+
+        Artifact artifact = toArtifact(path);
+        if (artifact != null)
+        {
+            mavenMetadataDirtySet.mark(storageId, repositoryId, artifact.getGroupId(), artifact.getArtifactId());
+
+            return;
+        }
+
+        if (event.getType() != ArtifactEventTypeEnum.EVENT_ARTIFACT_PATH_DELETED.getType())
+        {
+            return;
+        }
+
+        // The deleted path is a directory, so the `groupId:artifactId` can only be
+        // taken from the metadata of the parent (the artifact base path of a version directory).
+        Metadata metadata = readParentMetadata(path);
+        if (metadata != null)
+        {
+            mavenMetadataDirtySet.mark(storageId, repositoryId, metadata.getGroupId(), metadata.getArtifactId());
+
+            return;
+        }
+
+        logger.debug(String.format("Unable to map the deleted path [%s] to the artifact, regenerate all the metadata.",
+                                   path));
+
+        mavenMetadataDirtySet.invalidate(storageId, repositoryId);
+    }
+
+    /**
+     * The deleted file doesn't exist anymore, so the coordinates can only be
+     * calculated from the path. The path is only taken as an artifact file if
+     * it's placed in the directory of its own version.
+     */
+    private Artifact toArtifact(RepositoryPath path)
+    {
+        Artifact artifact;
+        try
+        {
+            artifact = ArtifactUtils.convertPathToArtifact(RepositoryFiles.relativizePath(path));
+        }
+        catch (Exception e)
+        {
+            return null;
+        }
+
+        if (artifact == null || artifact.getGroupId() == null || artifact.getArtifactId() == null)
+        {
+            return null;
+        }
+
+        RepositoryPath parent = path.getParent();
+        if (parent == null || parent.getFileName() == null
+                || !parent.getFileName().toString().equals(artifact.getBaseVersion())
+                || !path.getFileName().toString().startsWith(artifact.getArtifactId() + "-"))
+        {
+            return null;
+        }
+
+        return artifact;
+    }
+
+    private Metadata readParentMetadata(RepositoryPath path)
+    {
+        RepositoryPath parent = path.getParent();
+        if (parent == null || parent.getFileName() == null)
+        {
+            return null;
+        }
+
+        Metadata metadata;
+        try
+        {
+            metadata = mavenMetadataManager.readMetadata(parent);
+        }
+        catch (Exception e)
+        {
+            return null;
+        }
+
+        if (metadata == null || metadata.getGroupId() == null
+                || !parent.getFileName().toString().equals(metadata.getArtifactId()))
+        {
+            return null;
+        }
+
+        return metadata;
+    }
+
+}
@@ -56,6 +56,22 @@ public interface ArtifactMetadataService
     void rebuildMetadata(String storageId, String repositoryId, String artifactPath)
             throws IOException, XmlPullParserException, NoSuchAlgorithmException;
 
+    /**
+     * Regenerate the metadata of the artifacts which were stored or deleted
+     * since the last regeneration. The versions are taken from the indexed
+     * artifact entries instead of the POM files, and the different groupIds
+     * are processed in parallel. <br>
+     * All the metadata of the repository is regenerated if the changes since
+     * the last regeneration are not known (like after the start).
+     *
+     * @param storageId     String
+     * @param repositoryId  String
+     *
+     * @return the number of regenerated metadata files, or `-1` if all the
+     *         metadata of the repository was regenerated
+     */
+    int rebuildDirtyMetadata(String storageId, String repositoryId);
+
     /**
      * Rebuild metadata for all repositories in the storage
      *
@@ -3,38 +3,65 @@ package org.carlspring.strongbox.services.impl;
 import org.carlspring.maven.commons.util.ArtifactUtils;
 import org.carlspring.strongbox.artifact.MavenArtifact;
 import org.carlspring.strongbox.artifact.MavenArtifactUtils;
+import org.carlspring.strongbox.artifact.coordinates.MavenArtifactCoordinates;
 import org.carlspring.strongbox.artifact.locator.ArtifactDirectoryLocator;
 import org.carlspring.strongbox.configuration.Configuration;
 import org.carlspring.strongbox.configuration.ConfigurationManager;
+import org.carlspring.strongbox.domain.ArtifactEntry;
 import org.carlspring.strongbox.event.artifact.ArtifactEventListenerRegistry;
 import org.carlspring.strongbox.locator.handlers.GenerateMavenMetadataOperation;
 import org.carlspring.strongbox.providers.ProviderImplementationException;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
 import org.carlspring.strongbox.providers.layout.Maven2LayoutProvider;
+import org.carlspring.strongbox.services.ArtifactEntryService;
 import org.carlspring.strongbox.services.ArtifactMetadataService;
 import org.carlspring.strongbox.storage.Storage;
+import org.carlspring.strongbox.storage.metadata.MavenMetadataDirtySet;
 import org.carlspring.strongbox.storage.metadata.MavenMetadataManager;
 import org.carlspring.strongbox.storage.metadata.MetadataHelper;
 import org.carlspring.strongbox.storage.metadata.MetadataType;
+import org.carlspring.strongbox.storage.metadata.VersionCollectionRequest;
+import org.carlspring.strongbox.storage.metadata.VersionCollector;
+import org.carlspring.strongbox.storage.metadata.comparators.MetadataVersionComparator;
+import org.carlspring.strongbox.storage.metadata.versions.MetadataVersion;
 import org.carlspring.strongbox.storage.repository.Repository;
 
 import javax.inject.Inject;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.maven.artifact.repository.metadata.Metadata;
+import org.apache.maven.artifact.repository.metadata.Plugin;
 import org.apache.maven.artifact.repository.metadata.SnapshotVersion;
 import org.apache.maven.artifact.repository.metadata.Versioning;
+import org.apache.maven.model.Model;
+import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
+import org.apache.maven.plugin.descriptor.PluginDescriptor;
 import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
 import org.javatuples.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * @author stodorov
@@ -59,6 +86,18 @@ public class ArtifactMetadataServiceImpl
     @Inject
     private RepositoryPathResolver repositoryPathResolver;
 
+    @Inject
+    private MavenMetadataDirtySet mavenMetadataDirtySet;
+
+    @Inject
+    private ArtifactEntryService artifactEntryService;
+
+    @Inject
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${strongbox.maven.metadata.regeneration.parallelism:4}")
+    private int regenerationParallelism;
+
     public ArtifactMetadataServiceImpl()
     {
     }
@@ -128,6 +167,255 @@ public class ArtifactMetadataServiceImpl
         locator.locateArtifactDirectories();
     }
 
+    @Override
+    public int rebuildDirtyMetadata(String storageId,
+                                    String repositoryId)
+    {
+        Storage storage = getConfiguration().getStorage(storageId);
+        Repository repository = storage.getRepository(repositoryId);
+
+        if (!Maven2LayoutProvider.ALIAS.equals(repository.getLayout()))
+        {
+            logger.warn("Trying to rebuild metadata of repository {} with unsupported layout {} ", repository.getId(),
+                        repository.getLayout());
+            return 0;
+        }
+
+        if (!mavenMetadataDirtySet.isTrusted(storageId, repositoryId))
+        {
+            logger.debug(String.format("Regenerate all the metadata in [%s/%s], as the dirty set can't be trusted.",
+                                       storageId, repositoryId));
+
+            mavenMetadataDirtySet.trust(storageId, repositoryId);
+            try
+            {
+                rebuildMetadata(storageId, repositoryId, null);
+            }
+            catch (Exception e)
+            {
+                logger.error(String.format("Failed to regenerate metadata in [%s/%s].", storageId, repositoryId), e);
+
+                mavenMetadataDirtySet.invalidate(storageId, repositoryId);
+            }
+
+            return -1;
+        }
+
+        Set<String> dirtySet = mavenMetadataDirtySet.drain(storageId, repositoryId);
+        if (dirtySet.isEmpty())
+        {
+            return 0;
+        }
+
+        // The artifacts of the same groupId share the plugin metadata, so only the different groupIds are independent.
+        Map<String, List<String>> artifactIdsByGroupId = new HashMap<>();
+        for (String artifactKey : dirtySet)
+        {
+            String[] groupIdAndArtifactId = artifactKey.split(":", 2);
+            artifactIdsByGroupId.computeIfAbsent(groupIdAndArtifactId[0], k -> new ArrayList<>())
+                                .add(groupIdAndArtifactId[1]);
+        }
+
+        AtomicInteger result = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(regenerationParallelism,
+                                                                                  artifactIdsByGroupId.size())));
+        try
+        {
+            List<Callable<Object>> tasks = new ArrayList<>();
+            artifactIdsByGroupId.forEach((groupId, artifactIds) -> tasks.add(Executors.callable(() -> {
+                for (String artifactId : artifactIds)
+                {
+                    if (rebuildArtifactMetadata(repository, groupId, artifactId))
+                    {
+                        result.incrementAndGet();
+                    }
+                }
+            })));
+
+            executor.invokeAll(tasks);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+
+            // Some of the metadata could be already regenerated, but it's cheap to regenerate them again.
+            mavenMetadataDirtySet.markAll(storageId, repositoryId, dirtySet);
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+
+        logger.debug(String.format("Regenerated [%s] of [%s] dirty metadata in [%s/%s].", result.get(),
+                                   dirtySet.size(), storageId, repositoryId));
+
+        return result.get();
+    }
+
+    private boolean rebuildArtifactMetadata(Repository repository,
+                                            String groupId,
+                                            String artifactId)
+    {
+        RepositoryPath artifactBasePath = repositoryPathResolver.resolve(repository,
+                                                                         String.format("%s/%s",
+                                                                                       groupId.replace('.', '/'),
+                                                                                       artifactId));
+        try
+        {
+            Map<MetadataVersion, String> pomPaths = new TransactionTemplate(transactionManager).execute(t -> collectPomPaths(repository,
+                                                                                                                             groupId,
+                                                                                                                             artifactId));
+
+            List<MetadataVersion> metadataVersions = new ArrayList<>(pomPaths.keySet());
+
+            // Nothing to regenerate, the whole artifact was removed.
+            if (!Files.exists(artifactBasePath)
+                    || metadataVersions.isEmpty() && !Files.exists(MetadataHelper.getMetadataPath(artifactBasePath)))
+            {
+                return false;
+            }
+
+            VersionCollector versionCollector = new VersionCollector();
+            VersionCollectionRequest request = new VersionCollectionRequest();
+            request.setArtifactBasePath(artifactBasePath);
+            request.setMetadataVersions(metadataVersions);
+            request.setVersioning(versionCollector.generateVersioning(metadataVersions));
+
+            if (!metadataVersions.isEmpty())
+            {
+                String latestPomPath = pomPaths.get(metadataVersions.get(metadataVersions.size() - 1));
+                readPlugin(repositoryPathResolver.resolve(repository, latestPomPath)).ifPresent(request::addPlugin);
+            }
+
+            mavenMetadataManager.generateMetadata(artifactBasePath, request);
+            artifactEventListenerRegistry.dispatchArtifactMetadataStoredEvent(artifactBasePath.resolve(MetadataHelper.MAVEN_METADATA_XML));
+
+            return true;
+        }
+        catch (Exception e)
+        {
+            logger.error("Failed to generate metadata for " + artifactBasePath, e);
+
+            mavenMetadataDirtySet.mark(repository.getStorage().getId(), repository.getId(), groupId, artifactId);
+
+            return false;
+        }
+    }
+
+    /**
+     * @return the POM paths of the indexed artifact versions, sorted by version
+     */
+    private Map<MetadataVersion, String> collectPomPaths(Repository repository,
+                                                         String groupId,
+                                                         String artifactId)
+    {
+        Map<String, String> coordinates = new HashMap<>();
+        coordinates.put("groupId", groupId);
+        coordinates.put("artifactId", artifactId);
+
+        List<ArtifactEntry> artifactEntries = artifactEntryService.findArtifactList(repository.getStorage().getId(),
+                                                                                    repository.getId(),
+                                                                                    coordinates,
+                                                                                    true);
+
+        Map<String, MetadataVersion> metadataVersions = new HashMap<>();
+        Map<String, String> pomPaths = new HashMap<>();
+        Map<String, Integer> buildNumbers = new HashMap<>();
+        for (ArtifactEntry artifactEntry : artifactEntries)
+        {
+            MavenArtifactCoordinates artifactCoordinates = (MavenArtifactCoordinates) artifactEntry.getArtifactCoordinates();
+
+            // No pom, no metadata.
+            if (!"pom".equals(artifactCoordinates.getExtension()))
+            {
+                continue;
+            }
+
+            String version = artifactCoordinates.getVersion();
+            int buildNumber = getSnapshotBuildNumber(version);
+            if (ArtifactUtils.isSnapshot(version))
+            {
+                version = ArtifactUtils.getSnapshotBaseVersion(version);
+            }
+
+            // Same as the POM files, the latest build of the timestamped snapshot POMs is used.
+            if (buildNumbers.containsKey(version) && buildNumbers.get(version) > buildNumber)
+            {
+                continue;
+            }
+            buildNumbers.put(version, buildNumber);
+            pomPaths.put(version, artifactEntry.getArtifactPath());
+
+            MetadataVersion metadataVersion = new MetadataVersion();
+            metadataVersion.setVersion(version);
+            Date created = Optional.ofNullable(artifactEntry.getCreated()).orElse(new Date(0));
+            metadataVersion.setCreatedDate(FileTime.fromMillis(created.getTime()));
+
+            metadataVersions.put(version, metadataVersion);
+        }
+
+        // 1.1 < 1.2 < 1.3 ....
+        Map<MetadataVersion, String> result = new LinkedHashMap<>();
+        metadataVersions.values()
+                        .stream()
+                        .sorted(new MetadataVersionComparator())
+                        .forEach(v -> result.put(v, pomPaths.get(v.getVersion())));
+
+        return result;
+    }
+
+    /**
+     * @return the build number of the timestamped snapshot version, `-1` for
+     *         the release and the plain `-SNAPSHOT` versions
+     */
+    private static int getSnapshotBuildNumber(String version)
+    {
+        if (!ArtifactUtils.isSnapshot(version) || version.endsWith("-SNAPSHOT"))
+        {
+            return -1;
+        }
+
+        try
+        {
+            return Integer.parseInt(ArtifactUtils.getSnapshotBuildNumber(version));
+        }
+        catch (NumberFormatException e)
+        {
+            return -1;
+        }
+    }
+
+    /**
+     * Only the latest POM is read, to get the plugin prefix if the artifact is
+     * a Maven plugin.
+     */
+    private Optional<Plugin> readPlugin(RepositoryPath pomPath)
+    {
+        Model pom;
+        try (InputStream is = Files.newInputStream(pomPath))
+        {
+            pom = new MavenXpp3Reader().read(is);
+        }
+        catch (IOException | XmlPullParserException e)
+        {
+            logger.error("POM file '" + pomPath + "' appears to be corrupt.", e);
+
+            return Optional.empty();
+        }
+
+        if (!"maven-plugin".equals(pom.getPackaging()))
+        {
+            return Optional.empty();
+        }
+
+        Plugin plugin = new Plugin();
+        plugin.setName(pom.getName() != null ? pom.getName() : pom.getArtifactId());
+        plugin.setArtifactId(pom.getArtifactId());
+        plugin.setPrefix(PluginDescriptor.getGoalPrefixFromArtifactId(pom.getArtifactId()));
+
+        return Optional.of(plugin);
+    }
+
     @Override
     public void mergeMetadata(MavenArtifact artifact,
                               Metadata mergeMetadata)
@@ -0,0 +1,142 @@
+package org.carlspring.strongbox.storage.metadata;
+
+import org.carlspring.strongbox.data.CacheName;
+
+import javax.annotation.PostConstruct;
+import javax.inject.Inject;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.ISet;
+import com.hazelcast.core.MultiMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * The `groupId:artifactId` pairs per repository, which `maven-metadata.xml`
+ * should be regenerated for, because their artifacts were stored or deleted
+ * since the last regeneration. <br>
+ * The pairs are kept in the cluster wide Hazelcast structures, so the changes
+ * made on any node are regenerated by the node which runs the regeneration.
+ * The changes made before the cluster start are unknown, so the repository is
+ * trusted only after its first full regeneration, and it's not trusted anymore
+ * if some change can't be mapped to the pairs.
+ */
+@Component
+public class MavenMetadataDirtySet
+{
+
+    @Inject
+    private HazelcastInstance hazelcastInstance;
+
+    private MultiMap<String, String> dirtySets;
+
+    private ISet<String> trustedRepositories;
+
+    @PostConstruct
+    public void init()
+    {
+        dirtySets = hazelcastInstance.getMultiMap(CacheName.Repository.MAVEN_METADATA_DIRTY_SETS);
+        trustedRepositories = hazelcastInstance.getSet(CacheName.Repository.MAVEN_METADATA_TRUSTED_REPOSITORIES);
+    }
+
+    public void mark(String storageId,
+                     String repositoryId,
+                     String groupId,
+                     String artifactId)
+    {
+        dirtySets.put(repositoryKey(storageId, repositoryId), artifactKey(groupId, artifactId));
+    }
+
+    public void markAll(String storageId,
+                        String repositoryId,
+                        Collection<String> artifactKeys)
+    {
+        if (artifactKeys.isEmpty())
+        {
+            return;
+        }
+
+        String repositoryKey = repositoryKey(storageId, repositoryId);
+        for (String artifactKey : artifactKeys)
+        {
+            dirtySets.put(repositoryKey, artifactKey);
+        }
+    }
+
+    public boolean isDirty(String storageId,
+                           String repositoryId,
+                           String groupId,
+                           String artifactId)
+    {
+        return dirtySets.containsEntry(repositoryKey(storageId, repositoryId), artifactKey(groupId, artifactId));
+    }
+
+    /**
+     * Removes and returns the `groupId:artifactId` pairs of the repository,
+     * the pairs marked concurrently will be returned by the next call.
+     */
+    public Set<String> drain(String storageId,
+                             String repositoryId)
+    {
+        String repositoryKey = repositoryKey(storageId, repositoryId);
+
+        Set<String> result = new HashSet<>();
+        for (String artifactKey : dirtySets.get(repositoryKey))
+        {
+            // Only the pairs removed by this call are returned, if the drain runs concurrently on other node.
+            if (dirtySets.remove(repositoryKey, artifactKey))
+            {
+                result.add(artifactKey);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * @return `true` if all the changes of the repository are within the
+     *         dirty set
+     */
+    public boolean isTrusted(String storageId,
+                             String repositoryId)
+    {
+        return trustedRepositories.contains(repositoryKey(storageId, repositoryId));
+    }
+
+    /**
+     * Should be called right before the full regeneration of the repository
+     * metadata, the pairs marked during the regeneration are kept.
+     */
+    public void trust(String storageId,
+                      String repositoryId)
+    {
+        String repositoryKey = repositoryKey(storageId, repositoryId);
+
+        dirtySets.remove(repositoryKey);
+        trustedRepositories.add(repositoryKey);
+    }
+
+    /**
+     * The metadata of the repository will be fully regenerated next time.
+     */
+    public void invalidate(String storageId,
+                           String repositoryId)
+    {
+        trustedRepositories.remove(repositoryKey(storageId, repositoryId));
+    }
+
+    public static String artifactKey(String groupId,
+                                     String artifactId)
+    {
+        return String.format("%s:%s", groupId, artifactId);
+    }
+
+    private static String repositoryKey(String storageId,
+                                        String repositoryId)
+    {
+        return String.format("%s:%s", storageId, repositoryId);
+    }
+
+}
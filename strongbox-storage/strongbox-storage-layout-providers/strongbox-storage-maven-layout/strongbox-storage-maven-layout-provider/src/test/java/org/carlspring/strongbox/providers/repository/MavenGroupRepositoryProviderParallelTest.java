@@ -0,0 +1,248 @@
+package org.carlspring.strongbox.providers.repository;
+
+import org.carlspring.strongbox.client.CloseableRestResponse;
+import org.carlspring.strongbox.client.RemoteRepositoryRetryArtifactDownloadConfiguration;
+import org.carlspring.strongbox.client.RestArtifactResolver;
+import org.carlspring.strongbox.config.Maven2LayoutProviderTestConfig;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
+import org.carlspring.strongbox.providers.layout.Maven2LayoutProvider;
+import org.carlspring.strongbox.storage.repository.MutableRepository;
+import org.carlspring.strongbox.storage.repository.RepositoryTypeEnum;
+import org.carlspring.strongbox.storage.repository.remote.RemoteRepository;
+
+import javax.inject.Inject;
+import javax.ws.rs.core.Response;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.parallel.Execution;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.parallel.ExecutionMode.SAME_THREAD;
+
+/**
+ * Group resolution with the `strongbox.group.parallelResolution` enabled.
+ */
+@ActiveProfiles({"MockedRestArtifactResolverTestConfig", "test"})
+@SpringBootTest
+@ContextConfiguration(classes = Maven2LayoutProviderTestConfig.class)
+@TestPropertySource(properties = "strongbox.group.parallelResolution=true")
+@Execution(SAME_THREAD)
+public class MavenGroupRepositoryProviderParallelTest
+        extends RetryDownloadArtifactTestBase
+{
+
+    private static final String PROXIED_JAR = "org/carlspring/properties-injector/1.7/properties-injector-1.7.jar";
+
+    @Inject
+    private RepositoryProviderRegistry repositoryProviderRegistry;
+
+    @Inject
+    private RepositoryPathResolver repositoryPathResolver;
+
+    @AfterEach
+    public void removeRepositories(TestInfo testInfo)
+            throws Exception
+    {
+        removeRepositories(getRepositories(testInfo));
+    }
+
+    private Set<MutableRepository> getRepositories(TestInfo testInfo)
+    {
+        Set<MutableRepository> repositories = new LinkedHashSet<>();
+        for (String name : new String[]{ "grppt-releases-1",
+                                         "grppt-releases-2",
+                                         "grppt-releases-3",
+                                         "grppt-nested-group-1",
+                                         "grppt-nested-group-2",
+                                         "grppt-proxy-1",
+                                         "grppt-proxy-2",
+                                         "grppt-group" })
+        {
+            repositories.add(createRepositoryMock(STORAGE0,
+                                                  getRepositoryName(name, testInfo),
+                                                  Maven2LayoutProvider.ALIAS));
+        }
+
+        return repositories;
+    }
+
+    @Test
+    public void testHostedAndNestedGroupMembersOrder(TestInfo testInfo)
+            throws Exception
+    {
+        String repositoryReleases1Name = getRepositoryName("grppt-releases-1", testInfo);
+        String repositoryReleases2Name = getRepositoryName("grppt-releases-2", testInfo);
+        String repositoryReleases3Name = getRepositoryName("grppt-releases-3", testInfo);
+        String nestedGroup1Name = getRepositoryName("grppt-nested-group-1", testInfo);
+        String nestedGroup2Name = getRepositoryName("grppt-nested-group-2", testInfo);
+        String repositoryGroupName = getRepositoryName("grppt-group", testInfo);
+
+        // Initialize test data
+        createRepository(STORAGE0, repositoryReleases1Name, false);
+        createRepository(STORAGE0, repositoryReleases2Name, false);
+        createRepository(STORAGE0, repositoryReleases3Name, false);
+
+        generateArtifact(getRepositoryBasedir(STORAGE0, repositoryReleases1Name).getAbsolutePath(),
+                         "com.artifacts.parallel.both:foo:1.2.3");
+        generateArtifact(getRepositoryBasedir(STORAGE0, repositoryReleases3Name).getAbsolutePath(),
+                         "com.artifacts.parallel.both:foo:1.2.3");
+        generateArtifact(getRepositoryBasedir(STORAGE0, repositoryReleases2Name).getAbsolutePath(),
+                         "com.artifacts.parallel.last:foo:1.2.3");
+        generateArtifact(getRepositoryBasedir(STORAGE0, repositoryReleases3Name).getAbsolutePath(),
+                         "com.artifacts.parallel.hosted:foo:1.2.3");
+
+        createGroup(STORAGE0, nestedGroup1Name, repositoryReleases1Name);
+        createGroup(STORAGE0, nestedGroup2Name, repositoryReleases2Name);
+        // The nested groups are probed concurrently, the hosted member is probed first.
+        createGroup(STORAGE0, repositoryGroupName, nestedGroup1Name, repositoryReleases3Name, nestedGroup2Name);
+        // Test data initialized.
+
+        // The member which precedes the hosted hit wins.
+        RepositoryPath result = fetchPath(repositoryGroupName, "com/artifacts/parallel/both/foo/1.2.3/foo-1.2.3.jar");
+        assertNotNull(result);
+        assertEquals(repositoryReleases1Name, result.getRepository().getId());
+
+        result = fetchPath(repositoryGroupName, "com/artifacts/parallel/hosted/foo/1.2.3/foo-1.2.3.jar");
+        assertNotNull(result);
+        assertEquals(repositoryReleases3Name, result.getRepository().getId());
+
+        result = fetchPath(repositoryGroupName, "com/artifacts/parallel/last/foo/1.2.3/foo-1.2.3.jar");
+        assertNotNull(result);
+        assertEquals(repositoryReleases2Name, result.getRepository().getId());
+
+        result = fetchPath(repositoryGroupName, "com/artifacts/parallel/missing/foo/1.2.3/foo-1.2.3.jar");
+        assertNull(result);
+    }
+
+    @Test
+    public void testOnlyTheFirstProxyWithThePathIsFetched(TestInfo testInfo)
+            throws Exception
+    {
+        String proxy1Name = getRepositoryName("grppt-proxy-1", testInfo);
+        String proxy2Name = getRepositoryName("grppt-proxy-2", testInfo);
+        String repositoryGroupName = getRepositoryName("grppt-group", testInfo);
+
+        createProxyRepository(STORAGE0, proxy1Name, "http://grppt-proxy-1.example.org/");
+        createProxyRepository(STORAGE0, proxy2Name, "http://grppt-proxy-2.example.org/");
+        createGroup(STORAGE0, repositoryGroupName, proxy1Name, proxy2Name);
+
+        RestArtifactResolver resolver1 = mockRemoteRepository("http://grppt-proxy-1.example.org/", true);
+        RestArtifactResolver resolver2 = mockRemoteRepository("http://grppt-proxy-2.example.org/", true);
+
+        RepositoryPath result = fetchPath(repositoryGroupName, PROXIED_JAR);
+        assertNotNull(result);
+        assertEquals(proxy1Name, result.getRepository().getId());
+        assertTrue(Files.exists(result));
+
+        // The losing probe has only checked the path existence.
+        Mockito.verify(resolver2, Mockito.never()).get(ArgumentMatchers.anyString());
+        Mockito.verify(resolver2, Mockito.never()).get(ArgumentMatchers.anyString(), ArgumentMatchers.anyLong());
+        assertFalse(Files.exists(localPath(proxy2Name)));
+
+        Mockito.verify(resolver1, Mockito.atLeastOnce()).get(ArgumentMatchers.anyString());
+    }
+
+    @Test
+    public void testProxyWithoutThePathIsNotFetched(TestInfo testInfo)
+            throws Exception
+    {
+        String proxy1Name = getRepositoryName("grppt-proxy-1", testInfo);
+        String proxy2Name = getRepositoryName("grppt-proxy-2", testInfo);
+        String repositoryGroupName = getRepositoryName("grppt-group", testInfo);
+
+        createProxyRepository(STORAGE0, proxy1Name, "http://grppt-proxy-1.example.org/");
+        createProxyRepository(STORAGE0, proxy2Name, "http://grppt-proxy-2.example.org/");
+        createGroup(STORAGE0, repositoryGroupName, proxy1Name, proxy2Name);
+
+        RestArtifactResolver resolver1 = mockRemoteRepository("http://grppt-proxy-1.example.org/", false);
+        mockRemoteRepository("http://grppt-proxy-2.example.org/", true);
+
+        RepositoryPath result = fetchPath(repositoryGroupName, PROXIED_JAR);
+        assertNotNull(result);
+        assertEquals(proxy2Name, result.getRepository().getId());
+
+        Mockito.verify(resolver1, Mockito.never()).get(ArgumentMatchers.anyString());
+        Mockito.verify(resolver1, Mockito.never()).get(ArgumentMatchers.anyString(), ArgumentMatchers.anyLong());
+        assertFalse(Files.exists(localPath(proxy1Name)));
+    }
+
+    private RepositoryPath fetchPath(String repositoryGroupName,
+                                     String path)
+            throws Exception
+    {
+        RepositoryPath repositoryPath = repositoryPathResolver.resolve(STORAGE0, repositoryGroupName, path);
+        RepositoryProvider repositoryProvider = repositoryProviderRegistry.getProvider(RepositoryTypeEnum.GROUP.getType());
+
+        return (RepositoryPath) repositoryProvider.fetchPath(repositoryPath);
+    }
+
+    private Path localPath(String repositoryId)
+    {
+        return getRepositoryBasedir(STORAGE0, repositoryId).toPath().resolve(PROXIED_JAR);
+    }
+
+    private RestArtifactResolver mockRemoteRepository(String url,
+                                                      boolean exists)
+    {
+        RemoteRepositoryRetryArtifactDownloadConfiguration configuration = configurationManager.getConfiguration()
+                                                                                               .getRemoteRepositoriesConfiguration()
+                                                                                               .getRemoteRepositoryRetryArtifactDownloadConfiguration();
+
+        final RestArtifactResolver artifactResolver = Mockito.mock(RestArtifactResolver.class);
+        Mockito.when(artifactResolver.head(ArgumentMatchers.any(String.class)))
+               .thenAnswer(invocation -> mockResponse(exists));
+        Mockito.when(artifactResolver.get(ArgumentMatchers.any(String.class)))
+               .thenAnswer(invocation -> mockResponse(exists));
+        Mockito.when(artifactResolver.get(ArgumentMatchers.any(String.class), ArgumentMatchers.any(Long.class)))
+               .thenAnswer(invocation -> mockResponse(exists));
+        Mockito.when(artifactResolver.getConfiguration()).thenReturn(configuration);
+        Mockito.when(artifactResolver.isAlive()).thenReturn(true);
+
+        Mockito.when(artifactResolverFactory.newInstance(
+                ArgumentMatchers.argThat((RemoteRepository r) -> r != null && url.equals(r.getUrl()))))
+               .thenReturn(artifactResolver);
+
+        return artifactResolver;
+    }
+
+    private CloseableRestResponse mockResponse(boolean exists)
+            throws Exception
+    {
+        InputStream artifactInputStream = jarArtifact.getInputStream();
+
+        final Response response = Mockito.mock(Response.class);
+        Mockito.when(response.getEntity()).thenReturn(artifactInputStream);
+        Mockito.when(response.readEntity(InputStream.class)).thenReturn(artifactInputStream);
+        Mockito.when(response.getStatus()).thenReturn(exists ? 200 : 404);
+        Mockito.when(response.getHeaderString("Accept-Ranges")).thenReturn("bytes");
+
+        final CloseableRestResponse restResponse = Mockito.mock(CloseableRestResponse.class);
+        Mockito.when(restResponse.getResponse()).thenReturn(response);
+
+        return restResponse;
+    }
+
+    @Override
+    protected String getArtifactVersion()
+    {
+        return "1.7";
+    }
+
+}
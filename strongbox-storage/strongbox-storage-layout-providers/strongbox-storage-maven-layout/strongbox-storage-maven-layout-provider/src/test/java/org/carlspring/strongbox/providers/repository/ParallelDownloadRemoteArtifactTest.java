@@ -2,6 +2,7 @@ package org.carlspring.strongbox.providers.repository;
 
 import org.carlspring.strongbox.config.Maven2LayoutProviderTestConfig;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.services.support.ArtifactDownloadStatisticsAggregator;
 
 import javax.inject.Inject;
 import java.io.FilterInputStream;
@@ -48,6 +49,9 @@ public class ParallelDownloadRemoteArtifactTest
 
     @Inject
     private PlatformTransactionManager transactionManager;
+
+    @Inject
+    private ArtifactDownloadStatisticsAggregator artifactDownloadStatisticsAggregator;
     
     @BeforeEach
     public void setup()
@@ -93,6 +97,8 @@ public class ParallelDownloadRemoteArtifactTest
 
         assertArrayEquals(expected, actual);
         
+        artifactDownloadStatisticsAggregator.flush();
+
         RepositoryPath repositoryPath = repositoryPathResolver.resolve(storageId, repositoryId, path);
 
         assertNotNull(repositoryPath.getArtifactEntry());
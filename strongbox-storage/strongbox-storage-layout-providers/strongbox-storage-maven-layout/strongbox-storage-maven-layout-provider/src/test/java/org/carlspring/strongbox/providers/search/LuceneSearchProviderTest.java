@@ -0,0 +1,122 @@
+package org.carlspring.strongbox.providers.search;
+
+import org.carlspring.maven.commons.util.ArtifactUtils;
+import org.carlspring.strongbox.artifact.MavenArtifact;
+import org.carlspring.strongbox.config.Maven2LayoutProviderTestConfig;
+import org.carlspring.strongbox.providers.layout.Maven2LayoutProvider;
+import org.carlspring.strongbox.services.ArtifactManagementService;
+import org.carlspring.strongbox.storage.repository.MutableRepository;
+import org.carlspring.strongbox.storage.repository.RepositoryPolicyEnum;
+import org.carlspring.strongbox.storage.search.SearchRequest;
+import org.carlspring.strongbox.storage.search.SearchResult;
+import org.carlspring.strongbox.storage.search.SearchResults;
+import org.carlspring.strongbox.testing.TestCaseWithMavenArtifactGenerationAndIndexing;
+
+import javax.inject.Inject;
+import java.io.File;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * The archive listing is saved by the async event handler after the stored
+ * artifact was already indexed, so it should be indexed once more.
+ */
+@SpringBootTest
+@ActiveProfiles(profiles = "test")
+@ContextConfiguration(classes = Maven2LayoutProviderTestConfig.class)
+@TestPropertySource(properties = { "strongbox.search.lucene.enabled=true",
+                                   "strongbox.search.lucene.refreshIntervalMs=100" })
+public class LuceneSearchProviderTest
+        extends TestCaseWithMavenArtifactGenerationAndIndexing
+{
+
+    private static final String REPOSITORY_RELEASES = "lspt-releases";
+
+    private static final String REPOSITORY_SOURCE = "lspt-source";
+
+    private static final String GROUP_ID = "org.carlspring.strongbox.lucene";
+
+    private static final String ARTIFACT_ID = "strongbox-lucene";
+
+    @Inject
+    private LuceneSearchProvider luceneSearchProvider;
+
+    @Inject
+    private ArtifactManagementService artifactManagementService;
+
+    @BeforeEach
+    public void initialize()
+            throws Exception
+    {
+        createRepository(STORAGE0, REPOSITORY_RELEASES, RepositoryPolicyEnum.RELEASE.getPolicy(), false);
+        createRepository(STORAGE0, REPOSITORY_SOURCE, RepositoryPolicyEnum.RELEASE.getPolicy(), false);
+    }
+
+    @AfterEach
+    public void removeRepositories()
+            throws Exception
+    {
+        removeRepositories(getRepositoriesToClean());
+    }
+
+    public static Set<MutableRepository> getRepositoriesToClean()
+    {
+        Set<MutableRepository> repositories = new LinkedHashSet<>();
+        repositories.add(createRepositoryMock(STORAGE0, REPOSITORY_RELEASES, Maven2LayoutProvider.ALIAS));
+        repositories.add(createRepositoryMock(STORAGE0, REPOSITORY_SOURCE, Maven2LayoutProvider.ALIAS));
+
+        return repositories;
+    }
+
+    @Test
+    public void testSearchByArchiveFilename()
+            throws Exception
+    {
+        File sourceBasedir = getRepositoryBasedir(STORAGE0, REPOSITORY_SOURCE);
+        MavenArtifact artifact = generateArtifact(sourceBasedir.getAbsolutePath(),
+                                                  String.format("%s:%s:1.0:jar", GROUP_ID, ARTIFACT_ID));
+
+        String jarPath = ArtifactUtils.convertArtifactToPath(artifact);
+        try (InputStream is = Files.newInputStream(sourceBasedir.toPath().resolve(jarPath)))
+        {
+            artifactManagementService.validateAndStore(STORAGE0, REPOSITORY_RELEASES, jarPath, is);
+        }
+
+        SearchRequest searchRequest = new SearchRequest(STORAGE0,
+                                                        REPOSITORY_RELEASES,
+                                                        String.format("%sMETA-INF/maven/%s/%s/pom.properties",
+                                                                      ArtifactEntryLuceneIndex.FILENAME_PREFIX,
+                                                                      GROUP_ID,
+                                                                      ARTIFACT_ID),
+                                                        LuceneSearchProvider.ALIAS);
+
+        await().atMost(10, TimeUnit.SECONDS).until(() -> contains(luceneSearchProvider.search(searchRequest), jarPath));
+    }
+
+    private boolean contains(SearchResults searchResults,
+                             String path)
+    {
+        for (SearchResult searchResult : searchResults.getResults())
+        {
+            if (searchResult.getUrl().endsWith(path))
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+}
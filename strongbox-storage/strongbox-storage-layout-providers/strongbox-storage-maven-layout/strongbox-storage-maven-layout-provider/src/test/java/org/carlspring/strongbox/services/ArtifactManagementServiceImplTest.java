@@ -12,6 +12,7 @@ import org.carlspring.strongbox.providers.io.RepositoryStreamSupport.RepositoryI
 import org.carlspring.strongbox.providers.layout.Maven2LayoutProvider;
 import org.carlspring.strongbox.repository.MavenRepositoryFeatures;
 import org.carlspring.strongbox.resource.ResourceCloser;
+import org.carlspring.strongbox.services.support.ArtifactDownloadStatisticsAggregator;
 import org.carlspring.strongbox.storage.ArtifactResolutionException;
 import org.carlspring.strongbox.storage.ArtifactStorageException;
 import org.carlspring.strongbox.storage.repository.*;
@@ -80,6 +81,9 @@ public class ArtifactManagementServiceImplTest
     @Inject
     private RepositoryPathResolver repositoryPathResolver;
 
+    @Inject
+    private ArtifactDownloadStatisticsAggregator artifactDownloadStatisticsAggregator;
+
     private Set<MutableRepository> getRepositories(TestInfo testInfo)
     {
         Set<MutableRepository> repositories = new LinkedHashSet<>();
@@ -575,6 +579,8 @@ public class ArtifactManagementServiceImplTest
                          String.format("Operation [%s:%s] content size don't match.", i % 2 == 0 ? "write" : "read", i));
         }
 
+        artifactDownloadStatisticsAggregator.flush();
+
         RepositoryPath repositoryPathResult = repositoryPathResolver.resolve(repository, path);
         ArtifactEntry artifactEntry = repositoryPathResult.getArtifactEntry();
 
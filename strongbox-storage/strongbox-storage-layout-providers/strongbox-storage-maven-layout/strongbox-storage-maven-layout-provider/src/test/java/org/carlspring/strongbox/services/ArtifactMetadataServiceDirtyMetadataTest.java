@@ -0,0 +1,143 @@
+package org.carlspring.strongbox.services;
+
+import org.carlspring.maven.commons.util.ArtifactUtils;
+import org.carlspring.strongbox.artifact.MavenArtifact;
+import org.carlspring.strongbox.config.Maven2LayoutProviderTestConfig;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
+import org.carlspring.strongbox.providers.layout.Maven2LayoutProvider;
+import org.carlspring.strongbox.storage.repository.MutableRepository;
+import org.carlspring.strongbox.storage.repository.RepositoryPolicyEnum;
+import org.carlspring.strongbox.testing.TestCaseWithMavenArtifactGenerationAndIndexing;
+
+import javax.inject.Inject;
+import java.io.File;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.apache.maven.artifact.repository.metadata.Metadata;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.parallel.ExecutionMode.CONCURRENT;
+
+@SpringBootTest
+@ActiveProfiles(profiles = "test")
+@ContextConfiguration(classes = Maven2LayoutProviderTestConfig.class)
+@Execution(CONCURRENT)
+public class ArtifactMetadataServiceDirtyMetadataTest
+        extends TestCaseWithMavenArtifactGenerationAndIndexing
+{
+
+    private static final String REPOSITORY_RELEASES = "amsdm-releases";
+
+    private static final String REPOSITORY_SOURCE = "amsdm-source";
+
+    private static final String ARTIFACT_BASE_PATH = "org/carlspring/strongbox/metadata/dirty/strongbox-dirty";
+
+    @Inject
+    private ArtifactMetadataService artifactMetadataService;
+
+    @Inject
+    private ArtifactManagementService artifactManagementService;
+
+    @Inject
+    private RepositoryPathResolver repositoryPathResolver;
+
+
+    @BeforeAll
+    public static void cleanUp()
+            throws Exception
+    {
+        cleanUp(getRepositoriesToClean());
+    }
+
+    @BeforeEach
+    public void initialize()
+            throws Exception
+    {
+        createRepository(STORAGE0, REPOSITORY_RELEASES, RepositoryPolicyEnum.RELEASE.getPolicy(), false);
+        createRepository(STORAGE0, REPOSITORY_SOURCE, RepositoryPolicyEnum.RELEASE.getPolicy(), false);
+    }
+
+    public static Set<MutableRepository> getRepositoriesToClean()
+    {
+        Set<MutableRepository> repositories = new LinkedHashSet<>();
+        repositories.add(createRepositoryMock(STORAGE0, REPOSITORY_RELEASES, Maven2LayoutProvider.ALIAS));
+        repositories.add(createRepositoryMock(STORAGE0, REPOSITORY_SOURCE, Maven2LayoutProvider.ALIAS));
+
+        return repositories;
+    }
+
+    @Test
+    public void testRebuildDirtyMetadata()
+            throws Exception
+    {
+        String ga = "org.carlspring.strongbox.metadata.dirty:strongbox-dirty";
+
+        store(ga + ":1.0:jar");
+        store(ga + ":1.1:jar");
+
+        // The changes made before the first regeneration are not known, so all the metadata is regenerated.
+        assertEquals(-1, artifactMetadataService.rebuildDirtyMetadata(STORAGE0, REPOSITORY_RELEASES));
+        assertVersions("1.0", "1.1");
+
+        store(ga + ":1.2:jar");
+
+        assertEquals(1, artifactMetadataService.rebuildDirtyMetadata(STORAGE0, REPOSITORY_RELEASES));
+        assertVersions("1.0", "1.1", "1.2");
+
+        // The deleted version directory is mapped to its artifact by the parent metadata.
+        RepositoryPath versionPath = repositoryPathResolver.resolve(STORAGE0,
+                                                                    REPOSITORY_RELEASES,
+                                                                    ARTIFACT_BASE_PATH + "/1.2");
+        artifactManagementService.delete(versionPath, true);
+
+        assertEquals(1, artifactMetadataService.rebuildDirtyMetadata(STORAGE0, REPOSITORY_RELEASES));
+        assertVersions("1.0", "1.1");
+
+        assertEquals(0, artifactMetadataService.rebuildDirtyMetadata(STORAGE0, REPOSITORY_RELEASES));
+    }
+
+    private void assertVersions(String... versions)
+            throws Exception
+    {
+        Metadata metadata = artifactMetadataService.getMetadata(STORAGE0, REPOSITORY_RELEASES, ARTIFACT_BASE_PATH);
+
+        assertNotNull(metadata);
+        assertEquals(versions.length, metadata.getVersioning().getVersions().size());
+        for (String version : versions)
+        {
+            assertTrue(metadata.getVersioning().getVersions().contains(version), "Missing version " + version);
+        }
+    }
+
+    /**
+     * Generate the artifact in the source repository and store its jar and pom
+     * with the {@link ArtifactManagementService}, as it would be deployed.
+     */
+    private void store(String gavtc)
+            throws Exception
+    {
+        File sourceBasedir = getRepositoryBasedir(STORAGE0, REPOSITORY_SOURCE);
+        MavenArtifact artifact = generateArtifact(sourceBasedir.getAbsolutePath(), gavtc);
+
+        String jarPath = ArtifactUtils.convertArtifactToPath(artifact);
+        String pomPath = jarPath.substring(0, jarPath.length() - "jar".length()) + "pom";
+        for (String path : new String[]{ jarPath, pomPath })
+        {
+            try (InputStream is = Files.newInputStream(sourceBasedir.toPath().resolve(path)))
+            {
+                artifactManagementService.validateAndStore(STORAGE0, REPOSITORY_RELEASES, path, is);
+            }
+        }
+    }
+
+}
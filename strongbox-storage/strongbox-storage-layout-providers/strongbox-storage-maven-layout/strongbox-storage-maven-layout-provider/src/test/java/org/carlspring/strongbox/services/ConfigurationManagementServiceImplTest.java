@@ -243,6 +243,27 @@ public class ConfigurationManagementServiceImplTest
         assertEquals(10, pool.getAllocatedConnections());
     }
 
+    @Test
+    public void testConfigurationSnapshotIsNotAffectedByModifications()
+    {
+        Configuration snapshot = configurationManagementService.getConfiguration();
+        HttpConnectionPool pool = snapshot.getHttpConnectionPoolConfiguration(STORAGE0, REPOSITORY_RELEASES_1);
+        int allocatedConnections = pool == null ? 0 : pool.getAllocatedConnections();
+
+        configurationManagementService.setProxyRepositoryMaxConnections(STORAGE0,
+                                                                        REPOSITORY_RELEASES_1,
+                                                                        allocatedConnections + 1);
+
+        Configuration newSnapshot = configurationManagementService.getConfiguration();
+        assertNotSame(snapshot, newSnapshot);
+        assertEquals(allocatedConnections + 1,
+                     newSnapshot.getHttpConnectionPoolConfiguration(STORAGE0, REPOSITORY_RELEASES_1)
+                                .getAllocatedConnections());
+
+        pool = snapshot.getHttpConnectionPoolConfiguration(STORAGE0, REPOSITORY_RELEASES_1);
+        assertEquals(allocatedConnections, pool == null ? 0 : pool.getAllocatedConnections());
+    }
+
     @Test
     public void addAcceptedRuleSet()
     {
@@ -0,0 +1,65 @@
+package org.carlspring.strongbox.storage.metadata;
+
+import org.carlspring.strongbox.config.Maven2LayoutProviderTestConfig;
+
+import javax.inject.Inject;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles(profiles = "test")
+@ContextConfiguration(classes = Maven2LayoutProviderTestConfig.class)
+public class MavenMetadataDirtySetTest
+{
+
+    @Inject
+    private MavenMetadataDirtySet dirtySet;
+
+    @Test
+    public void testDrain()
+    {
+        dirtySet.mark("storage0", "mmdst-drain-releases", "org.carlspring", "foo");
+        dirtySet.mark("storage0", "mmdst-drain-releases", "org.carlspring", "foo");
+        dirtySet.mark("storage0", "mmdst-drain-releases", "org.carlspring", "bar");
+        dirtySet.mark("storage0", "mmdst-drain-snapshots", "org.carlspring", "foo");
+
+        assertTrue(dirtySet.isDirty("storage0", "mmdst-drain-releases", "org.carlspring", "foo"));
+
+        Set<String> drained = dirtySet.drain("storage0", "mmdst-drain-releases");
+        assertEquals(new HashSet<>(Arrays.asList("org.carlspring:foo", "org.carlspring:bar")), drained);
+
+        assertFalse(dirtySet.isDirty("storage0", "mmdst-drain-releases", "org.carlspring", "foo"));
+        assertTrue(dirtySet.drain("storage0", "mmdst-drain-releases").isEmpty());
+        assertTrue(dirtySet.isDirty("storage0", "mmdst-drain-snapshots", "org.carlspring", "foo"));
+
+        dirtySet.markAll("storage0", "mmdst-drain-releases", drained);
+        assertEquals(drained, dirtySet.drain("storage0", "mmdst-drain-releases"));
+    }
+
+    @Test
+    public void testTrust()
+    {
+        dirtySet.mark("storage0", "mmdst-trust-releases", "org.carlspring", "foo");
+
+        // The changes made before the start are unknown.
+        assertFalse(dirtySet.isTrusted("storage0", "mmdst-trust-releases"));
+
+        dirtySet.trust("storage0", "mmdst-trust-releases");
+        assertTrue(dirtySet.isTrusted("storage0", "mmdst-trust-releases"));
+        assertFalse(dirtySet.isTrusted("storage0", "mmdst-trust-snapshots"));
+        assertFalse(dirtySet.isDirty("storage0", "mmdst-trust-releases", "org.carlspring", "foo"));
+
+        dirtySet.invalidate("storage0", "mmdst-trust-releases");
+        assertFalse(dirtySet.isTrusted("storage0", "mmdst-trust-releases"));
+    }
+
+}
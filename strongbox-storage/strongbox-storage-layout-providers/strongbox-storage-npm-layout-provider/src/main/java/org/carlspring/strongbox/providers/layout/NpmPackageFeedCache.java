@@ -0,0 +1,274 @@
+package org.carlspring.strongbox.providers.layout;
+
+import org.carlspring.strongbox.artifact.coordinates.NpmArtifactCoordinates;
+import org.carlspring.strongbox.event.artifact.ArtifactEvent;
+import org.carlspring.strongbox.event.artifact.ArtifactEventTypeEnum;
+import org.carlspring.strongbox.providers.io.RepositoryFiles;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.storage.repository.Repository;
+
+import javax.annotation.PostConstruct;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Keeps the serialized npm package feeds (packuments) of the hosted
+ * repositories, so the feed with all the package versions doesn't need to be
+ * built from the `ArtifactEntry` records and checksum files on each request.
+ * <br>
+ * The package feed is invalidated once any path of the package stored or
+ * deleted, and will be built again with the next request.
+ */
+@Component
+public class NpmPackageFeedCache
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(NpmPackageFeedCache.class);
+
+    @Value("${strongbox.npm.packageFeedCache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${strongbox.npm.packageFeedCache.maxSize:1000}")
+    private long maxSize;
+
+    @Value("${strongbox.npm.packageFeedCache.ttlSeconds:3600}")
+    private long ttlSeconds;
+
+    @Value("${strongbox.npm.packageFeedCache.gzip:false}")
+    private boolean gzip;
+
+    private Cache<String, CachedPackageFeed> cache;
+
+    /**
+     * The package feeds which are being built, per package key. The
+     * invalidation removes the package build, so the package feed, which was
+     * built concurrently with invalidation, will not be cached. Other packages
+     * are not affected.
+     */
+    private final ConcurrentMap<String, Object> builds = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init()
+    {
+        cache = CacheBuilder.newBuilder()
+                            .maximumSize(maxSize)
+                            .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                            .recordStats()
+                            .build();
+    }
+
+    /**
+     * Only the hosted repository feeds can be cached, because the group and
+     * proxy repository feeds depend on the remote repositories.
+     */
+    public boolean isCacheable(Repository repository)
+    {
+        return enabled && repository.isHostedRepository();
+    }
+
+    public CachedPackageFeed get(Repository repository,
+                                 String packageId,
+                                 PackageFeedBuilder builder)
+        throws IOException
+    {
+        if (!isCacheable(repository))
+        {
+            return newPackageFeed(builder.build());
+        }
+
+        String key = key(repository, packageId);
+        CachedPackageFeed result = cache.getIfPresent(key);
+        if (result != null)
+        {
+            return result;
+        }
+
+        Object build = new Object();
+        builds.put(key, build);
+
+        CachedPackageFeed packageFeed = newPackageFeed(builder.build());
+
+        // The map entry is locked within `computeIfPresent`, so it can't be
+        // invalidated in between the check and put.
+        builds.computeIfPresent(key, (k, b) -> {
+            if (b == build)
+            {
+                cache.put(key, packageFeed);
+
+                return null;
+            }
+
+            return b;
+        });
+
+        return packageFeed;
+    }
+
+    public void invalidate(Repository repository,
+                           String packageId)
+    {
+        String key = key(repository, packageId);
+
+        builds.compute(key, (k, b) -> {
+            cache.invalidate(key);
+
+            return null;
+        });
+    }
+
+    public void invalidateAll()
+    {
+        builds.clear();
+        cache.invalidateAll();
+    }
+
+    public long getHitCount()
+    {
+        return cache.stats().hitCount();
+    }
+
+    public long getMissCount()
+    {
+        return cache.stats().missCount();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handle(ArtifactEvent<? extends Path> event)
+    {
+        if (!enabled)
+        {
+            return;
+        }
+        if (event.getType() != ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_STORED.getType()
+                && event.getType() != ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_UPDATED.getType()
+                && event.getType() != ArtifactEventTypeEnum.EVENT_ARTIFACT_PATH_DELETED.getType())
+        {
+            return;
+        }
+        if (!(event.getPath() instanceof RepositoryPath))
+        {
+            return;
+        }
+
+        RepositoryPath repositoryPath = (RepositoryPath) event.getPath();
+        Repository repository = repositoryPath.getRepository();
+        if (!NpmArtifactCoordinates.LAYOUT_NAME.equals(repository.getLayout()))
+        {
+            return;
+        }
+
+        String path;
+        try
+        {
+            path = RepositoryFiles.relativizePath(repositoryPath);
+        }
+        catch (IOException e)
+        {
+            logger.error(String.format("Failed to invalidate [%s], invalidate all.", repositoryPath), e);
+            invalidateAll();
+
+            return;
+        }
+
+        // The paths are `{scope or name}/{name}/{version}/{file}`.
+        String[] pathElements = path.split("/");
+        if (pathElements.length < 2)
+        {
+            String keyPrefix = key(repository, "");
+            builds.keySet().removeIf(k -> k.startsWith(keyPrefix));
+            cache.asMap().keySet().removeIf(k -> k.startsWith(keyPrefix));
+
+            return;
+        }
+
+        String scope = pathElements[0].startsWith("@") ? pathElements[0] : null;
+        invalidate(repository, NpmArtifactCoordinates.caclulatePackageId(scope, pathElements[1]));
+    }
+
+    private CachedPackageFeed newPackageFeed(byte[] content)
+        throws IOException
+    {
+        String etag = String.format("\"%s\"", Hashing.sha1().hashBytes(content).toString());
+        if (!gzip)
+        {
+            return new CachedPackageFeed(content, null, etag);
+        }
+
+        ByteArrayOutputStream gzipContent = new ByteArrayOutputStream(content.length / 4);
+        try (GZIPOutputStream os = new GZIPOutputStream(gzipContent))
+        {
+            os.write(content);
+        }
+
+        return new CachedPackageFeed(content, gzipContent.toByteArray(), etag);
+    }
+
+    private String key(Repository repository,
+                       String packageId)
+    {
+        return String.format("%s:%s:%s", repository.getStorage().getId(), repository.getId(), packageId);
+    }
+
+    @FunctionalInterface
+    public interface PackageFeedBuilder
+    {
+
+        byte[] build()
+            throws IOException;
+
+    }
+
+    public static class CachedPackageFeed
+    {
+
+        private final byte[] content;
+
+        private final byte[] gzipContent;
+
+        private final String etag;
+
+        public CachedPackageFeed(byte[] content,
+                                 byte[] gzipContent,
+                                 String etag)
+        {
+            this.content = content;
+            this.gzipContent = gzipContent;
+            this.etag = etag;
+        }
+
+        public byte[] getContent()
+        {
+            return content;
+        }
+
+        /**
+         * @return gzip compressed content or `null` if the compression disabled
+         */
+        public byte[] getGzipContent()
+        {
+            return gzipContent;
+        }
+
+        public String getEtag()
+        {
+            return etag;
+        }
+
+    }
+
+}
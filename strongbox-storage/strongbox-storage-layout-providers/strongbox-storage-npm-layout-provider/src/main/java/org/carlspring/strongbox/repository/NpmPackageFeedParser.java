@@ -1,18 +1,17 @@
 package org.carlspring.strongbox.repository;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.locks.Lock;
 
 import javax.inject.Inject;
-import javax.transaction.Transactional;
 
 import org.carlspring.strongbox.artifact.ArtifactTag;
 import org.carlspring.strongbox.artifact.coordinates.NpmArtifactCoordinates;
-import org.carlspring.strongbox.domain.ArtifactEntry;
 import org.carlspring.strongbox.domain.ArtifactTagEntry;
 import org.carlspring.strongbox.domain.RemoteArtifactEntry;
 import org.carlspring.strongbox.npm.metadata.PackageEntry;
@@ -21,11 +20,8 @@ import org.carlspring.strongbox.npm.metadata.PackageVersion;
 import org.carlspring.strongbox.npm.metadata.SearchResult;
 import org.carlspring.strongbox.npm.metadata.SearchResults;
 import org.carlspring.strongbox.npm.metadata.Versions;
-import org.carlspring.strongbox.providers.io.RepositoryPath;
-import org.carlspring.strongbox.providers.io.RepositoryPathLock;
-import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
-import org.carlspring.strongbox.services.ArtifactEntryService;
 import org.carlspring.strongbox.services.ArtifactTagService;
+import org.carlspring.strongbox.services.support.ArtifactEntryBulkWriter;
 import org.carlspring.strongbox.storage.repository.Repository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -41,13 +37,7 @@ public class NpmPackageFeedParser
     private ArtifactTagService artifactTagService;
 
     @Inject
-    private RepositoryPathResolver repositoryPathResolver;
-
-    @Inject
-    private ArtifactEntryService artifactEntryService;
-
-    @Inject
-    private RepositoryPathLock repositoryPathLock;
+    private ArtifactEntryBulkWriter artifactEntryBulkWriter;
 
     public void parseSearchResult(Repository repository,
                                   SearchResults searchResults)
@@ -58,7 +48,7 @@ public class NpmPackageFeedParser
         String repositoryId = repository.getId();
         String storageId = repository.getStorage().getId();
 
-        Set<ArtifactEntry> artifactToSaveSet = new HashSet<>();
+        Set<RemoteArtifactEntry> artifactToSaveSet = new HashSet<>();
         for (SearchResult searchResult : searchResults.getObjects())
         {
             PackageEntry packageEntry = searchResult.getPackage();
@@ -77,26 +67,30 @@ public class NpmPackageFeedParser
         saveArtifactEntrySet(repository, artifactToSaveSet);
     }
 
-    private void saveArtifactEntrySet(Repository repository,
-                                      Set<ArtifactEntry> artifactToSaveSet)
+    public void saveArtifactEntrySet(Repository repository,
+                                     Collection<RemoteArtifactEntry> artifactToSaveSet)
         throws IOException
     {
-        for (ArtifactEntry e : artifactToSaveSet)
-        {
-            RepositoryPath repositoryPath = repositoryPathResolver.resolve(repository).resolve(e);
-
-            saveArtifactEntry(repositoryPath);
-        }
+        artifactEntryBulkWriter.write(repository.getStorage().getId(), repository.getId(), artifactToSaveSet);
     }
 
-    @Transactional
     public void parseFeed(Repository repository,
                           PackageFeed packageFeed)
         throws IOException
+    {
+        saveArtifactEntrySet(repository, parseVersions(repository, packageFeed));
+    }
+
+    /**
+     * @return the entries for all the package versions, the `last-version` tag
+     *         is set according to the `latest` dist tag
+     */
+    public Set<RemoteArtifactEntry> parseVersions(Repository repository,
+                                                  PackageFeed packageFeed)
     {
         if (packageFeed == null)
         {
-            return;
+            return Collections.emptySet();
         }
 
         String repositoryId = repository.getId();
@@ -107,16 +101,16 @@ public class NpmPackageFeedParser
         Versions versions = packageFeed.getVersions();
         if (versions == null)
         {
-            return;
+            return Collections.emptySet();
         }
 
         Map<String, PackageVersion> versionMap = versions.getAdditionalProperties();
         if (versionMap == null || versionMap.isEmpty())
         {
-            return;
+            return Collections.emptySet();
         }
 
-        Set<ArtifactEntry> artifactToSaveSet = new HashSet<>();
+        Set<RemoteArtifactEntry> artifactToSaveSet = new HashSet<>();
         for (PackageVersion packageVersion : versionMap.values())
         {
             RemoteArtifactEntry remoteArtifactEntry = parseVersion(storageId, repositoryId, packageVersion);
@@ -133,41 +127,7 @@ public class NpmPackageFeedParser
             artifactToSaveSet.add(remoteArtifactEntry);
         }
 
-        saveArtifactEntrySet(repository, artifactToSaveSet);
-
-    }
-
-    private void saveArtifactEntry(RepositoryPath repositoryPath)
-        throws IOException
-    {
-        ArtifactTag lastVersionTag = artifactTagService.findOneOrCreate(ArtifactTagEntry.LAST_VERSION);
-
-        ArtifactEntry e = repositoryPath.getArtifactEntry();
-
-        Lock lock = repositoryPathLock.lock(repositoryPath).writeLock();
-        lock.lock();
-
-        try
-        {
-            if (artifactEntryService.artifactExists(e.getStorageId(), e.getRepositoryId(),
-                                                    e.getArtifactCoordinates().toPath()))
-            {
-                return;
-            }
-
-            if (e.getTagSet().contains(lastVersionTag))
-            {
-                artifactEntryService.save(e, true);
-            }
-            else
-            {
-                artifactEntryService.save(e, false);
-            }
-        } 
-        finally
-        {
-            lock.unlock();
-        }
+        return artifactToSaveSet;
     }
 
     private RemoteArtifactEntry parseVersion(String storageId,
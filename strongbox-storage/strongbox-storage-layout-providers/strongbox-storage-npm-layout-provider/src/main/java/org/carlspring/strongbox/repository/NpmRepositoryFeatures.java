@@ -238,6 +238,8 @@ public class NpmRepositoryFeatures implements RepositoryFeatures
 
         JsonFactory jfactory = new JsonFactory();
 
+        // All the changes of the batch are saved at once.
+        Set<RemoteArtifactEntry> artifactToSaveSet = new HashSet<>();
         try (InputStream is = request.invoke(InputStream.class))
         {
 
@@ -275,13 +277,13 @@ public class NpmRepositoryFeatures implements RepositoryFeatures
                                                changeValue),
                                  e);
 
-                    return result;
+                    break;
                 }
 
                 PackageFeed packageFeed = change.getDoc();
                 try
                 {
-                    npmPackageFeedParser.parseFeed(repository, packageFeed);
+                    artifactToSaveSet.addAll(npmPackageFeedParser.parseVersions(repository, packageFeed));
                 }
                 catch (Exception e)
                 {
@@ -298,6 +300,8 @@ public class NpmRepositoryFeatures implements RepositoryFeatures
 
         }
 
+        npmPackageFeedParser.saveArtifactEntrySet(repository, artifactToSaveSet);
+
         logger.debug(String.format("Fetched remote cnages for  [%s] since [%s].",
                                    repositoryConfiguration.getReplicateUrl(),
                                    repositoryConfiguration.getLastChangeId()));
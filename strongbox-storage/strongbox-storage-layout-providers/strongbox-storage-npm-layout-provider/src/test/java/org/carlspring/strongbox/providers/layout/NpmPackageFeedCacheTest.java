@@ -0,0 +1,167 @@
+package org.carlspring.strongbox.providers.layout;
+
+import org.carlspring.strongbox.config.NpmLayoutProviderTestConfig;
+import org.carlspring.strongbox.providers.layout.NpmPackageFeedCache.CachedPackageFeed;
+import org.carlspring.strongbox.storage.MutableStorage;
+import org.carlspring.strongbox.storage.Storage;
+import org.carlspring.strongbox.storage.repository.MutableRepository;
+import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.storage.repository.RepositoryTypeEnum;
+
+import javax.inject.Inject;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+@SpringBootTest
+@ActiveProfiles(profiles = "test")
+@ContextConfiguration(classes = NpmLayoutProviderTestConfig.class)
+@TestPropertySource(properties = { "strongbox.npm.packageFeedCache.enabled=true",
+                                   "strongbox.npm.packageFeedCache.maxSize=100",
+                                   "strongbox.npm.packageFeedCache.ttlSeconds=60" })
+public class NpmPackageFeedCacheTest
+{
+
+    private static final String PACKAGE_ID = "@carlspring/npm-test";
+
+    private static final String OTHER_PACKAGE_ID = "@carlspring/npm-test-other";
+
+    @Inject
+    private NpmPackageFeedCache cache;
+
+    private Repository hostedRepository;
+
+    private AtomicInteger buildCount;
+
+    private long hitCount;
+
+    @BeforeEach
+    public void setup()
+    {
+        cache.invalidateAll();
+
+        hostedRepository = createRepository("npfct-releases", RepositoryTypeEnum.HOSTED);
+
+        buildCount = new AtomicInteger();
+        hitCount = cache.getHitCount();
+    }
+
+    @Test
+    public void testHitAndMiss()
+        throws IOException
+    {
+        CachedPackageFeed packageFeed = get(hostedRepository, PACKAGE_ID, "v1", null);
+        assertArrayEquals("v1".getBytes(StandardCharsets.UTF_8), packageFeed.getContent());
+
+        assertEquals(packageFeed, get(hostedRepository, PACKAGE_ID, "v2", null));
+        assertEquals(1, buildCount.get());
+        assertEquals(1L, cache.getHitCount() - hitCount);
+    }
+
+    @Test
+    public void testInvalidate()
+        throws IOException
+    {
+        CachedPackageFeed packageFeed = get(hostedRepository, PACKAGE_ID, "v1", null);
+        cache.invalidate(hostedRepository, PACKAGE_ID);
+
+        CachedPackageFeed newPackageFeed = get(hostedRepository, PACKAGE_ID, "v2", null);
+        assertNotEquals(packageFeed.getEtag(), newPackageFeed.getEtag());
+        assertEquals(2, buildCount.get());
+    }
+
+    @Test
+    public void testInvalidatedWhileBuildingNotCached()
+        throws IOException
+    {
+        // The package stored while its feed is being built.
+        get(hostedRepository, PACKAGE_ID, "v1", PACKAGE_ID);
+        get(hostedRepository, PACKAGE_ID, "v2", null);
+
+        assertEquals(2, buildCount.get());
+
+        get(hostedRepository, PACKAGE_ID, "v3", null);
+
+        assertEquals(2, buildCount.get());
+    }
+
+    @Test
+    public void testOtherPackageInvalidationDoesNotPreventCaching()
+        throws IOException
+    {
+        // Other package stored while the feed is being built.
+        get(hostedRepository, PACKAGE_ID, "v1", OTHER_PACKAGE_ID);
+        get(hostedRepository, PACKAGE_ID, "v2", null);
+
+        assertEquals(1, buildCount.get());
+    }
+
+    @Test
+    public void testInvalidateAll()
+        throws IOException
+    {
+        get(hostedRepository, PACKAGE_ID, "v1", null);
+        get(hostedRepository, OTHER_PACKAGE_ID, "v1", null);
+
+        cache.invalidateAll();
+
+        get(hostedRepository, PACKAGE_ID, "v2", null);
+        get(hostedRepository, OTHER_PACKAGE_ID, "v2", null);
+
+        assertEquals(4, buildCount.get());
+    }
+
+    @Test
+    public void testProxyRepositoryNotCached()
+        throws IOException
+    {
+        Repository proxyRepository = createRepository("npfct-proxy", RepositoryTypeEnum.PROXY);
+
+        get(proxyRepository, PACKAGE_ID, "v1", null);
+        get(proxyRepository, PACKAGE_ID, "v2", null);
+
+        assertEquals(2, buildCount.get());
+    }
+
+    private CachedPackageFeed get(Repository repository,
+                                  String packageId,
+                                  String content,
+                                  String invalidatePackageId)
+        throws IOException
+    {
+        return cache.get(repository, packageId, () -> {
+            buildCount.incrementAndGet();
+            if (invalidatePackageId != null)
+            {
+                cache.invalidate(repository, invalidatePackageId);
+            }
+
+            return content.getBytes(StandardCharsets.UTF_8);
+        });
+    }
+
+    private Repository createRepository(String repositoryId,
+                                        RepositoryTypeEnum type)
+    {
+        MutableRepository repository = new MutableRepository();
+        repository.setId(repositoryId);
+        repository.setType(type.getType());
+
+        MutableStorage storage = new MutableStorage();
+        storage.setId("storage0");
+        storage.addRepository(repository);
+
+        return new Storage(storage).getRepository(repositoryId);
+    }
+
+}
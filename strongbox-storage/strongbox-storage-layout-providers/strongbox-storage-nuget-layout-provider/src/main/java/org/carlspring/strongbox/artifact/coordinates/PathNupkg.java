@@ -1,5 +1,6 @@
 package org.carlspring.strongbox.artifact.coordinates;
 
+import org.carlspring.strongbox.domain.ArtifactEntry;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 
 import java.io.IOException;
@@ -8,6 +9,8 @@ import java.io.UnsupportedEncodingException;
 import java.nio.file.Files;
 import java.security.NoSuchAlgorithmException;
 import java.util.*;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -17,15 +20,65 @@ import ru.aristar.jnuget.files.Framework;
 import ru.aristar.jnuget.files.Hash;
 import ru.aristar.jnuget.files.NugetFormatException;
 import ru.aristar.jnuget.files.Nupkg;
+import ru.aristar.jnuget.files.nuspec.Dependencies;
+import ru.aristar.jnuget.files.nuspec.Dependency;
 import ru.aristar.jnuget.files.nuspec.NuspecFile;
 import ru.aristar.jnuget.files.nuspec.NuspecFile.Metadata;
 
 public class PathNupkg implements Nupkg
 {
 
+    /**
+     * The `.nupkg` file Base64 encoded hash, stored within
+     * {@link ArtifactEntry#getArtifactAttributes()}.
+     */
+    public static final String ATTRIBUTE_HASH = "nuget.hash";
+
+    /**
+     * The `.nuspec` metadata fields, stored within
+     * {@link ArtifactEntry#getArtifactAttributes()}. The entries which have no
+     * {@link #ATTRIBUTE_ID} were stored before, so their `.nuspec` file is
+     * parsed.
+     */
+    public static final String ATTRIBUTE_ID = "nuget.id";
+
+    public static final String ATTRIBUTE_TITLE = "nuget.title";
+
+    public static final String ATTRIBUTE_AUTHORS = "nuget.authors";
+
+    public static final String ATTRIBUTE_OWNERS = "nuget.owners";
+
+    public static final String ATTRIBUTE_DESCRIPTION = "nuget.description";
+
+    public static final String ATTRIBUTE_SUMMARY = "nuget.summary";
+
+    public static final String ATTRIBUTE_RELEASE_NOTES = "nuget.releaseNotes";
+
+    public static final String ATTRIBUTE_COPYRIGHT = "nuget.copyright";
+
+    public static final String ATTRIBUTE_LANGUAGE = "nuget.language";
+
+    public static final String ATTRIBUTE_LICENSE_URL = "nuget.licenseUrl";
+
+    public static final String ATTRIBUTE_PROJECT_URL = "nuget.projectUrl";
+
+    public static final String ATTRIBUTE_ICON_URL = "nuget.iconUrl";
+
+    public static final String ATTRIBUTE_REQUIRE_LICENSE_ACCEPTANCE = "nuget.requireLicenseAcceptance";
+
+    public static final String ATTRIBUTE_TAGS = "nuget.tags";
+
+    /**
+     * The dependencies in the OData feed format: `id:version|id:version`.
+     */
+    public static final String ATTRIBUTE_DEPENDENCIES = "nuget.dependencies";
+
+    private static final String DEPENDENCIES_SEPARATOR = "|";
+
     private static final Logger logger = LoggerFactory.getLogger(PathNupkg.class);
 
     private RepositoryPath path;
+    private Map<String, String> artifactAttributes;
     private NuspecFile nuspecFile;
     private Hash hash;
     private NugetArtifactCoordinates artifactCoordinates;
@@ -41,6 +94,8 @@ public class PathNupkg implements Nupkg
         
         this.path = path;
         this.artifactCoordinates = (NugetArtifactCoordinates) path.getArtifactEntry().getArtifactCoordinates();
+        this.artifactAttributes = Optional.ofNullable(path.getArtifactEntry().getArtifactAttributes())
+                                          .orElse(Collections.emptyMap());
         this.nuspecFile = createNuspecFile();
         this.hash = createHash();
     }
@@ -68,6 +123,12 @@ public class PathNupkg implements Nupkg
         throws IOException,
         UnsupportedEncodingException
     {
+        String hash = artifactAttributes.get(ATTRIBUTE_HASH);
+        if (hash != null)
+        {
+            return new Hash(Base64.getDecoder().decode(hash.getBytes("UTF-8")));
+        }
+
         Map<String, RepositoryPath> checksumPathMap = path.getFileSystem().provider().resolveChecksumPathMap(path);
         if (checksumPathMap.isEmpty())
         {
@@ -100,6 +161,12 @@ public class PathNupkg implements Nupkg
     private NuspecFile createNuspecFile()
         throws NugetFormatException
     {
+        if (artifactAttributes.containsKey(ATTRIBUTE_ID))
+        {
+            exists = true;
+            return fromArtifactAttributes(artifactAttributes);
+        }
+
         RepositoryPath nuspecPath = path.resolveSibling(artifactCoordinates.getId() + ".nuspec");
         if (!Files.exists(nuspecPath))
         {
@@ -123,6 +190,97 @@ public class PathNupkg implements Nupkg
         }
     }
 
+    /**
+     * Extracts the `.nuspec` fields used by the NuGet feeds, to be stored
+     * within {@link ArtifactEntry#getArtifactAttributes()}.
+     */
+    public static Map<String, String> toArtifactAttributes(NuspecFile nuspecFile)
+    {
+        Metadata metadata = nuspecFile.getMetadata();
+
+        Map<String, String> result = new HashMap<>();
+        putAttribute(result, ATTRIBUTE_ID, metadata.id);
+        putAttribute(result, ATTRIBUTE_TITLE, metadata.title);
+        putAttribute(result, ATTRIBUTE_AUTHORS, metadata.authors);
+        putAttribute(result, ATTRIBUTE_OWNERS, metadata.owners);
+        putAttribute(result, ATTRIBUTE_DESCRIPTION, metadata.description);
+        putAttribute(result, ATTRIBUTE_SUMMARY, metadata.summary);
+        putAttribute(result, ATTRIBUTE_RELEASE_NOTES, metadata.releaseNotes);
+        putAttribute(result, ATTRIBUTE_COPYRIGHT, metadata.copyright);
+        putAttribute(result, ATTRIBUTE_LANGUAGE, metadata.language);
+        putAttribute(result, ATTRIBUTE_LICENSE_URL, metadata.licenseUrl);
+        putAttribute(result, ATTRIBUTE_PROJECT_URL, metadata.projectUrl);
+        putAttribute(result, ATTRIBUTE_ICON_URL, metadata.iconUrl);
+        putAttribute(result, ATTRIBUTE_REQUIRE_LICENSE_ACCEPTANCE, String.valueOf(metadata.requireLicenseAcceptance));
+
+        if (metadata.tags != null && !metadata.tags.isEmpty())
+        {
+            putAttribute(result, ATTRIBUTE_TAGS, String.join(" ", metadata.tags));
+        }
+
+        if (metadata.dependencies != null && metadata.dependencies.dependencies != null)
+        {
+            putAttribute(result, ATTRIBUTE_DEPENDENCIES, metadata.dependencies.dependencies.stream()
+                                                                                       .map(Dependency::toString)
+                                                                                       .collect(Collectors.joining(DEPENDENCIES_SEPARATOR)));
+        }
+
+        return result;
+    }
+
+    private static void putAttribute(Map<String, String> artifactAttributes,
+                                     String name,
+                                     String value)
+    {
+        if (value == null || value.isEmpty())
+        {
+            return;
+        }
+
+        artifactAttributes.put(name, value);
+    }
+
+    private NuspecFile fromArtifactAttributes(Map<String, String> artifactAttributes)
+        throws NugetFormatException
+    {
+        NuspecFile result = new NuspecFile();
+
+        Metadata metadata = result.getMetadata();
+        metadata.id = artifactAttributes.get(ATTRIBUTE_ID);
+        metadata.version = Version.parse(artifactCoordinates.getVersion());
+        metadata.title = artifactAttributes.getOrDefault(ATTRIBUTE_TITLE, metadata.id);
+        metadata.authors = artifactAttributes.get(ATTRIBUTE_AUTHORS);
+        metadata.owners = artifactAttributes.get(ATTRIBUTE_OWNERS);
+        metadata.description = artifactAttributes.get(ATTRIBUTE_DESCRIPTION);
+        metadata.summary = artifactAttributes.get(ATTRIBUTE_SUMMARY);
+        metadata.releaseNotes = artifactAttributes.get(ATTRIBUTE_RELEASE_NOTES);
+        metadata.copyright = artifactAttributes.get(ATTRIBUTE_COPYRIGHT);
+        metadata.language = artifactAttributes.get(ATTRIBUTE_LANGUAGE);
+        metadata.licenseUrl = artifactAttributes.get(ATTRIBUTE_LICENSE_URL);
+        metadata.projectUrl = artifactAttributes.get(ATTRIBUTE_PROJECT_URL);
+        metadata.iconUrl = artifactAttributes.get(ATTRIBUTE_ICON_URL);
+        metadata.requireLicenseAcceptance = Boolean.parseBoolean(artifactAttributes.get(ATTRIBUTE_REQUIRE_LICENSE_ACCEPTANCE));
+
+        String tags = artifactAttributes.get(ATTRIBUTE_TAGS);
+        if (tags != null)
+        {
+            metadata.tags = new ArrayList<>(Arrays.asList(tags.split(" ")));
+        }
+
+        String dependencies = artifactAttributes.get(ATTRIBUTE_DEPENDENCIES);
+        if (dependencies != null)
+        {
+            metadata.dependencies = new Dependencies();
+            metadata.dependencies.dependencies = new ArrayList<>();
+            for (String dependency : dependencies.split(Pattern.quote(DEPENDENCIES_SEPARATOR)))
+            {
+                metadata.dependencies.dependencies.add(Dependency.parseString(dependency));
+            }
+        }
+
+        return result;
+    }
+
     @Override
     public Long getSize()
     {
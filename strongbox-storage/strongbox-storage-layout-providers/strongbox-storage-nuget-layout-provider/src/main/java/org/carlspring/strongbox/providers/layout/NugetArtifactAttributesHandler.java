@@ -0,0 +1,141 @@
+package org.carlspring.strongbox.providers.layout;
+
+import org.carlspring.strongbox.artifact.AsyncArtifactEntryHandler;
+import org.carlspring.strongbox.artifact.coordinates.PathNupkg;
+import org.carlspring.strongbox.domain.ArtifactEntry;
+import org.carlspring.strongbox.event.artifact.ArtifactEventTypeEnum;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.apache.commons.io.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import ru.aristar.jnuget.files.NugetFormatException;
+import ru.aristar.jnuget.files.nuspec.NuspecFile;
+
+/**
+ * Extracts the `.nuspec` fields and hash of the stored `.nupkg` into the
+ * {@link ArtifactEntry#getArtifactAttributes()}, so the NuGet feeds can be
+ * rendered without reading the package files.
+ *
+ * @see PathNupkg
+ */
+@Component
+public class NugetArtifactAttributesHandler
+        extends AsyncArtifactEntryHandler
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(NugetArtifactAttributesHandler.class);
+
+    private static final String ATTRIBUTE_PREFIX = "nuget.";
+
+    public NugetArtifactAttributesHandler()
+    {
+        super(ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_STORED,
+              ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_UPDATED);
+    }
+
+    @Override
+    protected boolean supports(RepositoryPath repositoryPath)
+    {
+        return NugetLayoutProvider.ALIAS.equals(repositoryPath.getRepository().getLayout())
+                && repositoryPath.getFileName().toString().endsWith(".nupkg");
+    }
+
+    @Override
+    protected ArtifactEntry handleEvent(RepositoryPath repositoryPath)
+        throws IOException
+    {
+        ArtifactEntry artifactEntry = repositoryPath.getArtifactEntry();
+        if (artifactEntry == null)
+        {
+            return null;
+        }
+
+        Map<String, String> artifactAttributes = artifactEntry.getArtifactAttributes() == null ? new HashMap<>()
+                : new HashMap<>(artifactEntry.getArtifactAttributes());
+        artifactAttributes.keySet().removeIf(k -> k.startsWith(ATTRIBUTE_PREFIX));
+
+        NuspecFile nuspecFile = readNuspec(repositoryPath);
+        if (nuspecFile != null)
+        {
+            artifactAttributes.putAll(PathNupkg.toArtifactAttributes(nuspecFile));
+        }
+
+        String hash = readHash(repositoryPath);
+        if (hash != null)
+        {
+            artifactAttributes.put(PathNupkg.ATTRIBUTE_HASH, hash);
+        }
+
+        artifactEntry.setArtifactAttributes(artifactAttributes);
+
+        return artifactEntry;
+    }
+
+    private NuspecFile readNuspec(RepositoryPath repositoryPath)
+        throws IOException
+    {
+        try (ZipInputStream zis = new ZipInputStream(new BufferedInputStream(Files.newInputStream(repositoryPath))))
+        {
+            ZipEntry entry;
+            while ((entry = zis.getNextEntry()) != null)
+            {
+                // The `.nuspec` file should be placed within the package root.
+                if (entry.isDirectory() || entry.getName().contains("/") || !entry.getName().endsWith(".nuspec"))
+                {
+                    continue;
+                }
+
+                try
+                {
+                    return NuspecFile.Parse(new ByteArrayInputStream(IOUtils.toByteArray(zis)));
+                }
+                catch (NugetFormatException e)
+                {
+                    logger.error(String.format("Failed to parse .nuspec file within [%s].", repositoryPath), e);
+
+                    return null;
+                }
+            }
+        }
+
+        logger.warn(String.format("Failed to find .nuspec file within [%s].", repositoryPath));
+
+        return null;
+    }
+
+    private String readHash(RepositoryPath repositoryPath)
+        throws IOException
+    {
+        Map<String, RepositoryPath> checksumPathMap = repositoryPath.getFileSystem()
+                                                                    .provider()
+                                                                    .resolveChecksumPathMap(repositoryPath);
+        if (checksumPathMap.isEmpty())
+        {
+            return null;
+        }
+
+        // Nuget package should have only one checksum digest algorithm.
+        RepositoryPath checksumPath = checksumPathMap.values().iterator().next();
+        if (!Files.exists(checksumPath))
+        {
+            return null;
+        }
+
+        String hash = new String(Files.readAllBytes(checksumPath), StandardCharsets.UTF_8).trim();
+
+        return hash.isEmpty() || hash.contains("\n") ? null : hash;
+    }
+
+}
@@ -10,17 +10,13 @@ import org.carlspring.strongbox.data.criteria.OQueryTemplate;
 import org.carlspring.strongbox.data.criteria.Paginator;
 import org.carlspring.strongbox.data.criteria.Predicate;
 import org.carlspring.strongbox.data.criteria.Selector;
-import org.carlspring.strongbox.domain.ArtifactEntry;
 import org.carlspring.strongbox.domain.ArtifactTagEntry;
 import org.carlspring.strongbox.domain.RemoteArtifactEntry;
 import org.carlspring.strongbox.nuget.NugetSearchRequest;
-import org.carlspring.strongbox.providers.io.RepositoryPath;
-import org.carlspring.strongbox.providers.io.RepositoryPathLock;
-import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
 import org.carlspring.strongbox.providers.repository.event.RemoteRepositorySearchEvent;
 import org.carlspring.strongbox.service.ProxyRepositoryConnectionPoolConfigurationService;
-import org.carlspring.strongbox.services.ArtifactEntryService;
 import org.carlspring.strongbox.services.ArtifactTagService;
+import org.carlspring.strongbox.services.support.ArtifactEntryBulkWriter;
 import org.carlspring.strongbox.storage.Storage;
 import org.carlspring.strongbox.storage.repository.Repository;
 import org.carlspring.strongbox.storage.repository.remote.RemoteRepository;
@@ -37,13 +33,13 @@ import javax.ws.rs.client.Client;
 import javax.ws.rs.client.WebTarget;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
-import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.locks.Lock;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -71,17 +67,11 @@ public class NugetRepositoryFeatures
     @Inject
     private ConfigurationManager configurationManager;
 
-    @Inject
-    private ArtifactEntryService artifactEntryService;
-
     @Inject
     private ArtifactTagService artifactTagService;
 
     @Inject
-    private RepositoryPathLock repositoryPathLock;
-
-    @Inject
-    private RepositoryPathResolver repositoryPathResolver;
+    private ArtifactEntryBulkWriter artifactEntryBulkWriter;
 
     @Inject
     private ProxyRepositoryConnectionPoolConfigurationService proxyRepositoryConnectionPoolConfigurationService;
@@ -193,14 +183,15 @@ public class NugetRepositoryFeatures
     }
 
     private void parseFeed(Repository repository,
-                           PackageFeed packageFeed) throws IOException
+                           PackageFeed packageFeed)
+        throws IOException
     {
         String repositoryId = repository.getId();
         String storageId = repository.getStorage().getId();
 
         ArtifactTag lastVersionTag = artifactTagService.findOneOrCreate(ArtifactTagEntry.LAST_VERSION);
 
-        Set<ArtifactEntry> artifactToSaveSet = new HashSet<>();
+        List<RemoteArtifactEntry> artifactToSaveList = new ArrayList<>();
         for (PackageEntry packageEntry : packageFeed.getEntries())
         {
             String packageId = packageEntry.getProperties().getId();
@@ -208,10 +199,6 @@ public class NugetRepositoryFeatures
             String packageVersion = packageEntry.getProperties().getVersion().toString();
 
             NugetArtifactCoordinates c = new NugetArtifactCoordinates(packageId, packageVersion, "nupkg");
-            if (artifactEntryService.artifactExists(storageId, repositoryId, c.toPath()))
-            {
-                continue;
-            }
 
             RemoteArtifactEntry remoteArtifactEntry = new RemoteArtifactEntry();
             remoteArtifactEntry.setStorageId(storageId);
@@ -228,32 +215,10 @@ public class NugetRepositoryFeatures
                 remoteArtifactEntry.getTagSet().add(lastVersionTag);
             }
 
-            artifactToSaveSet.add(remoteArtifactEntry);
+            artifactToSaveList.add(remoteArtifactEntry);
         }
 
-        for (ArtifactEntry e : artifactToSaveSet)
-        {
-            RepositoryPath repositoryPath = repositoryPathResolver.resolve(repository, (NugetArtifactCoordinates) e.getArtifactCoordinates());
-
-            Lock lock = repositoryPathLock.lock(repositoryPath).writeLock();
-            lock.lock();
-            
-            try
-            {
-                if (e.getTagSet().contains(lastVersionTag))
-                {
-                    artifactEntryService.save(e, true);
-                }
-                else
-                {
-                    artifactEntryService.save(e, false);
-                }
-            }
-            finally
-            {
-                lock.unlock();
-            }
-        }
+        artifactEntryBulkWriter.write(storageId, repositoryId, artifactToSaveList);
     }
 
     protected Configuration getConfiguration()
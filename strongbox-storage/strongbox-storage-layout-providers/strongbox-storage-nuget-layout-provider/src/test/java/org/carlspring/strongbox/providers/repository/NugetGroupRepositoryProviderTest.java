@@ -6,9 +6,12 @@ import org.carlspring.strongbox.configuration.ConfigurationManager;
 import org.carlspring.strongbox.data.criteria.Paginator;
 import org.carlspring.strongbox.data.criteria.Predicate;
 import org.carlspring.strongbox.providers.ProviderImplementationException;
+import org.carlspring.strongbox.providers.io.RepositoryFiles;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.providers.layout.NugetLayoutProvider;
 import org.carlspring.strongbox.services.ArtifactManagementService;
 import org.carlspring.strongbox.services.RepositoryManagementService;
+import org.carlspring.strongbox.services.support.ArtifactEntryCursors;
 import org.carlspring.strongbox.storage.repository.MutableRepository;
 import org.carlspring.strongbox.storage.repository.NugetRepositoryFactory;
 import org.carlspring.strongbox.storage.repository.Repository;
@@ -25,6 +28,8 @@ import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
@@ -238,4 +243,42 @@ public class NugetGroupRepositoryProviderTest
         assertEquals(Long.valueOf(12), count);
     }
 
+    @Test
+    public void testGroupCursorSearch()
+        throws IOException
+    {
+        Repository repository = configurationManager.getRepository(STORAGE0 + ":" + REPOSITORY_GROUP);
+        RepositoryProvider repositoryProvider = repositoryProviderRegistry.getProvider(repository.getType());
+
+        Paginator paginator = new Paginator();
+        paginator.setLimit(5);
+        paginator.setProperty("uuid");
+        paginator.setCursor("");
+
+        Predicate p = Predicate.empty();
+
+        // The members overlap, so the same packages can be found within the
+        // different pages of the different members.
+        List<String> paths = new ArrayList<>();
+        List<Path> result;
+        do
+        {
+            result = repositoryProvider.search(STORAGE0, REPOSITORY_GROUP, p, paginator);
+            for (Path path : result)
+            {
+                paths.add(RepositoryFiles.relativizePath((RepositoryPath) path));
+            }
+
+            if (!result.isEmpty())
+            {
+                RepositoryPath last = (RepositoryPath) result.get(result.size() - 1);
+                paginator.setCursor(ArtifactEntryCursors.cursorOf(last.getArtifactEntry(), paginator.getProperty()));
+            }
+        }
+        while (!result.isEmpty());
+
+        assertEquals(12, paths.size());
+        assertEquals(12, new HashSet<>(paths).size());
+    }
+
 }
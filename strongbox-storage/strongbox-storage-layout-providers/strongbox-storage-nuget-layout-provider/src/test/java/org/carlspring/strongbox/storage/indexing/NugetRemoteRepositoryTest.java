@@ -1,15 +1,18 @@
 package org.carlspring.strongbox.storage.indexing;
 
+import org.carlspring.strongbox.artifact.ArtifactTag;
 import org.carlspring.strongbox.artifact.coordinates.NugetArtifactCoordinates;
 import org.carlspring.strongbox.client.ArtifactTransportException;
 import org.carlspring.strongbox.config.NugetLayoutProviderTestConfig;
 import org.carlspring.strongbox.configuration.ConfigurationManager;
 import org.carlspring.strongbox.domain.ArtifactEntry;
+import org.carlspring.strongbox.domain.ArtifactTagEntry;
 import org.carlspring.strongbox.domain.RemoteArtifactEntry;
 import org.carlspring.strongbox.nuget.NugetSearchRequest;
 import org.carlspring.strongbox.providers.layout.NugetLayoutProvider;
 import org.carlspring.strongbox.repository.NugetRepositoryFeatures;
 import org.carlspring.strongbox.services.ArtifactEntryService;
+import org.carlspring.strongbox.services.ArtifactTagService;
 import org.carlspring.strongbox.services.RepositoryManagementService;
 import org.carlspring.strongbox.storage.Storage;
 import org.carlspring.strongbox.storage.repository.MutableRepository;
@@ -21,7 +24,9 @@ import org.carlspring.strongbox.testing.TestCaseWithRepository;
 import javax.inject.Inject;
 import javax.xml.bind.JAXBException;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -33,6 +38,7 @@ import org.junit.jupiter.api.parallel.Execution;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.ContextConfiguration;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.parallel.ExecutionMode.CONCURRENT;
@@ -62,6 +68,9 @@ public class NugetRemoteRepositoryTest
     @Inject
     private ArtifactEntryService artifactEntryService;
 
+    @Inject
+    private ArtifactTagService artifactTagService;
+
     @Inject
     private NugetRepositoryFeatures features;
 
@@ -131,4 +140,55 @@ public class NugetRemoteRepositoryTest
         assertFalse(((RemoteArtifactEntry) artifactEntry.get()).getIsCached());
     }
 
+    @Test
+    public void testSaveIfAbsentLastVersion()
+    {
+        String packageId = "Org.Carlspring.Strongbox.Nrrt.LastVersion";
+        ArtifactTag lastVersionTag = artifactTagService.findOneOrCreate(ArtifactTagEntry.LAST_VERSION);
+
+        RemoteArtifactEntry existingEntry = createRemoteArtifactEntry(packageId, "1.1.0");
+        existingEntry.getTagSet().add(lastVersionTag);
+        artifactEntryService.save(existingEntry, true);
+        assertTrue(isLastVersion(packageId, "1.1.0"));
+
+        List<RemoteArtifactEntry> artifactEntries = Arrays.asList(createRemoteArtifactEntry(packageId, "1.0.0"),
+                                                                  createRemoteArtifactEntry(packageId, "1.2.0"),
+                                                                  createRemoteArtifactEntry(packageId, "1.3.0"),
+                                                                  createRemoteArtifactEntry(packageId, "1.1.0"));
+        artifactEntries.forEach(e -> e.getTagSet().add(lastVersionTag));
+
+        List<RemoteArtifactEntry> result = artifactEntryService.saveIfAbsent(NUGET_COMMON_STORAGE, REPOSITORY_PROXY,
+                                                                             artifactEntries);
+
+        // The existing `1.1.0` is skipped.
+        assertEquals(3, result.size());
+        assertTrue(isLastVersion(packageId, "1.3.0"));
+        assertFalse(isLastVersion(packageId, "1.2.0"));
+        assertFalse(isLastVersion(packageId, "1.1.0"));
+        assertFalse(isLastVersion(packageId, "1.0.0"));
+    }
+
+    private RemoteArtifactEntry createRemoteArtifactEntry(String packageId,
+                                                          String version)
+    {
+        RemoteArtifactEntry remoteArtifactEntry = new RemoteArtifactEntry();
+        remoteArtifactEntry.setStorageId(NUGET_COMMON_STORAGE);
+        remoteArtifactEntry.setRepositoryId(REPOSITORY_PROXY);
+        remoteArtifactEntry.setArtifactCoordinates(new NugetArtifactCoordinates(packageId, version, "nupkg"));
+
+        return remoteArtifactEntry;
+    }
+
+    private boolean isLastVersion(String packageId,
+                                  String version)
+    {
+        NugetArtifactCoordinates c = new NugetArtifactCoordinates(packageId, version, "nupkg");
+        ArtifactEntry artifactEntry = artifactEntryService.findOneArtifact(NUGET_COMMON_STORAGE, REPOSITORY_PROXY,
+                                                                           c.toPath());
+
+        return artifactEntry.getTagSet()
+                            .stream()
+                            .anyMatch(t -> ArtifactTagEntry.LAST_VERSION.equals(t.getName()));
+    }
+
 }
@@ -1,20 +1,36 @@
 package org.carlspring.strongbox.controllers;
 
+import org.carlspring.strongbox.artifact.ArtifactNotFoundException;
+import org.carlspring.strongbox.event.artifact.ArtifactEventListenerRegistry;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.io.RepositoryPathLock;
+import org.carlspring.strongbox.providers.io.RepositoryStreamSupport.RepositoryInputStream;
+import org.carlspring.strongbox.providers.repository.ProxyRepositoryProvider;
+import org.carlspring.strongbox.providers.repository.proxied.RemoteArtifactTransfer;
+import org.carlspring.strongbox.providers.repository.proxied.RemoteArtifactTransferRegistry;
 import org.carlspring.strongbox.services.ArtifactManagementService;
+import org.carlspring.strongbox.services.ArtifactResolutionService;
 import org.carlspring.strongbox.storage.Storage;
+import org.carlspring.strongbox.resource.ResourceCloser;
 import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.storage.repository.RepositoryTypeEnum;
 import org.carlspring.strongbox.utils.ArtifactControllerHelper;
 
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.locks.Lock;
 
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
 import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -31,6 +47,20 @@ public abstract class BaseArtifactController
     @Inject
     protected ArtifactManagementService artifactManagementService;
 
+    @Inject
+    protected RemoteArtifactTransferRegistry remoteArtifactTransferRegistry;
+
+    @Inject
+    private ProxyRepositoryProvider proxyRepositoryProvider;
+
+    @Inject
+    private RepositoryPathLock repositoryPathLock;
+
+    @Inject
+    private ArtifactEventListenerRegistry artifactEventListenerRegistry;
+
+    @Value("${strongbox.download.zeroCopy:true}")
+    private boolean zeroCopy;
 
     @ApiOperation(value = "Used to deploy an artifact")
     @ApiResponses(value = { @ApiResponse(code = 200, message = "The artifact was deployed successfully."),
@@ -70,6 +100,34 @@ public abstract class BaseArtifactController
         return getStorage(storageId).getRepository(repositoryId);
     }
 
+    /**
+     * Resolves the path to be downloaded. Unlike
+     * {@link ArtifactResolutionService#resolvePath(String, String, String)},
+     * this doesn't wait until the proxied artifact will be cached if the
+     * tee-through mode enabled, the artifact is served from the
+     * {@link RemoteArtifactTransfer} in this case.
+     */
+    protected RepositoryPath resolveDownloadPath(String storageId,
+                                                 String repositoryId,
+                                                 String path)
+        throws IOException
+    {
+        RepositoryPath repositoryPath = repositoryPathResolver.resolve(storageId, repositoryId, path);
+        if (!RepositoryTypeEnum.PROXY.getType().equals(repositoryPath.getRepository().getType()))
+        {
+            return artifactResolutionService.resolvePath(storageId, repositoryId, path);
+        }
+
+        try
+        {
+            return proxyRepositoryProvider.fetchPathTeeThrough(repositoryPath);
+        }
+        catch (ArtifactNotFoundException e)
+        {
+            return null;
+        }
+    }
+
     protected boolean provideArtifactDownloadResponse(HttpServletRequest request,
                                                       HttpServletResponse response,
                                                       HttpHeaders httpHeaders,
@@ -77,23 +135,43 @@ public abstract class BaseArtifactController
             throws Exception
     {
         logger.debug("Resolved path: " + repositoryPath);
-        
+
+        if (provideRemoteTransferResponse(request, response, httpHeaders, repositoryPath))
+        {
+            return true;
+        }
+
         ArtifactControllerHelper.provideArtifactHeaders(response, repositoryPath);
         if (response.getStatus() == HttpStatus.NOT_FOUND.value())
         {
             return false;
         }
+        else if (ArtifactControllerHelper.isNotModified(request, response))
+        {
+            logger.debug(String.format("Not modified: [%s]", repositoryPath));
+
+            return true;
+        }
         else if (request.getMethod().equals(RequestMethod.HEAD.name()))
         {
             return true;
         }
 
-        InputStream is = artifactResolutionService.getInputStream(repositoryPath);
+        RepositoryInputStream is = artifactResolutionService.getInputStream(repositoryPath);
         if (ArtifactControllerHelper.isRangedRequest(httpHeaders))
         {
             logger.debug("Detected ranged request.");
 
-            ArtifactControllerHelper.handlePartialDownload(is, httpHeaders, response);
+            if (ArtifactControllerHelper.handlePartialDownload(is, httpHeaders, response))
+            {
+                return true;
+            }
+        }
+        else if (zeroCopy && isHosted(repositoryPath) && ArtifactControllerHelper.hasStoredChecksums(repositoryPath))
+        {
+            transferToResponse(is, response);
+
+            return true;
         }
 
         copyToResponse(is, response);
@@ -101,4 +179,106 @@ public abstract class BaseArtifactController
         return true;
     }
 
+    private boolean isHosted(RepositoryPath repositoryPath)
+    {
+        return RepositoryTypeEnum.HOSTED.getType().equals(repositoryPath.getRepository().getType());
+    }
+
+    /**
+     * Unlike {@link #copyToResponse(InputStream, HttpServletResponse)}, this
+     * transfers the whole file with {@link RepositoryInputStream#transferTo(WritableByteChannel)},
+     * without the digest decorators and the flush after every chunk. <br>
+     * The path read lock is held until the stream is closed, so for the whole
+     * transfer.
+     */
+    protected void transferToResponse(RepositoryInputStream is,
+                                      HttpServletResponse response)
+        throws IOException
+    {
+        OutputStream os = response.getOutputStream();
+        try
+        {
+            WritableByteChannel target = os instanceof WritableByteChannel ? (WritableByteChannel) os
+                    : Channels.newChannel(os);
+
+            long totalBytes = is.transferTo(target);
+            logger.debug(String.format("Transferred [%s] bytes.", totalBytes));
+
+            response.flushBuffer();
+        }
+        finally
+        {
+            ResourceCloser.close(is, logger);
+            ResourceCloser.close(os, logger);
+        }
+    }
+
+    /**
+     * Serves the artifact which is being downloaded from remote right now, if
+     * there is such {@link RemoteArtifactTransfer} in progress. <br>
+     * The artifact is read under the path read lock and the download events
+     * are dispatched, same as for the artifacts read from the storage.
+     *
+     * @return `false` if there is no transfer in progress for the given path.
+     */
+    private boolean provideRemoteTransferResponse(HttpServletRequest request,
+                                                  HttpServletResponse response,
+                                                  HttpHeaders httpHeaders,
+                                                  RepositoryPath repositoryPath)
+        throws IOException
+    {
+        RemoteArtifactTransfer transfer = repositoryPath == null ? null
+                : remoteArtifactTransferRegistry.get(repositoryPath);
+        if (transfer == null)
+        {
+            return false;
+        }
+
+        // Ranged requests will be served from the local cache.
+        if (ArtifactControllerHelper.isRangedRequest(httpHeaders))
+        {
+            transfer.awaitCompleted();
+
+            return false;
+        }
+
+        Lock lock = repositoryPathLock.lock(repositoryPath).readLock();
+        lock.lock();
+        try
+        {
+            // The transfer could be stored while we were waiting for the lock.
+            InputStream is = transfer.newInputStream();
+            if (is == null)
+            {
+                return false;
+            }
+
+            logger.debug(String.format("Serving [%s] from remote transfer.", repositoryPath));
+
+            long contentLength = transfer.getContentLength();
+            if (contentLength >= 0)
+            {
+                response.setHeader(HttpHeaders.CONTENT_LENGTH, String.valueOf(contentLength));
+            }
+            ArtifactControllerHelper.provideContentType(response, repositoryPath);
+
+            if (request.getMethod().equals(RequestMethod.HEAD.name()))
+            {
+                is.close();
+
+                return true;
+            }
+
+            artifactEventListenerRegistry.dispatchArtifactDownloadingEvent(repositoryPath);
+            copyToResponse(is, response);
+            artifactEventListenerRegistry.dispatchArtifactDownloadedEvent(repositoryPath);
+
+            return true;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
 }
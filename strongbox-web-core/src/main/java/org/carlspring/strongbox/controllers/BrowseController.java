@@ -1,6 +1,8 @@
 package org.carlspring.strongbox.controllers;
 
 import org.carlspring.strongbox.domain.DirectoryListing;
+import org.carlspring.strongbox.domain.DirectoryListingRequest;
+import org.carlspring.strongbox.domain.DirectoryListingRequest.SortField;
 import org.carlspring.strongbox.providers.io.RepositoryFiles;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.services.DirectoryListingService;
@@ -13,6 +15,7 @@ import javax.servlet.http.HttpServletRequest;
 import java.io.IOException;
 import java.net.URL;
 import java.nio.file.Files;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 
@@ -157,6 +160,16 @@ public class BrowseController extends BaseArtifactController
                                     @PathVariable("repositoryId") String repositoryId,
                                     @ApiParam(value = "The repository path", required = false)
                                     @PathVariable("path") String rawPath,
+                                    @ApiParam(value = "The number of entries to skip, the directories go first")
+                                    @RequestParam(name = "skip", defaultValue = "0") int skip,
+                                    @ApiParam(value = "The maximum number of entries, 0 for all of them")
+                                    @RequestParam(name = "limit", defaultValue = "0") int limit,
+                                    @ApiParam(value = "The sort field: name, last_modified or size")
+                                    @RequestParam(name = "sort", defaultValue = "name") String sort,
+                                    @ApiParam(value = "Whether to sort in descending order")
+                                    @RequestParam(name = "descending", defaultValue = "false") boolean descending,
+                                    @ApiParam(value = "Whether to read all the artifact attributes, like the artifact resource URL")
+                                    @RequestParam(name = "attributes", defaultValue = "false") boolean attributes,
                                     HttpServletRequest request,
                                     ModelMap model,
                                     @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String acceptHeader)
@@ -193,7 +206,26 @@ public class BrowseController extends BaseArtifactController
                 return getNotFoundResponseEntity("Requested repository doesn't allow browsing.", acceptHeader);
             }
 
-            DirectoryListing directoryListing = getDirectoryListingService().fromRepositoryPath(repositoryPath);
+            DirectoryListingRequest directoryListingRequest = new DirectoryListingRequest();
+            try
+            {
+                directoryListingRequest.setSort(SortField.valueOf(sort.toUpperCase(Locale.ENGLISH)));
+            }
+            catch (IllegalArgumentException e)
+            {
+                return getBadRequestResponseEntity(String.format("Unknown sort field [%s].", sort), acceptHeader);
+            }
+            if (skip < 0 || limit < 0)
+            {
+                return getBadRequestResponseEntity("The skip and limit should not be negative.", acceptHeader);
+            }
+            directoryListingRequest.setSkip(skip);
+            directoryListingRequest.setLimit(limit);
+            directoryListingRequest.setDescending(descending);
+            directoryListingRequest.setAttributes(attributes);
+
+            DirectoryListing directoryListing = getDirectoryListingService().fromRepositoryPath(repositoryPath,
+                                                                                                directoryListingRequest);
 
             if (acceptHeader != null && acceptHeader.contains(MediaType.APPLICATION_JSON_VALUE))
             {
@@ -0,0 +1,53 @@
+package org.carlspring.strongbox.controllers;
+
+import org.carlspring.strongbox.providers.repository.RepositoryPathNegativeCache;
+import org.carlspring.strongbox.providers.repository.RepositoryPathNegativeCache.NegativeCacheStatistics;
+
+import javax.inject.Inject;
+import java.util.Map;
+
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@PreAuthorize("hasAuthority('ADMIN')")
+@RequestMapping("/api/negative-cache")
+@Api("/api/negative-cache")
+public class NegativeCacheController
+        extends BaseController
+{
+
+    @Inject
+    private RepositoryPathNegativeCache repositoryPathNegativeCache;
+
+    @ApiOperation(value = "Get the not found paths cache statistics per repository.")
+    @ApiResponses(value = { @ApiResponse(code = 200, message = "The statistics was returned.") })
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Map<String, NegativeCacheStatistics>> getStatistics()
+    {
+        return ResponseEntity.ok(repositoryPathNegativeCache.getStatistics());
+    }
+
+    @ApiOperation(value = "Invalidate the not found paths cache for all repositories.")
+    @ApiResponses(value = { @ApiResponse(code = 200, message = "The cache was invalidated.") })
+    @DeleteMapping(produces = { MediaType.TEXT_PLAIN_VALUE,
+                                MediaType.APPLICATION_JSON_VALUE })
+    public ResponseEntity invalidate(@RequestHeader(HttpHeaders.ACCEPT) String accept)
+    {
+        repositoryPathNegativeCache.invalidateAll();
+
+        return getSuccessfulResponseEntity("The cache was invalidated.", accept);
+    }
+
+}
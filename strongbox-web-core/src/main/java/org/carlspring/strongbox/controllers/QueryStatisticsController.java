@@ -0,0 +1,60 @@
+package org.carlspring.strongbox.controllers;
+
+import org.carlspring.strongbox.data.criteria.OQueryTemplate;
+import org.carlspring.strongbox.data.criteria.QueryShapeCache;
+import org.carlspring.strongbox.data.criteria.QueryShapeCache.QueryShapeStatistics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@PreAuthorize("hasAuthority('ADMIN')")
+@RequestMapping("/api/query-statistics")
+@Api("/api/query-statistics")
+public class QueryStatisticsController
+        extends BaseController
+{
+
+    @ApiOperation(value = "Get the query shape cache hits and the query execution statistics per query.")
+    @ApiResponses(value = { @ApiResponse(code = 200, message = "The statistics was returned.") })
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Map<String, Object>> getStatistics()
+    {
+        QueryShapeCache queryShapeCache = OQueryTemplate.getQueryShapeCache();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("hitCount", queryShapeCache.getHitCount());
+        result.put("missCount", queryShapeCache.getMissCount());
+
+        Map<String, QueryShapeStatistics> queries = queryShapeCache.getStatistics();
+        result.put("queries", queries);
+
+        return ResponseEntity.ok(result);
+    }
+
+    @ApiOperation(value = "Invalidate the query shape cache and its statistics.")
+    @ApiResponses(value = { @ApiResponse(code = 200, message = "The cache was invalidated.") })
+    @DeleteMapping(produces = { MediaType.TEXT_PLAIN_VALUE,
+                                MediaType.APPLICATION_JSON_VALUE })
+    public ResponseEntity invalidate(@RequestHeader(HttpHeaders.ACCEPT) String accept)
+    {
+        OQueryTemplate.getQueryShapeCache().invalidateAll();
+
+        return getSuccessfulResponseEntity("The cache was invalidated.", accept);
+    }
+
+}
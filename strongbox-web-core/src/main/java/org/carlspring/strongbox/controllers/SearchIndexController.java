@@ -0,0 +1,49 @@
+package org.carlspring.strongbox.controllers;
+
+import org.carlspring.strongbox.providers.search.LuceneSearchProvider;
+
+import javax.inject.Inject;
+
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@PreAuthorize("hasAuthority('ADMIN')")
+@RequestMapping("/api/search-index")
+@Api("/api/search-index")
+public class SearchIndexController
+        extends BaseController
+{
+
+    @Inject
+    private LuceneSearchProvider luceneSearchProvider;
+
+    @ApiOperation(value = "Rebuild the full-text search index from the artifact entries in background.")
+    @ApiResponses(value = { @ApiResponse(code = 200, message = "The rebuild was scheduled."),
+                            @ApiResponse(code = 400, message = "The full-text search is not enabled.") })
+    @PostMapping(value = "/rebuild",
+                 produces = { MediaType.TEXT_PLAIN_VALUE,
+                              MediaType.APPLICATION_JSON_VALUE })
+    public ResponseEntity rebuild(@RequestHeader(HttpHeaders.ACCEPT) String accept)
+    {
+        if (!luceneSearchProvider.isEnabled())
+        {
+            return getBadRequestResponseEntity("The full-text search is not enabled.", accept);
+        }
+
+        luceneSearchProvider.scheduleRebuild();
+
+        return getSuccessfulResponseEntity("The rebuild was scheduled.", accept);
+    }
+
+}
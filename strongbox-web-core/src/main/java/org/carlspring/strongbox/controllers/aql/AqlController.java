@@ -2,15 +2,25 @@ package org.carlspring.strongbox.controllers.aql;
 
 import org.carlspring.strongbox.aql.grammar.AqlQueryParser;
 import org.carlspring.strongbox.controllers.BaseController;
+import org.carlspring.strongbox.data.criteria.Paginator;
 import org.carlspring.strongbox.data.criteria.Selector;
 import org.carlspring.strongbox.domain.ArtifactEntry;
 import org.carlspring.strongbox.services.AqlSearchService;
+import org.carlspring.strongbox.services.support.ArtifactEntryCursors;
+import org.carlspring.strongbox.storage.search.SearchResult;
 import org.carlspring.strongbox.storage.search.SearchResults;
 
 import javax.inject.Inject;
+import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import io.swagger.annotations.*;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -29,22 +39,97 @@ import org.springframework.web.bind.annotation.RequestParam;
 public class AqlController extends BaseController
 {
 
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
     @Inject
     private AqlSearchService aqlSearchService;
 
+    @Inject
+    private ObjectMapper objectMapper;
+
     @ApiOperation(value = "Used to search for artifacts.", response = SearchResults.class)
     @ApiResponses(value = { @ApiResponse(code = 200, message = "OK") })
     @PreAuthorize("hasAuthority('SEARCH_ARTIFACTS')")
     @GetMapping(produces = { MediaType.APPLICATION_JSON_VALUE })
-    public ResponseEntity search(@ApiParam(value = "Search query", required = true) @RequestParam(name = "query", required = true) String query)
+    public ResponseEntity search(@ApiParam(value = "Search query", required = true) @RequestParam(name = "query", required = true) String query,
+                                 @ApiParam(value = "The cursor of the next page, empty for the first page") @RequestParam(name = "cursor", required = false) String cursor)
         throws IOException
     {
         AqlQueryParser parser = new AqlQueryParser(query);
         Selector<ArtifactEntry> selector = parser.parseQuery();
 
+        if (!applyCursor(selector, cursor))
+        {
+            return getBadRequestResponseEntity(String.format("The cursor can't be used with [%s] order.",
+                                                             selector.getPaginator().getProperty()),
+                                               MediaType.APPLICATION_JSON_VALUE);
+        }
+
         SearchResults result = aqlSearchService.search(selector);
 
         return ResponseEntity.ok(result);
     }
 
+    @ApiOperation(value = "Used to stream all the search results, one JSON result per line.")
+    @ApiResponses(value = { @ApiResponse(code = 200, message = "OK") })
+    @PreAuthorize("hasAuthority('SEARCH_ARTIFACTS')")
+    @GetMapping(produces = { APPLICATION_NDJSON_VALUE })
+    public void stream(@ApiParam(value = "Search query", required = true) @RequestParam(name = "query", required = true) String query,
+                       @ApiParam(value = "The cursor to start from, empty for the first result") @RequestParam(name = "cursor", required = false) String cursor,
+                       @ApiParam(value = "Whether to generate the dependency snippets") @RequestParam(name = "snippets", defaultValue = "false") boolean snippets,
+                       HttpServletResponse response)
+        throws IOException
+    {
+        AqlQueryParser parser = new AqlQueryParser(query);
+        Selector<ArtifactEntry> selector = parser.parseQuery();
+
+        if (selector.getPaginator().getSkip() > 0)
+        {
+            response.sendError(HttpStatus.BAD_REQUEST.value(),
+                               "The [skip] offset can't be used to stream the results, use the cursor instead.");
+
+            return;
+        }
+
+        if (!applyCursor(selector, cursor))
+        {
+            response.sendError(HttpStatus.BAD_REQUEST.value(),
+                               String.format("The cursor can't be used with [%s] order.",
+                                             selector.getPaginator().getProperty()));
+
+            return;
+        }
+
+        response.setContentType(APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        ObjectWriter writer = objectMapper.writerFor(SearchResult.class);
+        OutputStream os = response.getOutputStream();
+        aqlSearchService.search(selector, snippets, r -> {
+            os.write(writer.writeValueAsBytes(r));
+            os.write('\n');
+            os.flush();
+        });
+    }
+
+    private boolean applyCursor(Selector<ArtifactEntry> selector,
+                                String cursor)
+    {
+        if (cursor == null)
+        {
+            return true;
+        }
+
+        Paginator paginator = selector.getPaginator();
+        paginator.setProperty(Optional.ofNullable(paginator.getProperty()).orElse("uuid"));
+        if (!ArtifactEntryCursors.isSupported(paginator.getProperty()))
+        {
+            return false;
+        }
+
+        paginator.setCursor(cursor);
+
+        return true;
+    }
+
 }
@@ -109,7 +109,7 @@ public class MavenArtifactController
         }
         
         path = correctIndexPathIfNecessary(path);
-        RepositoryPath repositoryPath = artifactResolutionService.resolvePath(storageId, repositoryId, path);
+        RepositoryPath repositoryPath = resolveDownloadPath(storageId, repositoryId, path);
         
         provideArtifactDownloadResponse(request, response, httpHeaders, repositoryPath);
     }
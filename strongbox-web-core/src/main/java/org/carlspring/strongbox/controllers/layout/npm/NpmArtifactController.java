@@ -1,16 +1,12 @@
 package org.carlspring.strongbox.controllers.layout.npm;
 
 import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
 import java.io.StringWriter;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
-import java.nio.file.StandardOpenOption;
 import java.security.NoSuchAlgorithmException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
@@ -18,7 +14,6 @@ import java.util.List;
 import java.util.Optional;
 
 import javax.inject.Inject;
-import javax.servlet.ServletInputStream;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.ws.rs.core.MediaType;
@@ -45,6 +40,8 @@ import org.carlspring.strongbox.npm.metadata.Versions;
 import org.carlspring.strongbox.providers.ProviderImplementationException;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.providers.layout.NpmPackageDesc;
+import org.carlspring.strongbox.providers.layout.NpmPackageFeedCache;
+import org.carlspring.strongbox.providers.layout.NpmPackageFeedCache.CachedPackageFeed;
 import org.carlspring.strongbox.providers.layout.NpmPackageSupplier;
 import org.carlspring.strongbox.providers.layout.NpmSearchResultSupplier;
 import org.carlspring.strongbox.providers.repository.RepositoryProvider;
@@ -52,9 +49,9 @@ import org.carlspring.strongbox.providers.repository.RepositoryProviderRegistry;
 import org.carlspring.strongbox.repository.NpmRepositoryFeatures.SearchPackagesEventListener;
 import org.carlspring.strongbox.repository.NpmRepositoryFeatures.ViewPackageEventListener;
 import org.carlspring.strongbox.services.ArtifactManagementService;
+import org.carlspring.strongbox.storage.ArtifactStorageException;
 import org.carlspring.strongbox.storage.repository.Repository;
 import org.carlspring.strongbox.storage.validation.artifact.ArtifactCoordinatesValidationException;
-import org.javatuples.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpHeaders;
@@ -70,6 +67,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonParser;
@@ -114,6 +112,9 @@ public class NpmArtifactController extends BaseArtifactController
 
     @Inject
     private NpmSearchResultSupplier npmSearchResultSupplier;
+
+    @Inject
+    private NpmPackageFeedCache npmPackageFeedCache;
     
     @Inject
     private ViewPackageEventListener viewPackageEventListener;
@@ -219,6 +220,7 @@ public class NpmArtifactController extends BaseArtifactController
                                          @PathVariable(name = "repositoryId") String repositoryId,
                                          @PathVariable(name = "packageScope") String packageScope,
                                          @PathVariable(name = "packageName") String packageName,
+                                         HttpServletRequest request,
                                          HttpServletResponse response)
         throws Exception
     {
@@ -230,6 +232,40 @@ public class NpmArtifactController extends BaseArtifactController
         
         Repository repository = getRepository(storageId, repositoryId);
 
+        CachedPackageFeed packageFeed = npmPackageFeedCache.get(repository, packageId,
+                                                                () -> buildPackageFeed(repository, packageScope,
+                                                                                       packageName));
+
+        response.setHeader(HttpHeaders.ETAG, packageFeed.getEtag());
+        if (new ServletWebRequest(request, response).checkNotModified(packageFeed.getEtag()))
+        {
+            return;
+        }
+
+        response.setContentType(MediaType.APPLICATION_JSON);
+
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (packageFeed.getGzipContent() != null && acceptEncoding != null && acceptEncoding.contains("gzip"))
+        {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            response.setContentLength(packageFeed.getGzipContent().length);
+            response.getOutputStream().write(packageFeed.getGzipContent());
+
+            return;
+        }
+
+        response.setContentLength(packageFeed.getContent().length);
+        response.getOutputStream().write(packageFeed.getContent());
+    }
+
+    private byte[] buildPackageFeed(Repository repository,
+                                    String packageScope,
+                                    String packageName)
+        throws IOException
+    {
+        String packageId = NpmArtifactCoordinates.caclulatePackageId(packageScope, packageName);
+
         PackageFeed packageFeed = new PackageFeed();
 
         packageFeed.setName(packageId);
@@ -242,7 +278,8 @@ public class NpmArtifactController extends BaseArtifactController
         Paginator paginator = new Paginator();
         paginator.setProperty("version");
 
-        List<Path> searchResult = provider.search(storageId, repositoryId, predicate, paginator);
+        List<Path> searchResult = provider.search(repository.getStorage().getId(), repository.getId(), predicate,
+                                                  paginator);
 
         Versions versions = new Versions();
         packageFeed.setVersions(versions);
@@ -273,8 +310,7 @@ public class NpmArtifactController extends BaseArtifactController
 
         });
 
-        response.setContentType(MediaType.APPLICATION_JSON);
-        response.getOutputStream().write(npmJacksonMapper.writeValueAsBytes(packageFeed));
+        return npmJacksonMapper.writeValueAsBytes(packageFeed);
     }
 
     @GetMapping(path = "{storageId}/{repositoryId}/{packageName}")
@@ -282,10 +318,11 @@ public class NpmArtifactController extends BaseArtifactController
     public void viewPackageFeed(@PathVariable(name = "storageId") String storageId,
                                 @PathVariable(name = "repositoryId") String repositoryId,
                                 @PathVariable(name = "packageName") String packageName,
+                                HttpServletRequest request,
                                 HttpServletResponse response)
         throws Exception
     {
-        viewPackageFeedWithScope(storageId, repositoryId, null, packageName, response);
+        viewPackageFeedWithScope(storageId, repositoryId, null, packageName, request, response);
     }
 
     private Predicate createSearchPredicate(String packageScope,
@@ -329,7 +366,7 @@ public class NpmArtifactController extends BaseArtifactController
             return;
         }
 
-        RepositoryPath path = artifactResolutionService.resolvePath(storageId, repositoryId, coordinates.toPath());
+        RepositoryPath path = resolveDownloadPath(storageId, repositoryId, coordinates.toPath());
         provideArtifactDownloadResponse(request, response, httpHeaders, path);
     }
 
@@ -358,7 +395,7 @@ public class NpmArtifactController extends BaseArtifactController
             return;
         }
 
-        RepositoryPath path = artifactResolutionService.resolvePath(storageId, repositoryId, coordinates.toPath());
+        RepositoryPath path = resolveDownloadPath(storageId, repositoryId, coordinates.toPath());
         provideArtifactDownloadResponse(request, response, httpHeaders, path);
     }
 
@@ -372,10 +409,11 @@ public class NpmArtifactController extends BaseArtifactController
     {
         logger.info(String.format("npm publish request for [%s]/[%s]/[%s]", storageId,
                                   repositoryId, name));
-        Pair<PackageVersion, Path> packageEntry;
+
+        Repository repository = getRepository(storageId, repositoryId);
         try
         {
-            packageEntry = extractPackage(name, request.getInputStream());
+            publishPackage(repository, name, request.getInputStream());
         }
         catch (IllegalArgumentException e)
         {
@@ -383,68 +421,29 @@ public class NpmArtifactController extends BaseArtifactController
             return ResponseEntity.badRequest().build();
         }
 
-        PackageVersion packageJson = packageEntry.getValue0();
-        Path packageTgz = packageEntry.getValue1();
-
-        Repository repository = getRepository(storageId, repositoryId);
-        NpmArtifactCoordinates coordinates = NpmArtifactCoordinates.of(name, packageJson.getVersion());
-
-        storeNpmPackage(repository, coordinates, packageJson, packageTgz);
-
         return ResponseEntity.ok("");
     }
 
-    private void storeNpmPackage(Repository repository,
-                                 NpmArtifactCoordinates coordinates,
-                                 PackageVersion packageDef,
-                                 Path packageTgzTmp)
+    /**
+     * Parses the npm package source in single pass: the `versions` are kept in
+     * memory, and the `_attachments` package tarball is decoded from base64
+     * directly into the repository. If the tarball length doesn't match, the
+     * written tarball is discarded, so the invalid request can't overwrite the
+     * previously published one.
+     */
+    private void publishPackage(Repository repository,
+                                String packageName,
+                                InputStream in)
         throws IOException,
                ProviderImplementationException,
                NoSuchAlgorithmException,
                ArtifactCoordinatesValidationException
     {
-        RepositoryPath repositoryPath = repositoryPathResolver.resolve(repository, coordinates);
-        try (InputStream is = new BufferedInputStream(Files.newInputStream(packageTgzTmp)))
-        {
-            npmArtifactManagementService.validateAndStore(repositoryPath, is);
-        }
-
-        Path packageJsonTmp = extractPackageJson(packageTgzTmp);
-        RepositoryPath packageJsonPath = repositoryPathResolver.resolve(repository, repositoryPath.resolveSibling("package.json"));
-        try (InputStream is = new BufferedInputStream(Files.newInputStream(packageJsonTmp)))
-        {
-            npmArtifactManagementService.validateAndStore(packageJsonPath, is);
-        }
-
-        String shasum = Optional.ofNullable(packageDef.getDist()).map(p -> p.getShasum()).orElse(null);
-        if (shasum == null)
-        {
-            logger.warn(String.format("No checksum provided for package [%s]", packageDef.getName()));
-            return;
-        }
-
-        String packageFileName = repositoryPath.getFileName().toString();
-        RepositoryPath checksumPath = repositoryPath.resolveSibling(packageFileName + ".sha1");
-        npmArtifactManagementService.validateAndStore(checksumPath,
-                                                      new ByteArrayInputStream(shasum.getBytes("UTF-8")));
-
-        Files.delete(packageTgzTmp);
-        Files.delete(packageJsonTmp);
-    }
-
-    private Pair<PackageVersion, Path> extractPackage(String packageName,
-                                                      ServletInputStream in)
-        throws IOException
-    {
-        Path packageSourceTmp = Files.createTempFile("package", "source");
-        Files.copy(in, packageSourceTmp, StandardCopyOption.REPLACE_EXISTING);
-
         PackageVersion packageVersion = null;
-        Path packageTgzPath = null;
+        RepositoryPath packageTgzPath = null;
 
         JsonFactory jfactory = new JsonFactory();
-        try (InputStream tmpIn = new BufferedInputStream(Files.newInputStream(packageSourceTmp));
-             JsonParser jp = jfactory.createParser(tmpIn);)
+        try (JsonParser jp = jfactory.createParser(in))
         {
             jp.setCodec(npmJacksonMapper);
 
@@ -477,8 +476,12 @@ public class NpmArtifactController extends BaseArtifactController
                     String packageAttachmentName = jp.nextFieldName();
                     logger.info(String.format("Found npm package attachment [%s]", packageAttachmentName));
 
+                    Assert.notNull(packageVersion,
+                                   String.format("Failed to parse npm package source for [%s], versions should precede attachments.",
+                                                 packageName));
+
                     moveToAttachment(jp, packageAttachmentName);
-                    packageTgzPath = extractPackage(jp);
+                    packageTgzPath = storePackage(repository, packageName, packageVersion, jp);
 
                     jp.nextToken();
                     jp.nextToken();
@@ -486,52 +489,102 @@ public class NpmArtifactController extends BaseArtifactController
                     break;
                 }
             }
+
+            if (packageVersion == null || packageTgzPath == null)
+            {
+                throw new IllegalArgumentException(
+                        String.format("Failed to parse npm package source for [%s], attachment not found", packageName));
+            }
         }
 
-        Files.delete(packageSourceTmp);
+        storePackageJson(repository, packageTgzPath);
+        storePackageChecksum(packageTgzPath, packageVersion);
+    }
+
+    private RepositoryPath storePackage(Repository repository,
+                                        String packageName,
+                                        PackageVersion packageVersion,
+                                        JsonParser jp)
+        throws IOException,
+               ProviderImplementationException,
+               NoSuchAlgorithmException,
+               ArtifactCoordinatesValidationException
+    {
+        NpmArtifactCoordinates coordinates = NpmArtifactCoordinates.of(packageName, packageVersion.getVersion());
+        RepositoryPath repositoryPath = repositoryPathResolver.resolve(repository, coordinates);
+        try
+        {
+            npmArtifactManagementService.validateAndStore(repositoryPath, os -> {
+                long packageSize = jp.readBinaryValue(os);
+                validatePackageLength(jp, packageSize);
 
-        if (packageVersion == null || packageTgzPath == null)
+                return packageSize;
+            });
+        }
+        catch (ArtifactStorageException e)
         {
-            throw new IllegalArgumentException(
-                    String.format("Failed to parse npm package source for [%s], attachment not found", packageName));
+            // The invalid package length, the package was not stored.
+            if (e.getCause() instanceof IllegalArgumentException)
+            {
+                throw (IllegalArgumentException) e.getCause();
+            }
+
+            throw e;
         }
 
-        return Pair.with(packageVersion, packageTgzPath);
+        return repositoryPath;
     }
 
-    private Path extractPackage(JsonParser jp)
-        throws IOException
+    private void storePackageJson(Repository repository,
+                                  RepositoryPath packageTgzPath)
+        throws IOException,
+               ProviderImplementationException,
+               NoSuchAlgorithmException,
+               ArtifactCoordinatesValidationException
     {
-        Path packageTgzTmp = Files.createTempFile("package", "tgz");
-        try (OutputStream packageTgzOut = new BufferedOutputStream(Files.newOutputStream(packageTgzTmp,
-                                                                                         StandardOpenOption.TRUNCATE_EXISTING)))
+        // The tarball is read only until the `package.json` entry.
+        String packageJsonSource;
+        try (InputStream packageTgzIn = new BufferedInputStream(Files.newInputStream(packageTgzPath)))
         {
-            jp.readBinaryValue(packageTgzOut);
+            packageJsonSource = extrectPackageJson(packageTgzIn);
         }
+        Assert.notNull(packageJsonSource, String.format("Failed to find package.json within [%s]", packageTgzPath));
 
-        long packageSize = Files.size(packageTgzTmp);
-
-        Assert.isTrue(FIELD_NAME_LENGTH.equals(jp.nextFieldName()), "Failed to validate package content length.");
-        jp.nextToken();
+        RepositoryPath packageJsonPath = repositoryPathResolver.resolve(repository,
+                                                                        packageTgzPath.resolveSibling("package.json"));
+        npmArtifactManagementService.validateAndStore(packageJsonPath,
+                                                      new ByteArrayInputStream(packageJsonSource.getBytes("UTF-8")));
+    }
 
-        Assert.isTrue(packageSize == jp.getLongValue(), "Invalid package content length.");
-        jp.nextToken();
+    private void storePackageChecksum(RepositoryPath packageTgzPath,
+                                      PackageVersion packageDef)
+        throws IOException,
+               ProviderImplementationException,
+               NoSuchAlgorithmException,
+               ArtifactCoordinatesValidationException
+    {
+        String shasum = Optional.ofNullable(packageDef.getDist()).map(p -> p.getShasum()).orElse(null);
+        if (shasum == null)
+        {
+            logger.warn(String.format("No checksum provided for package [%s]", packageDef.getName()));
+            return;
+        }
 
-        return packageTgzTmp;
+        String packageFileName = packageTgzPath.getFileName().toString();
+        RepositoryPath checksumPath = packageTgzPath.resolveSibling(packageFileName + ".sha1");
+        npmArtifactManagementService.validateAndStore(checksumPath,
+                                                      new ByteArrayInputStream(shasum.getBytes("UTF-8")));
     }
 
-    private Path extractPackageJson(Path packageTgzTmp)
+    private void validatePackageLength(JsonParser jp,
+                                       long packageSize)
         throws IOException
     {
-        String packageJsonSource;
-        try (InputStream packageTgzIn = new BufferedInputStream(Files.newInputStream(packageTgzTmp)))
-        {
-            packageJsonSource = extrectPackageJson(packageTgzIn);
-        }
-        Path packageJsonTmp = Files.createTempFile("package", "json");
-        Files.write(packageJsonTmp, packageJsonSource.getBytes("UTF-8"), StandardOpenOption.TRUNCATE_EXISTING);
+        Assert.isTrue(FIELD_NAME_LENGTH.equals(jp.nextFieldName()), "Failed to validate package content length.");
+        jp.nextToken();
 
-        return packageJsonTmp;
+        Assert.isTrue(packageSize == jp.getLongValue(), "Invalid package content length.");
+        jp.nextToken();
     }
 
     private void moveToAttachment(JsonParser jp,
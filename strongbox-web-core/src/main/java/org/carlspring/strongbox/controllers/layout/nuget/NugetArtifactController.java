@@ -550,7 +550,7 @@ public class NugetArtifactController extends BaseArtifactController
         String fileName = String.format("%s.%s.nupkg", packageId, packageVersion);
         String path = String.format("%s/%s/%s", packageId, packageVersion, fileName);
 
-        RepositoryPath repositoryPath = artifactResolutionService.resolvePath(storageId, repositoryId, path);
+        RepositoryPath repositoryPath = resolveDownloadPath(storageId, repositoryId, path);
         if (provideArtifactDownloadResponse(request, response, httpHeaders, repositoryPath))
         {
             response.setHeader("Content-Disposition", String.format("attachment; filename=\"%s\"", fileName));
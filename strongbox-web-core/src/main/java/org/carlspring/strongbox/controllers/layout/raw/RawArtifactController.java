@@ -81,7 +81,7 @@ public class RawArtifactController
             return;
         }
 
-        RepositoryPath repositoryPath = artifactResolutionService.resolvePath(storageId, repositoryId, path);
+        RepositoryPath repositoryPath = resolveDownloadPath(storageId, repositoryId, path);
         provideArtifactDownloadResponse(request, response, httpHeaders, repositoryPath);
     }
 
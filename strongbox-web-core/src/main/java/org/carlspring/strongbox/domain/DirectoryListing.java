@@ -10,6 +10,11 @@ public class DirectoryListing
 
     private List<FileContent> files;
 
+    /**
+     * The number of all the directory entries, when only a page of them was
+     * listed.
+     */
+    private Integer total;
 
     public List<FileContent> getDirectories()
     {
@@ -41,4 +46,14 @@ public class DirectoryListing
         this.files = files;
     }
 
+    public Integer getTotal()
+    {
+        return total;
+    }
+
+    public void setTotal(Integer total)
+    {
+        this.total = total;
+    }
+
 }
@@ -0,0 +1,85 @@
+package org.carlspring.strongbox.domain;
+
+/**
+ * The paging, sorting and attributes options of the repository
+ * {@link DirectoryListing}.
+ */
+public class DirectoryListingRequest
+{
+
+    /**
+     * The number of entries to skip, the directories go before the files.
+     */
+    private int skip;
+
+    /**
+     * The maximum number of entries, `0` for all of them.
+     */
+    private int limit;
+
+    private SortField sort = SortField.NAME;
+
+    private boolean descending;
+
+    /**
+     * Whether to read all the strongbox specific attributes of the returned
+     * entries, otherwise only the basic file attributes are read.
+     */
+    private boolean attributes;
+
+    public int getSkip()
+    {
+        return skip;
+    }
+
+    public void setSkip(int skip)
+    {
+        this.skip = skip;
+    }
+
+    public int getLimit()
+    {
+        return limit;
+    }
+
+    public void setLimit(int limit)
+    {
+        this.limit = limit;
+    }
+
+    public SortField getSort()
+    {
+        return sort;
+    }
+
+    public void setSort(SortField sort)
+    {
+        this.sort = sort;
+    }
+
+    public boolean isDescending()
+    {
+        return descending;
+    }
+
+    public void setDescending(boolean descending)
+    {
+        this.descending = descending;
+    }
+
+    public boolean isAttributes()
+    {
+        return attributes;
+    }
+
+    public void setAttributes(boolean attributes)
+    {
+        this.attributes = attributes;
+    }
+
+    public enum SortField
+    {
+        NAME, LAST_MODIFIED, SIZE;
+    }
+
+}
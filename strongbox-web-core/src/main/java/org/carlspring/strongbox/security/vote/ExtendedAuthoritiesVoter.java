@@ -18,6 +18,8 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 /**
  * @author sbespalov
@@ -27,6 +29,13 @@ import org.springframework.stereotype.Component;
 public class ExtendedAuthoritiesVoter extends PreInvocationAuthorizationAdviceVoter
 {
 
+    /**
+     * The request attribute with the last {@link ExtendedAuthorityAuthentication},
+     * so that the authorities are calculated once per request.
+     */
+    private static final String EXTENDED_AUTHORITY_AUTHENTICATION = ExtendedAuthoritiesVoter.class.getName()
+            + ".authentication";
+
     public ExtendedAuthoritiesVoter()
     {
         super(new ExpressionBasedPreInvocationAdvice());
@@ -46,6 +55,8 @@ public class ExtendedAuthoritiesVoter extends PreInvocationAuthorizationAdviceVo
 
         private Authentication source;
 
+        private Collection<? extends GrantedAuthority> extendedAuthorities;
+
         public ExtendedAuthorityAuthentication(Authentication target)
         {
             super();
@@ -98,7 +109,8 @@ public class ExtendedAuthoritiesVoter extends PreInvocationAuthorizationAdviceVo
             }
 
             // assign privileges based on custom user access model
-            final Collection<String> customAuthorities = AccessModel.getPathPrivileges(accessModel, UrlUtils.getRequestUri());
+            final Collection<String> customAuthorities = AccessModel.getPathPrivilegesMatcher(accessModel)
+                                                                    .getPathPrivileges(requestUri);
             if (customAuthorities == null || customAuthorities.isEmpty())
             {
                 return authorities;
@@ -119,7 +131,29 @@ public class ExtendedAuthoritiesVoter extends PreInvocationAuthorizationAdviceVo
 
         public Collection<? extends GrantedAuthority> getAuthorities()
         {
-            return calculateExtendedAuthorities(getSourceAuthentication());
+            if (extendedAuthorities != null)
+            {
+                return extendedAuthorities;
+            }
+
+            RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+            if (requestAttributes == null)
+            {
+                return extendedAuthorities = calculateExtendedAuthorities(getSourceAuthentication());
+            }
+
+            Object lastAuthentication = requestAttributes.getAttribute(EXTENDED_AUTHORITY_AUTHENTICATION,
+                                                                       RequestAttributes.SCOPE_REQUEST);
+            if (lastAuthentication instanceof ExtendedAuthorityAuthentication
+                    && ((ExtendedAuthorityAuthentication) lastAuthentication).source == source)
+            {
+                return extendedAuthorities = ((ExtendedAuthorityAuthentication) lastAuthentication).extendedAuthorities;
+            }
+
+            extendedAuthorities = calculateExtendedAuthorities(getSourceAuthentication());
+            requestAttributes.setAttribute(EXTENDED_AUTHORITY_AUTHENTICATION, this, RequestAttributes.SCOPE_REQUEST);
+
+            return extendedAuthorities;
         }
 
         public Object getCredentials()
@@ -5,6 +5,7 @@ import java.nio.file.Path;
 import java.util.Map;
 
 import org.carlspring.strongbox.domain.DirectoryListing;
+import org.carlspring.strongbox.domain.DirectoryListingRequest;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.storage.Storage;
 import org.carlspring.strongbox.storage.repository.Repository;
@@ -18,6 +19,15 @@ public interface DirectoryListingService
 
     DirectoryListing fromRepositoryPath(RepositoryPath path)
         throws IOException;
+
+    /**
+     * Lists the page of the directory entries. Only the basic file attributes
+     * are read for all the entries, the strongbox specific attributes are
+     * read for the page entries, and only if they were requested.
+     */
+    DirectoryListing fromRepositoryPath(RepositoryPath path,
+                                        DirectoryListingRequest request)
+        throws IOException;
     
     DirectoryListing fromPath(Path root, Path path)
             throws IOException;
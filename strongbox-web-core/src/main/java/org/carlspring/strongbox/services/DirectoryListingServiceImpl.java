@@ -3,10 +3,13 @@ package org.carlspring.strongbox.services;
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -16,8 +19,10 @@ import java.util.stream.Stream;
 
 import org.apache.commons.lang.StringUtils;
 import org.carlspring.strongbox.domain.DirectoryListing;
+import org.carlspring.strongbox.domain.DirectoryListingRequest;
 import org.carlspring.strongbox.domain.FileContent;
 import org.carlspring.strongbox.providers.io.RepositoryFileAttributeType;
+import org.carlspring.strongbox.providers.io.RepositoryFiles;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.storage.Storage;
 import org.carlspring.strongbox.storage.repository.Repository;
@@ -79,7 +84,121 @@ public class DirectoryListingServiceImpl implements DirectoryListingService
     public DirectoryListing fromRepositoryPath(RepositoryPath path)
         throws IOException
     {
-        return fromPath(path);
+        return fromRepositoryPath(path, new DirectoryListingRequest());
+    }
+
+    @Override
+    public DirectoryListing fromRepositoryPath(RepositoryPath path,
+                                               DirectoryListingRequest request)
+        throws IOException
+    {
+        path = path.normalize();
+
+        List<DirectoryEntry> entries = new ArrayList<>();
+        try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(path))
+        {
+            for (Path contentPath : directoryStream)
+            {
+                if (contentPath.getFileName().toString().startsWith(".") || isHidden(contentPath))
+                {
+                    continue;
+                }
+
+                entries.add(new DirectoryEntry((RepositoryPath) contentPath,
+                                               Files.readAttributes(contentPath, BasicFileAttributes.class)));
+            }
+        }
+
+        entries.sort(calculateComparator(request));
+
+        DirectoryListing directoryListing = new DirectoryListing();
+        directoryListing.setTotal(entries.size());
+
+        int toIndex = request.getLimit() > 0 ? request.getSkip() + request.getLimit() : entries.size();
+        List<DirectoryEntry> page = entries.subList(Math.min(request.getSkip(), entries.size()),
+                                                    Math.min(toIndex, entries.size()));
+        if (page.isEmpty())
+        {
+            return directoryListing;
+        }
+
+        String downloadBaseUrl = StringUtils.chomp(RepositoryFiles.readResourceUrl(path).toString(), "/");
+        for (DirectoryEntry entry : page)
+        {
+            if (request.isAttributes())
+            {
+                FileContent file = toFileContent(entry.path);
+                if (entry.attributes.isDirectory())
+                {
+                    directoryListing.getDirectories().add(file);
+                }
+                else
+                {
+                    directoryListing.getFiles().add(file);
+                }
+
+                continue;
+            }
+
+            FileContent file = new FileContent(entry.path.getFileName().toString());
+            file.setStorageId(path.getRepository().getStorage().getId());
+            file.setRepositoryId(path.getRepository().getId());
+            file.setArtifactPath(RepositoryFiles.relativizePath(entry.path));
+
+            if (entry.attributes.isDirectory())
+            {
+                file.setUrl(calculateDirectoryUrl(file));
+                directoryListing.getDirectories().add(file);
+
+                continue;
+            }
+
+            file.setUrl(new URL(String.format("%s/%s", downloadBaseUrl, file.getName())));
+            file.setLastModified(new Date(entry.attributes.lastModifiedTime().toMillis()));
+            file.setSize(entry.attributes.size());
+
+            directoryListing.getFiles().add(file);
+        }
+
+        return directoryListing;
+    }
+
+    private Comparator<DirectoryEntry> calculateComparator(DirectoryListingRequest request)
+    {
+        Comparator<DirectoryEntry> comparator;
+        switch (request.getSort())
+        {
+            case LAST_MODIFIED:
+                comparator = Comparator.comparing(e -> e.attributes.lastModifiedTime());
+                break;
+            case SIZE:
+                comparator = Comparator.comparingLong(e -> e.attributes.size());
+                break;
+            default:
+                comparator = Comparator.comparing(e -> e.path.getFileName().toString());
+                break;
+        }
+
+        if (request.isDescending())
+        {
+            comparator = comparator.reversed();
+        }
+
+        // The directories always go first.
+        return Comparator.<DirectoryEntry, Boolean>comparing(e -> !e.attributes.isDirectory()).thenComparing(comparator);
+    }
+
+    private boolean isHidden(Path path)
+    {
+        try
+        {
+            return Files.isHidden(path);
+        }
+        catch (IOException e)
+        {
+            logger.debug("Error accessing path {}", path);
+            return true;
+        }
     }
 
     private DirectoryListing fromPath(Path path)
@@ -125,29 +244,14 @@ public class DirectoryListingServiceImpl implements DirectoryListingService
 
         for (Path contentPath : contentPaths)
         {
-            FileContent file = new FileContent(contentPath.getFileName().toString());
-
-            Map<String, Object> fileAttributes = Files.readAttributes(contentPath, "*");
-
-            file.setStorageId((String) fileAttributes.get(RepositoryFileAttributeType.STORAGE_ID.getName()));
-            file.setRepositoryId((String) fileAttributes.get(RepositoryFileAttributeType.REPOSITORY_ID.getName()));
-
-            file.setArtifactPath((String) fileAttributes.get("artifactPath"));
-
-            if (Boolean.TRUE.equals(fileAttributes.get("isDirectory")))
+            FileContent file = toFileContent(contentPath);
+            if (file.getSize() == null)
             {
-                file.setUrl(calculateDirectoryUrl(file));
-
                 directories.add(file);
 
                 continue;
             }
 
-            file.setUrl((URL) fileAttributes.get(RepositoryFileAttributeType.RESOURCE_URL.getName()));
-
-            file.setLastModified(new Date(((FileTime) fileAttributes.get("lastModifiedTime")).toMillis()));
-            file.setSize((Long) fileAttributes.get("size"));
-
             files.add(file);
         }
 
@@ -158,6 +262,36 @@ public class DirectoryListingServiceImpl implements DirectoryListingService
         return listing;
     }
 
+    /**
+     * Reads all the attributes of the path, the directory has no size.
+     */
+    private FileContent toFileContent(Path contentPath)
+        throws IOException
+    {
+        FileContent file = new FileContent(contentPath.getFileName().toString());
+
+        Map<String, Object> fileAttributes = Files.readAttributes(contentPath, "*");
+
+        file.setStorageId((String) fileAttributes.get(RepositoryFileAttributeType.STORAGE_ID.getName()));
+        file.setRepositoryId((String) fileAttributes.get(RepositoryFileAttributeType.REPOSITORY_ID.getName()));
+
+        file.setArtifactPath((String) fileAttributes.get("artifactPath"));
+
+        if (Boolean.TRUE.equals(fileAttributes.get("isDirectory")))
+        {
+            file.setUrl(calculateDirectoryUrl(file));
+
+            return file;
+        }
+
+        file.setUrl((URL) fileAttributes.get(RepositoryFileAttributeType.RESOURCE_URL.getName()));
+
+        file.setLastModified(new Date(((FileTime) fileAttributes.get("lastModifiedTime")).toMillis()));
+        file.setSize((Long) fileAttributes.get("size"));
+
+        return file;
+    }
+
     /**
      * @param rootPath
      *            The root path in which directory listing is allowed. Used as a
@@ -209,4 +343,20 @@ public class DirectoryListingServiceImpl implements DirectoryListingService
                                      file.getRepositoryId(), file.getArtifactPath()));
     }
 
+    private static class DirectoryEntry
+    {
+
+        private final RepositoryPath path;
+
+        private final BasicFileAttributes attributes;
+
+        private DirectoryEntry(RepositoryPath path,
+                               BasicFileAttributes attributes)
+        {
+            this.path = path;
+            this.attributes = attributes;
+        }
+
+    }
+
 }
@@ -7,22 +7,37 @@ import org.carlspring.strongbox.io.StreamUtils;
 import org.carlspring.strongbox.providers.io.RepositoryFileAttributes;
 import org.carlspring.strongbox.providers.io.RepositoryFiles;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.io.RepositoryStreamSupport.RepositoryInputStream;
+import org.carlspring.strongbox.resource.ResourceCloser;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 
+import org.apache.commons.codec.digest.MessageDigestAlgorithms;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.web.context.request.ServletWebRequest;
 import static org.springframework.http.HttpStatus.PARTIAL_CONTENT;
 import static org.springframework.http.HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE;
 
@@ -38,9 +53,13 @@ public class ArtifactControllerHelper
     {
     }
 
-    public static void handlePartialDownload(InputStream is,
-                                             HttpHeaders headers,
-                                             HttpServletResponse response)
+    /**
+     * @return `true` if the response content has been already written, so the
+     *         stream should not be copied into the response
+     */
+    public static boolean handlePartialDownload(InputStream is,
+                                                HttpHeaders headers,
+                                                HttpServletResponse response)
             throws IOException
     {
         ByteRangeHeaderParser parser = new ByteRangeHeaderParser(headers.getFirst(HEADER_NAME_RANGE));
@@ -49,11 +68,15 @@ public class ArtifactControllerHelper
         {
             logger.debug("Received request for a partial download with a single range.");
             handlePartialDownloadWithSingleRange(is, (ByteRange) ranges.get(0), response);
+
+            return false;
         }
         else
         {
             logger.debug("Received request for a partial download with multiple ranges.");
             handlePartialDownloadWithMultipleRanges(is, ranges, response);
+
+            return true;
         }
     }
 
@@ -83,13 +106,154 @@ public class ArtifactControllerHelper
         }
     }
 
+    /**
+     * Writes the `multipart/byteranges` response content. The ranges are
+     * sorted and the overlapping (or adjacent) ranges are coalesced, each range
+     * is transferred with positioned reads from the single file channel. <br>
+     * The stream will be closed.
+     */
     public static void handlePartialDownloadWithMultipleRanges(InputStream is,
                                                                List<ByteRange> byteRanges,
                                                                HttpServletResponse response)
             throws IOException
     {
-        // XXX: this is not implemented yet
-        response.setStatus(REQUESTED_RANGE_NOT_SATISFIABLE.value());
+        try
+        {
+            ByteRangeInputStream bris = StreamUtils.findSource(ByteRangeInputStream.class, (FilterInputStream) is);
+            if (!(is instanceof RepositoryInputStream) || bris == null)
+            {
+                response.setStatus(REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                return;
+            }
+
+            long length = StreamUtils.getLength(bris);
+            List<long[]> ranges = coalesceRanges(byteRanges, length);
+            if (ranges.isEmpty())
+            {
+                response.setStatus(REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                response.setHeader("Content-Range", "bytes */" + length);
+                return;
+            }
+
+            writeByteRanges((RepositoryInputStream) is, ranges, length, response);
+        }
+        finally
+        {
+            ResourceCloser.close(is, logger);
+        }
+    }
+
+    private static void writeByteRanges(RepositoryInputStream is,
+                                        List<long[]> ranges,
+                                        long length,
+                                        HttpServletResponse response)
+        throws IOException
+    {
+        response.setStatus(PARTIAL_CONTENT.value());
+        response.setHeader("Accept-Ranges", "bytes");
+
+        if (ranges.size() == 1)
+        {
+            long[] range = ranges.get(0);
+
+            response.setHeader("Content-Range", String.format("bytes %s-%s/%s", range[0], range[1], length));
+            response.setHeader("Content-Length", String.valueOf(range[1] - range[0] + 1));
+
+            OutputStream os = response.getOutputStream();
+            is.transferTo(Channels.newChannel(os), range[0], range[1] - range[0] + 1);
+            os.flush();
+
+            return;
+        }
+
+        String boundary = UUID.randomUUID().toString().replace("-", "");
+        String contentType = Optional.ofNullable(response.getContentType())
+                                     .orElse(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+
+        List<byte[]> partHeaders = new ArrayList<>();
+        long contentLength = 0L;
+        for (long[] range : ranges)
+        {
+            byte[] partHeader = String.format("\r\n--%s\r\nContent-Type: %s\r\nContent-Range: bytes %s-%s/%s\r\n\r\n",
+                                              boundary, contentType, range[0], range[1], length)
+                                      .getBytes(StandardCharsets.US_ASCII);
+            partHeaders.add(partHeader);
+
+            contentLength += partHeader.length + range[1] - range[0] + 1;
+        }
+        byte[] closeDelimiter = String.format("\r\n--%s--\r\n", boundary).getBytes(StandardCharsets.US_ASCII);
+        contentLength += closeDelimiter.length;
+
+        response.setContentType("multipart/byteranges; boundary=" + boundary);
+        response.setHeader("Content-Length", String.valueOf(contentLength));
+
+        OutputStream os = response.getOutputStream();
+        WritableByteChannel target = Channels.newChannel(os);
+        for (int i = 0; i < ranges.size(); i++)
+        {
+            long[] range = ranges.get(i);
+
+            os.write(partHeaders.get(i));
+            is.transferTo(target, range[0], range[1] - range[0] + 1);
+        }
+        os.write(closeDelimiter);
+        os.flush();
+    }
+
+    /**
+     * Converts the ranges into the `[first, last]` byte positions (inclusive),
+     * sorts them and coalesces the ones which overlap or adjacent. <br>
+     * The {@link ByteRange} with negative offset is a suffix range (the last
+     * bytes), and the one with zero limit is open ended.
+     *
+     * @return the ranges which can be satisfied
+     */
+    public static List<long[]> coalesceRanges(List<ByteRange> byteRanges,
+                                              long length)
+    {
+        List<long[]> ranges = new ArrayList<>();
+        for (ByteRange byteRange : byteRanges)
+        {
+            long offset = byteRange.getOffset();
+            long limit = Optional.ofNullable(byteRange.getLimit()).orElse(0L);
+
+            long first;
+            long last;
+            if (offset < 0)
+            {
+                first = Math.max(0L, length + offset);
+                last = length - 1;
+            }
+            else
+            {
+                first = offset;
+                last = limit > 0 ? Math.min(limit, length - 1) : length - 1;
+            }
+
+            if (first >= length || first > last)
+            {
+                continue;
+            }
+
+            ranges.add(new long[] { first, last });
+        }
+
+        ranges.sort(Comparator.comparingLong(r -> r[0]));
+
+        List<long[]> result = new ArrayList<>();
+        for (long[] range : ranges)
+        {
+            long[] previous = result.isEmpty() ? null : result.get(result.size() - 1);
+            if (previous != null && range[0] <= previous[1] + 1)
+            {
+                previous[1] = Math.max(previous[1], range[1]);
+                continue;
+            }
+
+            result.add(range);
+        }
+
+        return result;
     }
 
     public static long calculatePartialRangeLength(ByteRange byteRange,
@@ -155,26 +319,11 @@ public class ArtifactControllerHelper
         response.setHeader("Last-Modified", DateTimeFormatter.RFC_1123_DATE_TIME.format(
                 ZonedDateTime.ofInstant(fileAttributes.lastModifiedTime().toInstant(), ZoneId.systemDefault())));
 
-        // TODO: This is far from optimal and will need to have a content type approach at some point:
-        if (RepositoryFiles.isChecksum(path) || (path.getFileName().toString().endsWith(".properties")))
-        {
-            response.setContentType(MediaType.TEXT_PLAIN_VALUE);
-        }
-        else if (path.getFileName().toString().endsWith("xml"))
-        {
-            response.setContentType(MediaType.APPLICATION_XML_VALUE);
-        }
-        else if (path.getFileName().toString().endsWith(".gz"))
-        {
-            response.setContentType(com.google.common.net.MediaType.GZIP.toString());
-        }
-        else
-        {
-            response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
-        }
+        provideContentType(response, path);
 
         response.setHeader("Accept-Ranges", "bytes");
 
+        Map<String, String> checksums = new HashMap<>();
         path.getFileSystem().provider().resolveChecksumPathMap(path).entrySet().stream().forEach(e -> {
             String checksumValue;
             try
@@ -185,12 +334,97 @@ public class ArtifactControllerHelper
             {
                 return;
             }
+            checksums.put(e.getKey(), checksumValue);
+
             String checksumName = String.format("Checksum-%s",
                                                 e.getKey().toUpperCase().replaceAll("-", ""));
             response.setHeader(checksumName,
                                checksumValue);
         });
-        
+
+        response.setHeader(HttpHeaders.ETAG, calculateETag(fileAttributes, checksums.get(MessageDigestAlgorithms.SHA_1)));
+    }
+
+    /**
+     * The strong ETag is the stored SHA-1 checksum, if there is no such
+     * checksum the weak ETag is calculated from the file size and last
+     * modified time.
+     */
+    public static String calculateETag(RepositoryFileAttributes fileAttributes,
+                                       String sha1)
+    {
+        if (sha1 != null && !sha1.isEmpty())
+        {
+            return String.format("\"%s\"", sha1.split("\\s+")[0]);
+        }
+
+        return String.format("W/\"%s-%s\"",
+                             Long.toHexString(fileAttributes.size()),
+                             Long.toHexString(fileAttributes.lastModifiedTime().toMillis()));
+    }
+
+    /**
+     * Checks the `If-None-Match` and `If-Modified-Since` request headers
+     * against the `ETag` and `Last-Modified` response headers, provided by
+     * {@link #provideArtifactHeaders(HttpServletResponse, RepositoryPath)}. The
+     * response status will be set to `304` if the client has actual content.
+     */
+    public static boolean isNotModified(HttpServletRequest request,
+                                        HttpServletResponse response)
+    {
+        String etag = response.getHeader(HttpHeaders.ETAG);
+        String lastModified = response.getHeader(HttpHeaders.LAST_MODIFIED);
+
+        long lastModifiedTimestamp = lastModified == null ? -1L
+                : ZonedDateTime.parse(lastModified, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+
+        return new ServletWebRequest(request, response).checkNotModified(etag, lastModifiedTimestamp);
+    }
+
+    /**
+     * Checks if the file checksums are already stored, so there is no need to
+     * calculate them while the file is being served.
+     */
+    public static boolean hasStoredChecksums(RepositoryPath path)
+        throws IOException
+    {
+        if (RepositoryFiles.isChecksum(path))
+        {
+            return true;
+        }
+
+        for (RepositoryPath checksumPath : path.getFileSystem().provider().resolveChecksumPathMap(path).values())
+        {
+            if (!Files.exists(checksumPath) || Files.size(checksumPath) == 0)
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    public static void provideContentType(HttpServletResponse response,
+                                          RepositoryPath path)
+        throws IOException
+    {
+        // TODO: This is far from optimal and will need to have a content type approach at some point:
+        if (RepositoryFiles.isChecksum(path) || (path.getFileName().toString().endsWith(".properties")))
+        {
+            response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        }
+        else if (path.getFileName().toString().endsWith("xml"))
+        {
+            response.setContentType(MediaType.APPLICATION_XML_VALUE);
+        }
+        else if (path.getFileName().toString().endsWith(".gz"))
+        {
+            response.setContentType(com.google.common.net.MediaType.GZIP.toString());
+        }
+        else
+        {
+            response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        }
     }
 
 }
@@ -233,6 +233,38 @@ public class BrowseControllerTest
         assertTrue(htmlResponse.contains(link), "Expected to have found [ " + link + " ] in the response html");
     }
 
+    @Test
+    public void testRepositoryContentsPage()
+    {
+        String url = getContextBaseUrl() + "/" + STORAGE0 + "/" + REPOSITORY
+                     + "/org/carlspring/strongbox/browsing/test-browsing/1.1";
+
+        DirectoryListing returned = given().accept(MediaType.APPLICATION_JSON_VALUE)
+                                           .param("skip", 1)
+                                           .param("limit", 2)
+                                           .param("descending", true)
+                                           .when()
+                                           .get(url)
+                                           .prettyPeek()
+                                           .as(DirectoryListing.class);
+
+        assertEquals(Integer.valueOf(6), returned.getTotal());
+        assertEquals(2, returned.getFiles().size());
+        assertEquals("test-browsing-1.1.pom.md5", returned.getFiles().get(0).getName());
+        assertEquals("test-browsing-1.1.pom", returned.getFiles().get(1).getName());
+        assertTrue(returned.getFiles().get(1).getUrl().toString().endsWith(
+                "/storages/" + STORAGE0 + "/" + REPOSITORY +
+                "/org/carlspring/strongbox/browsing/test-browsing/1.1/test-browsing-1.1.pom"));
+
+        given().accept(MediaType.APPLICATION_JSON_VALUE)
+               .param("sort", "unknown")
+               .when()
+               .get(url)
+               .prettyPeek()
+               .then()
+               .statusCode(HttpStatus.BAD_REQUEST.value());
+    }
+
     @Test
     public void testRepositoryContentsWithRepositoryNotFound()
     {
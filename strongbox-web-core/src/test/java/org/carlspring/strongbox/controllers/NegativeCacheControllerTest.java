@@ -0,0 +1,85 @@
+package org.carlspring.strongbox.controllers;
+
+import org.carlspring.strongbox.config.IntegrationTest;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
+import org.carlspring.strongbox.providers.repository.RepositoryPathNegativeCache;
+import org.carlspring.strongbox.rest.common.MavenRestAssuredBaseTest;
+
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import static io.restassured.module.mockmvc.RestAssuredMockMvc.given;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@IntegrationTest
+@TestPropertySource(properties = "strongbox.negativeCache.enabled=true")
+public class NegativeCacheControllerTest
+        extends MavenRestAssuredBaseTest
+{
+
+    private static final String REPOSITORY_RELEASES = "releases";
+
+    private static final String STATISTICS_KEY = STORAGE0 + ":" + REPOSITORY_RELEASES;
+
+    @Inject
+    private RepositoryPathNegativeCache repositoryPathNegativeCache;
+
+    @Inject
+    private RepositoryPathResolver repositoryPathResolver;
+
+    @Override
+    @BeforeEach
+    public void init()
+            throws Exception
+    {
+        super.init();
+        setContextBaseUrl(getContextBaseUrl() + "/api/negative-cache");
+    }
+
+    @Test
+    public void testStatisticsAndInvalidate()
+            throws Exception
+    {
+        RepositoryPath repositoryPath = repositoryPathResolver.resolve(STORAGE0,
+                                                                       REPOSITORY_RELEASES,
+                                                                       "org/carlspring/strongbox/ncct/missing/1.0/missing-1.0.jar");
+
+        repositoryPathNegativeCache.putNotFound(repositoryPath);
+        repositoryPathNegativeCache.isNotFound(repositoryPath);
+
+        given().accept(MediaType.APPLICATION_JSON_VALUE)
+               .when()
+               .get(getContextBaseUrl())
+               .peek()
+               .then()
+               .statusCode(HttpStatus.OK.value())
+               .body("'" + STATISTICS_KEY + "'.hitCount", equalTo(1))
+               .body("'" + STATISTICS_KEY + "'.size", equalTo(1));
+
+        given().accept(MediaType.APPLICATION_JSON_VALUE)
+               .when()
+               .delete(getContextBaseUrl())
+               .peek()
+               .then()
+               .statusCode(HttpStatus.OK.value())
+               .body("message", equalTo("The cache was invalidated."));
+
+        assertFalse(repositoryPathNegativeCache.getStatistics().containsKey(STATISTICS_KEY));
+
+        given().accept(MediaType.APPLICATION_JSON_VALUE)
+               .when()
+               .get(getContextBaseUrl())
+               .peek()
+               .then()
+               .statusCode(HttpStatus.OK.value())
+               .body("'" + STATISTICS_KEY + "'", nullValue());
+    }
+
+}
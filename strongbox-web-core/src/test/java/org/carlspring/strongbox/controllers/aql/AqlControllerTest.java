@@ -21,6 +21,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import static io.restassured.module.mockmvc.RestAssuredMockMvc.given;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 /**
  * @author sbespalov
@@ -104,6 +105,39 @@ public class AqlControllerTest extends MavenRestAssuredBaseTest
                .body("artifact", Matchers.hasSize(4));
     }
 
+    @Test
+    public void testStreamSearchExcludeVersion()
+        throws Exception
+    {
+        String response = given().accept(AqlController.APPLICATION_NDJSON_VALUE)
+                                 .queryParam("query",
+                                             String.format("storage:%s+repository:%s+groupId:org.carlspring.strongbox.searches+!version:1.0.11.3.1",
+                                                           STORAGE_SC_TEST, REPOSITORY_RELEASES))
+                                 .when()
+                                 .get(getContextBaseUrl() + "/api/aql")
+                                 .then()
+                                 .statusCode(HttpStatus.OK.value())
+                                 .extract()
+                                 .asString();
+
+        // one result per line: 2xjar + 2xpom
+        assertEquals(4, response.trim().split("\n").length);
+    }
+
+    @Test
+    public void testStreamSearchWithSkip()
+        throws Exception
+    {
+        given().accept(AqlController.APPLICATION_NDJSON_VALUE)
+               .queryParam("query",
+                           String.format("storage:%s+repository:%s+groupId:org.carlspring.strongbox.searches+skip:2",
+                                         STORAGE_SC_TEST, REPOSITORY_RELEASES))
+               .when()
+               .get(getContextBaseUrl() + "/api/aql")
+               .then()
+               .statusCode(HttpStatus.BAD_REQUEST.value());
+    }
+
     @Test
     public void testBadAqlSyntaxRequest()
         throws Exception
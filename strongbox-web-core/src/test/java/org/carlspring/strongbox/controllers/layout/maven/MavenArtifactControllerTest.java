@@ -34,6 +34,7 @@ import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
 import java.io.*;
 import java.lang.reflect.UndeclaredThrowableException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -565,6 +566,106 @@ public class MavenArtifactControllerTest
         assertEquals(sha1Remote, sha1Local, "Glued partial fetches did not match SHA-1 checksum!");
     }
 
+    @Test
+    public void testFullAndRangeFetch()
+            throws Exception
+    {
+        String url = getContextBaseUrl() + "/storages/" + STORAGE0 + "/" + REPOSITORY_RELEASES1;
+        String pathToJar = "org/carlspring/strongbox/partial/partial-foo/3.2/partial-foo-3.2.jar";
+
+        byte[] expected = Files.readAllBytes(getRepositoryBasedir(STORAGE0, REPOSITORY_RELEASES1).toPath()
+                                                                                                 .resolve(pathToJar));
+        assertTrue(expected.length > 100);
+
+        byte[] body = given().when()
+                             .get(url + "/" + pathToJar)
+                             .then()
+                             .statusCode(HttpStatus.OK.value())
+                             .header("Content-Length", String.valueOf(expected.length))
+                             .extract()
+                             .asByteArray();
+
+        assertArrayEquals(expected, body, "The full body did not match the stored file!");
+
+        body = given().header("Range", "bytes=10-99")
+                      .when()
+                      .get(url + "/" + pathToJar)
+                      .then()
+                      .statusCode(HttpStatus.PARTIAL_CONTENT.value())
+                      .header("Content-Range", String.format("bytes 10-99/%s", expected.length))
+                      .header("Content-Length", "90")
+                      .extract()
+                      .asByteArray();
+
+        assertArrayEquals(Arrays.copyOfRange(expected, 10, 100), body, "The range did not match the stored file!");
+    }
+
+    @Test
+    public void testMultipleRangesFetch()
+            throws Exception
+    {
+        String url = getContextBaseUrl() + "/storages/" + STORAGE0 + "/" + REPOSITORY_RELEASES1;
+        String pathToJar = "org/carlspring/strongbox/partial/partial-foo/3.2/partial-foo-3.2.jar";
+
+        byte[] expected = Files.readAllBytes(getRepositoryBasedir(STORAGE0, REPOSITORY_RELEASES1).toPath()
+                                                                                                 .resolve(pathToJar));
+        assertTrue(expected.length > 100);
+
+        // The first two ranges overlap, so there should be two parts.
+        byte[] body = given().header("Range", "bytes=60-79,0-9,5-19")
+                             .when()
+                             .get(url + "/" + pathToJar)
+                             .then()
+                             .statusCode(HttpStatus.PARTIAL_CONTENT.value())
+                             .extract()
+                             .asByteArray();
+
+        String content = new String(body, StandardCharsets.ISO_8859_1);
+        String part1 = String.format("Content-Range: bytes 0-19/%s\r\n\r\n%s", expected.length,
+                                     new String(expected, 0, 20, StandardCharsets.ISO_8859_1));
+        String part2 = String.format("Content-Range: bytes 60-79/%s\r\n\r\n%s", expected.length,
+                                     new String(expected, 60, 20, StandardCharsets.ISO_8859_1));
+
+        assertTrue(content.contains(part1), "The first part did not match the stored file!");
+        assertTrue(content.contains(part2), "The second part did not match the stored file!");
+        assertTrue(content.indexOf(part1) < content.indexOf(part2), "The parts were not sorted!");
+        assertEquals(content.indexOf("Content-Range:", content.indexOf(part2) + 1), -1,
+                     "The overlapping ranges were not coalesced!");
+    }
+
+    @Test
+    public void testConditionalFetch()
+    {
+        String url = getContextBaseUrl() + "/storages/" + STORAGE0 + "/" + REPOSITORY_RELEASES1;
+        String artifactPath = url + "/org/carlspring/strongbox/partial/partial-foo/3.2/partial-foo-3.2.jar";
+
+        String etag = given().when()
+                             .get(artifactPath)
+                             .then()
+                             .statusCode(HttpStatus.OK.value())
+                             .extract()
+                             .header("ETag");
+
+        assertNotNull(etag);
+
+        byte[] body = given().header("If-None-Match", etag)
+                             .when()
+                             .get(artifactPath)
+                             .then()
+                             .statusCode(HttpStatus.NOT_MODIFIED.value())
+                             .header("ETag", etag)
+                             .extract()
+                             .asByteArray();
+
+        assertEquals(0, body.length, "The not modified response should have no body!");
+
+        given().header("If-None-Match", "\"other\"")
+               .when()
+               .get(artifactPath)
+               .then()
+               .statusCode(HttpStatus.OK.value());
+    }
+
     @Test
     public void testCopyArtifactFile()
             throws Exception
@@ -21,6 +21,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import static io.restassured.module.mockmvc.RestAssuredMockMvc.given;
 import static org.hamcrest.CoreMatchers.equalTo;
 
@@ -158,4 +160,80 @@ public class NpmArtifactControllerTest
                .header("Content-Length", equalTo(String.valueOf(Files.size(packagePath))));
     }
 
+    @Test
+    public void testPublishInvalidLength()
+        throws Exception
+    {
+        NpmArtifactCoordinates coordinates = NpmArtifactCoordinates.of("@carlspring/npm-test-length", "1.0.0");
+        Path publishJsonPath = packageGenerator.of(coordinates).buildPublishJson();
+        Path packagePath = packageGenerator.getPackagePath();
+
+        String url = contextBaseUrl + "/storages/" + STORAGE0 + "/" + REPOSITORY_RELEASES + "/";
+
+        given().header("User-Agent", "npm/*")
+               .header("Content-Type", "application/json")
+               .body(Files.readAllBytes(publishJsonPath))
+               .when()
+               .put(url + coordinates.getId())
+               .peek()
+               .then()
+               .statusCode(HttpStatus.OK.value());
+
+        ObjectMapper mapper = new ObjectMapper();
+        ObjectNode publishJson = (ObjectNode) mapper.readTree(publishJsonPath.toFile());
+        ObjectNode attachment = (ObjectNode) publishJson.get("_attachments").get(coordinates.toPath());
+        attachment.put("length", Files.size(packagePath) + 1);
+
+        given().header("User-Agent", "npm/*")
+               .header("Content-Type", "application/json")
+               .body(mapper.writeValueAsBytes(publishJson))
+               .when()
+               .put(url + coordinates.getId())
+               .peek()
+               .then()
+               .statusCode(HttpStatus.BAD_REQUEST.value());
+
+        // The previously published tarball should be kept.
+        given().header("User-Agent", "npm/*")
+               .when()
+               .get(url + coordinates.toResource())
+               .then()
+               .statusCode(HttpStatus.OK.value())
+               .assertThat()
+               .header("Content-Length", equalTo(String.valueOf(Files.size(packagePath))));
+    }
+
+    @Test
+    public void testPublishNameMismatch()
+        throws Exception
+    {
+        NpmArtifactCoordinates coordinates = NpmArtifactCoordinates.of("@carlspring/npm-test-mismatch", "1.0.0");
+        Path publishJsonPath = packageGenerator.of(coordinates).buildPublishJson();
+
+        NpmArtifactCoordinates otherCoordinates = NpmArtifactCoordinates.of("@carlspring/npm-test-other", "1.0.0");
+
+        String url = contextBaseUrl + "/storages/" + STORAGE0 + "/" + REPOSITORY_RELEASES + "/";
+
+        given().header("User-Agent", "npm/*")
+               .header("Content-Type", "application/json")
+               .body(Files.readAllBytes(publishJsonPath))
+               .when()
+               .put(url + otherCoordinates.getId())
+               .peek()
+               .then()
+               .statusCode(HttpStatus.BAD_REQUEST.value());
+
+        given().header("User-Agent", "npm/*")
+               .when()
+               .get(url + otherCoordinates.toResource())
+               .then()
+               .statusCode(HttpStatus.NOT_FOUND.value());
+
+        given().header("User-Agent", "npm/*")
+               .when()
+               .get(url + coordinates.toResource())
+               .then()
+               .statusCode(HttpStatus.NOT_FOUND.value());
+    }
+
 }
@@ -1,8 +1,11 @@
 package org.carlspring.strongbox.controllers.layout.nuget;
 
+import org.carlspring.strongbox.artifact.coordinates.PathNupkg;
 import org.carlspring.strongbox.config.IntegrationTest;
 import org.carlspring.strongbox.domain.ArtifactEntry;
 import org.carlspring.strongbox.domain.RemoteArtifactEntry;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
 import org.carlspring.strongbox.providers.layout.NugetLayoutProvider;
 import org.carlspring.strongbox.rest.common.NugetRestAssuredBaseTest;
 import org.carlspring.strongbox.services.ArtifactEntryService;
@@ -11,11 +14,14 @@ import org.carlspring.strongbox.storage.repository.NugetRepositoryFactory;
 import org.carlspring.strongbox.storage.repository.RepositoryPolicyEnum;
 
 import javax.inject.Inject;
+import java.io.ByteArrayOutputStream;
 import java.io.OutputStream;
 import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 
 import io.restassured.http.ContentType;
 import io.restassured.http.Header;
@@ -54,6 +60,9 @@ public class NugetArtifactControllerTest extends NugetRestAssuredBaseTest
     @Inject
     private ArtifactEntryService artifactEntryService;
 
+    @Inject
+    private RepositoryPathResolver repositoryPathResolver;
+
     @BeforeAll
     public static void cleanUp()
         throws Exception
@@ -382,6 +391,71 @@ public class NugetArtifactControllerTest extends NugetRestAssuredBaseTest
                .body("feed.entry[0].properties.Version", equalTo(packageVersion));
     }
 
+    @Test
+    public void testArtifactAttributes()
+        throws Exception
+    {
+        String packageId = "Org.Carlspring.Strongbox.Examples.Nuget.Mono.Attributes";
+        String packageVersion = "1.0.0";
+        Path packageFile = generatePackageFile(packageId, packageVersion, "Org.Carlspring.Strongbox.Dependency:1.0.0");
+        byte[] packageContent = readPackageContent(packageFile);
+
+        createPushRequest(packageContent).when()
+                                         .put(getContextBaseUrl() + "/storages/" + STORAGE_ID + "/" +
+                                              REPOSITORY_RELEASES_1 + "/")
+                                         .peek()
+                                         .then()
+                                         .statusCode(HttpStatus.CREATED.value());
+
+        String packagePath = String.format("%s/%s/%s.%s.nupkg", packageId, packageVersion, packageId, packageVersion);
+
+        // The attributes are extracted asynchronously.
+        Map<String, String> artifactAttributes = null;
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(30);
+        while (System.currentTimeMillis() < deadline)
+        {
+            ArtifactEntry artifactEntry = artifactEntryService.findOneArtifact(STORAGE_ID, REPOSITORY_RELEASES_1,
+                                                                               packagePath);
+            artifactAttributes = artifactEntry == null ? null : artifactEntry.getArtifactAttributes();
+            if (artifactAttributes != null && artifactAttributes.containsKey(PathNupkg.ATTRIBUTE_HASH))
+            {
+                break;
+            }
+
+            Thread.sleep(100);
+        }
+
+        assertNotNull(artifactAttributes);
+        assertEquals(packageId, artifactAttributes.get(PathNupkg.ATTRIBUTE_ID));
+        assertEquals("carlspring", artifactAttributes.get(PathNupkg.ATTRIBUTE_AUTHORS));
+        assertEquals("Strongbox Nuget package for tests", artifactAttributes.get(PathNupkg.ATTRIBUTE_DESCRIPTION));
+        assertNotNull(artifactAttributes.get(PathNupkg.ATTRIBUTE_DEPENDENCIES));
+
+        RepositoryPath checksumPath = repositoryPathResolver.resolve(STORAGE_ID, REPOSITORY_RELEASES_1,
+                                                                     packagePath + ".sha512");
+        assertEquals(new String(Files.readAllBytes(checksumPath), StandardCharsets.UTF_8).trim(),
+                     artifactAttributes.get(PathNupkg.ATTRIBUTE_HASH));
+
+        // The package should be rendered from the attributes, without the `.nuspec` file.
+        Files.delete(repositoryPathResolver.resolve(STORAGE_ID, REPOSITORY_RELEASES_1,
+                                                    String.format("%s/%s/%s.nuspec", packageId, packageVersion,
+                                                                  packageId)));
+
+        PathNupkg pathNupkg = new PathNupkg(repositoryPathResolver.resolve(STORAGE_ID, REPOSITORY_RELEASES_1,
+                                                                           packagePath));
+        assertEquals(packageId, pathNupkg.getNuspecFile().getMetadata().id);
+        assertEquals("carlspring", pathNupkg.getNuspecFile().getMetadata().authors);
+        assertEquals("https://www.apache.org/licenses/LICENSE-2.0", pathNupkg.getNuspecFile().getMetadata().licenseUrl);
+        assertEquals(1, pathNupkg.getNuspecFile().getMetadata().dependencies.dependencies.size());
+        assertEquals("Org.Carlspring.Strongbox.Dependency",
+                     pathNupkg.getNuspecFile().getMetadata().dependencies.dependencies.get(0).getId());
+
+        ByteArrayOutputStream hash = new ByteArrayOutputStream();
+        pathNupkg.getHash().saveTo(hash);
+        assertEquals(artifactAttributes.get(PathNupkg.ATTRIBUTE_HASH),
+                     new String(hash.toByteArray(), StandardCharsets.UTF_8).trim());
+    }
+
     public MockMvcRequestSpecification createPushRequest(byte[] packageContent)
     {
         return given().header("User-Agent", "NuGet/*")
@@ -0,0 +1,85 @@
+package org.carlspring.strongbox.utils;
+
+import org.carlspring.commons.http.range.ByteRangeHeaderParser;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ArtifactControllerHelperTest
+{
+
+    private static final long LENGTH = 100L;
+
+    @Test
+    public void testOverlappingRangesCoalesced()
+    {
+        List<long[]> ranges = coalesce("bytes=0-9,5-19,50-59");
+
+        assertEquals(2, ranges.size());
+        assertArrayEquals(new long[]{ 0, 19 }, ranges.get(0));
+        assertArrayEquals(new long[]{ 50, 59 }, ranges.get(1));
+    }
+
+    @Test
+    public void testAdjacentRangesCoalesced()
+    {
+        List<long[]> ranges = coalesce("bytes=10-19,0-9");
+
+        assertEquals(1, ranges.size());
+        assertArrayEquals(new long[]{ 0, 19 }, ranges.get(0));
+    }
+
+    @Test
+    public void testRangesSorted()
+    {
+        List<long[]> ranges = coalesce("bytes=50-59,0-9");
+
+        assertEquals(2, ranges.size());
+        assertArrayEquals(new long[]{ 0, 9 }, ranges.get(0));
+        assertArrayEquals(new long[]{ 50, 59 }, ranges.get(1));
+    }
+
+    @Test
+    public void testOpenEndedAndSuffixRanges()
+    {
+        List<long[]> ranges = coalesce("bytes=0-9,95-");
+
+        assertEquals(2, ranges.size());
+        assertArrayEquals(new long[]{ 95, 99 }, ranges.get(1));
+
+        ranges = coalesce("bytes=0-9,-5");
+
+        assertEquals(2, ranges.size());
+        assertArrayEquals(new long[]{ 95, 99 }, ranges.get(1));
+    }
+
+    @Test
+    public void testRangeTruncatedToLength()
+    {
+        List<long[]> ranges = coalesce("bytes=0-9,90-199");
+
+        assertEquals(2, ranges.size());
+        assertArrayEquals(new long[]{ 90, 99 }, ranges.get(1));
+    }
+
+    @Test
+    public void testUnsatisfiableRangesDropped()
+    {
+        List<long[]> ranges = coalesce("bytes=0-9,100-199");
+
+        assertEquals(1, ranges.size());
+        assertArrayEquals(new long[]{ 0, 9 }, ranges.get(0));
+
+        assertTrue(coalesce("bytes=100-109,200-209").isEmpty());
+    }
+
+    private List<long[]> coalesce(String header)
+    {
+        return ArtifactControllerHelper.coalesceRanges(new ByteRangeHeaderParser(header).getRanges(), LENGTH);
+    }
+
+}